@@ -16,14 +16,22 @@
 
 package com.epam.reportportal.karate;
 
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.config.PublishMode;
+import com.epam.reportportal.karate.importer.JunitXmlImportPublisher;
 import com.epam.reportportal.service.ReportPortal;
 import com.intuit.karate.Results;
 import com.intuit.karate.Runner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
 
 /**
  * Karate runner with ReportPortal integration
  */
 public class KarateReportPortalRunner {
+	private static final Logger LOGGER = LoggerFactory.getLogger(KarateReportPortalRunner.class);
 
 	/**
 	 * Create a new builder for the Karate runner with ReportPortal integration
@@ -44,6 +52,7 @@ public class KarateReportPortalRunner {
 	 */
 	public static class Builder<T extends Builder<T>> extends Runner.Builder<T> {
 		private ReportPortal rp;
+		private KarateParameters karateParameters;
 
 		/**
 		 * Create a new builder
@@ -63,6 +72,17 @@ public class KarateReportPortalRunner {
 			return this;
 		}
 
+		/**
+		 * Set Karate agent parameters to use
+		 *
+		 * @param parameters Karate agent parameters
+		 * @return the builder
+		 */
+		public Builder<T> withKarateParameters(KarateParameters parameters) {
+			karateParameters = parameters;
+			return this;
+		}
+
 		/**
 		 * Run the tests in parallel
 		 *
@@ -74,7 +94,23 @@ public class KarateReportPortalRunner {
 			if (rp == null) {
 				rp = ReportPortal.builder().build();
 			}
-			ReportPortalPublisher reporter = new ReportPortalPublisher(rp);
+			if (karateParameters == null) {
+				karateParameters = KarateParameters.load();
+			}
+			if (karateParameters.getPublishMode() == PublishMode.JUNIT_IMPORT) {
+				Results results = super.parallel(threadCount);
+				if (!Boolean.TRUE.equals(rp.getParameters().getEnable())) {
+					return results;
+				}
+				// The tests are over, an import failure should not fail the run
+				try {
+					LOGGER.info("ReportPortal Launch import: {}", new JunitXmlImportPublisher(rp.getParameters()).publish(results));
+				} catch (IOException | RuntimeException e) {
+					LOGGER.error("Unable to import results to ReportPortal", e);
+				}
+				return results;
+			}
+			ReportPortalPublisher reporter = new ReportPortalPublisher(rp, karateParameters);
 			reporter.startLaunch();
 			Results results = super.parallel(threadCount);
 			results.getFeatureResults().forEach(f -> {
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate;
+
+/**
+ * Result of a Launch finish with a time budget.
+ */
+public enum LaunchFinishStatus {
+	/**
+	 * The Launch and all its items are finished.
+	 */
+	FINISHED,
+	/**
+	 * The Launch was not finished within the time budget, it continues finishing in background.
+	 */
+	TIMED_OUT,
+	/**
+	 * The Launch finish failed.
+	 */
+	FAILED
+}
@@ -16,6 +16,17 @@
 
 package com.epam.reportportal.karate;
 
+import com.epam.reportportal.karate.attachment.Attachment;
+import com.epam.reportportal.karate.attachment.AttachmentManager;
+import com.epam.reportportal.karate.client.ClientDecorators;
+import com.epam.reportportal.karate.client.RequestJournal;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.http.EndpointStats;
+import com.epam.reportportal.karate.http.HarWriter;
+import com.epam.reportportal.karate.http.HttpCallGroup;
+import com.epam.reportportal.karate.http.HttpCaptor;
+import com.epam.reportportal.karate.http.HttpExchange;
+import com.epam.reportportal.karate.http.HttpMetrics;
 import com.epam.reportportal.karate.utils.BlockingConcurrentHashMap;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ItemType;
@@ -30,7 +41,9 @@ import com.epam.reportportal.utils.reflect.Accessible;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.intuit.karate.RuntimeHook;
 import com.intuit.karate.Suite;
 import com.intuit.karate.core.*;
@@ -43,6 +56,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,7 +78,22 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 public class ReportPortalHook implements RuntimeHook {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReportPortalHook.class);
+	private static final Duration ATTACHMENT_UPLOAD_TIMEOUT = Duration.ofMinutes(5);
+	private static final String HTTP_METRICS_MESSAGE_PATTERN = "HTTP endpoint metrics: %d endpoint(s), %d call(s)";
+	private static final String HTTP_METRICS_FILE_NAME = "http-metrics.csv";
+	private static final String HTTP_METRICS_CONTENT_TYPE = "text/csv";
+	private static final String HAR_FILE_NAME = "http.har";
+	private static final String HAR_CONTENT_TYPE = "application/json";
+	private static final String HAR_MESSAGE_PATTERN = "HTTP archive, %d call(s)";
+	private static final String HTTP_LOG_FILE_NAME = "http.txt";
+	private static final String HTTP_LOG_CONTENT_TYPE = "text/plain";
+	private static final String HTTP_LOG_MESSAGE_PATTERN = "HTTP %s %s";
 	protected final MemoizingSupplier<Launch> launch;
+	protected final KarateParameters karateParameters;
+	protected final AttachmentManager attachmentManager;
+	protected final HttpCaptor httpCaptor;
+	protected final HttpMetrics httpMetrics;
+	protected final RequestJournal requestJournal;
 	private final BlockingConcurrentHashMap<String, Supplier<Maybe<String>>> featureIdMap = new BlockingConcurrentHashMap<>();
 	private final Map<String, Maybe<String>> scenarioIdMap = new ConcurrentHashMap<>();
 	private final Map<String, Maybe<String>> backgroundIdMap = new ConcurrentHashMap<>();
@@ -67,7 +101,10 @@ public class ReportPortalHook implements RuntimeHook {
 	private final Map<String, Maybe<String>> stepIdMap = new ConcurrentHashMap<>();
 	private final Map<String, Instant> stepStartTimeMap = new ConcurrentHashMap<>();
 	private final Set<Maybe<String>> innerFeatures = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final Map<String, HarWriter> harWriterMap = new ConcurrentHashMap<>();
+	private final Map<String, HttpCallGroup> httpCallGroupMap = new ConcurrentHashMap<>();
 	private volatile Thread shutDownHook;
+	private volatile LaunchFinishStatus launchFinishStatus;
 
 	/**
 	 * Create a new instance of the ReportPortalHook with the specified ReportPortal instance.
@@ -75,15 +112,33 @@ public class ReportPortalHook implements RuntimeHook {
 	 * @param reportPortal the ReportPortal instance
 	 */
 	public ReportPortalHook(ReportPortal reportPortal) {
-		ListenerParameters params = reportPortal.getParameters();
+		this(reportPortal, KarateParameters.load());
+	}
+
+	/**
+	 * Create a new instance of the ReportPortalHook with the specified ReportPortal instance and Karate agent parameters.
+	 *
+	 * @param reportPortal     the ReportPortal instance
+	 * @param karateParameters Karate agent parameters
+	 */
+	public ReportPortalHook(ReportPortal reportPortal, KarateParameters karateParameters) {
+		this.karateParameters = karateParameters;
+		requestJournal = ClientDecorators.createJournal(karateParameters);
+		ReportPortal rp = ClientDecorators.decorate(reportPortal, karateParameters, requestJournal);
+		ListenerParameters params = rp.getParameters();
 		StartLaunchRQ rq = buildStartLaunchRq(params);
 		launch = new MemoizingSupplier<>(() -> {
-			Launch newLaunch = reportPortal.newLaunch(rq);
+			Launch newLaunch = rp.newLaunch(rq);
 			//noinspection ReactiveStreamsUnusedPublisher
 			newLaunch.start();
-			shutDownHook = registerShutdownHook(this::finishLaunch);
+			shutDownHook = registerShutdownHook(this::finishLaunchOnShutdown);
 			return newLaunch;
 		});
+		attachmentManager = new AttachmentManager(launch, rp.getClient(), karateParameters);
+		httpCaptor = karateParameters.isHttpLog() || karateParameters.isHttpMetrics() || karateParameters.isHttpHar() ?
+				new HttpCaptor(karateParameters) :
+				null;
+		httpMetrics = karateParameters.isHttpMetrics() ? new HttpMetrics() : null;
 	}
 
 	/**
@@ -96,7 +151,49 @@ public class ReportPortalHook implements RuntimeHook {
 
 	@SuppressWarnings("unused")
 	public ReportPortalHook(Supplier<Launch> launchSupplier) {
+		this(launchSupplier, KarateParameters.load());
+	}
+
+	/**
+	 * Create a new instance of the ReportPortalHook with the specified Launch supplier and Karate agent parameters.
+	 *
+	 * @param launchSupplier   Launch instance supplier
+	 * @param karateParameters Karate agent parameters
+	 */
+	public ReportPortalHook(Supplier<Launch> launchSupplier, KarateParameters karateParameters) {
+		this.karateParameters = karateParameters;
 		launch = new MemoizingSupplier<>(launchSupplier);
+		requestJournal = null;
+		attachmentManager = new AttachmentManager(launch, null, karateParameters);
+		httpCaptor = karateParameters.isHttpLog() || karateParameters.isHttpMetrics() || karateParameters.isHttpHar() ?
+				new HttpCaptor(karateParameters) :
+				null;
+		httpMetrics = karateParameters.isHttpMetrics() ? new HttpMetrics() : null;
+	}
+
+	/**
+	 * Send per-endpoint HTTP statistics to ReportPortal as a Launch-level CSV attachment.
+	 *
+	 * @param metrics statistics by endpoint
+	 */
+	protected void sendHttpMetrics(@Nonnull Map<String, EndpointStats> metrics) {
+		if (metrics.isEmpty()) {
+			return;
+		}
+		long calls = metrics.values().stream().mapToLong(EndpointStats::getCount).sum();
+		launch.get().log(launchUuid -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setLaunchUuid(launchUuid);
+			rq.setLevel(LogLevel.INFO.name());
+			rq.setLogTime(Instant.now());
+			rq.setMessage(String.format(HTTP_METRICS_MESSAGE_PATTERN, metrics.size(), calls));
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(HTTP_METRICS_FILE_NAME);
+			file.setContentType(HTTP_METRICS_CONTENT_TYPE);
+			file.setContent(HttpMetrics.toCsv(metrics).getBytes(StandardCharsets.UTF_8));
+			rq.setFile(file);
+			return rq;
+		});
 	}
 
 	/**
@@ -121,10 +218,50 @@ public class ReportPortalHook implements RuntimeHook {
 	}
 
 	/**
-	 * Finish sending Launch data to ReportPortal.
+	 * Finish sending Launch data to ReportPortal within {@link KarateParameters#getFinishTimeout()}. Requests which were not confirmed in
+	 * time are saved to {@link KarateParameters#getSpoolDirectory()}. The result is available with {@link #getLaunchFinishStatus()}.
 	 */
 	public void finishLaunch() {
-		ReportPortalUtils.doFinishLaunch(launch.get(), buildFinishLaunchRq(launch.get().getParameters()), shutDownHook);
+		finishLaunch(Duration.ofMillis(karateParameters.getFinishTimeout()));
+	}
+
+	/**
+	 * Finish sending Launch data to ReportPortal from the JVM shutdown hook within {@link KarateParameters#getShutdownTimeout()}.
+	 * Requests which were not confirmed in time are saved to {@link KarateParameters#getSpoolDirectory()}.
+	 */
+	public void finishLaunchOnShutdown() {
+		long timeout = karateParameters.getShutdownTimeout() > 0 ?
+				karateParameters.getShutdownTimeout() :
+				karateParameters.getFinishTimeout();
+		finishLaunch(Duration.ofMillis(timeout));
+	}
+
+	/**
+	 * Get the result of the last Launch finish.
+	 *
+	 * @return finish status or null if the Launch was not finished yet
+	 */
+	@Nullable
+	public LaunchFinishStatus getLaunchFinishStatus() {
+		return launchFinishStatus;
+	}
+
+	private void finishLaunch(@Nonnull Duration budget) {
+		// The shutdown hook repeats the call if the Launch is still finishing in background, metrics are already sent then
+		if (httpMetrics != null && launchFinishStatus == null) {
+			sendHttpMetrics(httpMetrics.merge());
+		}
+		Instant start = Instant.now();
+		attachmentManager.finish(limitTimeout(ATTACHMENT_UPLOAD_TIMEOUT, budget));
+		LaunchFinishStatus status = ReportPortalUtils.finishLaunch(
+				launch.get(),
+				buildFinishLaunchRq(launch.get().getParameters()),
+				shutDownHook,
+				getRemainingTimeout(budget, start),
+				requestJournal
+		);
+		finishJournal(requestJournal);
+		launchFinishStatus = status;
 	}
 
 	/**
@@ -204,8 +341,17 @@ public class ReportPortalHook implements RuntimeHook {
 			LOGGER.error("ERROR: Trying to finish unspecified feature.");
 		}
 		optionalId.ifPresent(featureId -> {
+			FinishTestItemRQ rq = buildFinishFeatureRq(fr);
+			if (httpMetrics != null) {
+				Set<ItemAttributesRQ> attributes = httpMetrics.finishFeature(getFeatureNameForReport(fr));
+				if (!attributes.isEmpty()) {
+					Set<ItemAttributesRQ> allAttributes = new LinkedHashSet<>(ofNullable(rq.getAttributes()).orElse(Collections.emptySet()));
+					allAttributes.addAll(attributes);
+					rq.setAttributes(allAttributes);
+				}
+			}
 			//noinspection ReactiveStreamsUnusedPublisher
-			launch.get().finishTestItem(featureId, buildFinishFeatureRq(fr));
+			launch.get().finishTestItem(featureId, rq);
 			innerFeatures.remove(featureId);
 		});
 	}
@@ -326,7 +472,7 @@ public class ReportPortalHook implements RuntimeHook {
 	 * @param embed  Karate's Embed object
 	 */
 	protected void embedAttachment(@Nonnull Maybe<String> itemId, @Nonnull Embed embed) {
-		ReportPortalUtils.embedAttachment(itemId, embed);
+		attachmentManager.embed(itemId, embed);
 	}
 
 	/**
@@ -339,27 +485,47 @@ public class ReportPortalHook implements RuntimeHook {
 		ofNullable(embeddedEntities).ifPresent(embeds -> embeds.forEach(embed -> embedAttachment(itemId, embed)));
 	}
 
+	/**
+	 * Embed Scenario attachments to ReportPortal. Attachments are added to the Scenario bundle if bundling is enabled, attachments of a
+	 * failed Scenario are marked as failure evidence, so they are not downscaled and are not deferred.
+	 *
+	 * @param itemId           item ID future
+	 * @param embeddedEntities a list of Karate's Embed object
+	 * @param sr               Karate's ScenarioRuntime object instance
+	 */
+	protected void embedAttachments(@Nonnull Maybe<String> itemId, @Nullable List<Embed> embeddedEntities, @Nonnull ScenarioRuntime sr) {
+		String scenarioKey = sr.scenario.getUniqueId();
+		boolean failure = sr.result.isFailed();
+		ofNullable(embeddedEntities).ifPresent(embeds -> embeds.forEach(embed -> attachmentManager.embed(itemId, embed, scenarioKey, failure)));
+	}
+
 	@Override
 	public void afterScenario(ScenarioRuntime sr) {
 		Maybe<String> scenarioId = scenarioIdMap.get(sr.scenario.getUniqueId());
 		stepStartTimeMap.remove(sr.scenario.getUniqueId());
+		flushHttpLog(sr);
 		finishBackground(null, sr);
 
 		if (scenarioId == null) {
 			LOGGER.error("ERROR: Trying to finish unspecified scenario.");
+			ofNullable(harWriterMap.remove(sr.scenario.getUniqueId())).ifPresent(HarWriter::close);
 			return;
 		}
 
 		try {
 			@SuppressWarnings("unchecked")
 			List<Embed> embeddedEntities = (List<Embed>) new Accessible(sr).field("embeds").getValue();
-			embedAttachments(scenarioId, embeddedEntities);
+			embedAttachments(scenarioId, embeddedEntities, sr);
 		} catch (Exception e) {
 			LOGGER.warn(
 					"Unable to retrieve scenario embeddings; attachments (such as screenshots or logs) will not be reported for this" //
 							+ " scenario. Test execution and reporting will continue. Exception details:", e
 			);
 		}
+		attachHar(scenarioId, sr);
+		boolean failed = sr.result.isFailed();
+		attachmentManager.finishBundle(sr.scenario.getUniqueId(), scenarioId, failed);
+		attachmentManager.finishScenario(sr.scenario.getUniqueId(), failed);
 
 		FinishTestItemRQ rq = buildFinishScenarioRq(sr);
 		//noinspection ReactiveStreamsUnusedPublisher
@@ -394,14 +560,33 @@ public class ReportPortalHook implements RuntimeHook {
 	}
 
 	/**
-	 * Send Step logs to ReportPortal.
+	 * Check if a log message with the given level should be reported for the Scenario. Call it before building the message, so
+	 * filtered messages cost nothing.
+	 *
+	 * @param level log message level
+	 * @param sr    Karate's ScenarioRuntime object instance
+	 * @return true if the message should be reported, false otherwise
+	 */
+	protected boolean isLogEnabled(@Nonnull LogLevel level, @Nonnull ScenarioRuntime sr) {
+		return isLogLevelEnabled(level, getLogLevel(sr.scenario, karateParameters.getLogLevel()));
+	}
+
+	/**
+	 * Send Step logs to ReportPortal. Messages larger than configured maximum size are split into parts or compressed.
 	 *
 	 * @param itemId  item ID future
 	 * @param message log message to send
 	 * @param level   log level
 	 */
 	protected void sendLog(Maybe<String> itemId, String message, LogLevel level) {
-		ReportPortalUtils.sendLog(itemId, message, level);
+		ReportPortalUtils.sendLog(
+				itemId,
+				message,
+				level,
+				Instant.now(),
+				karateParameters.getLogMaxSize(),
+				karateParameters.getLogOversizeMode()
+		);
 	}
 
 	@Override
@@ -416,6 +601,9 @@ public class ReportPortalHook implements RuntimeHook {
 		String scenarioId = sr.scenario.getUniqueId();
 		Maybe<String> stepId = launch.get().startTestItem(background ? backgroundId : scenarioIdMap.get(scenarioId), stepRq);
 		stepIdMap.put(scenarioId, stepId);
+		if (!isLogEnabled(LogLevel.INFO, sr)) {
+			return true;
+		}
 		ofNullable(stepRq.getParameters()).filter(params -> !params.isEmpty())
 				.ifPresent(params -> sendLog(stepId, String.format(PARAMETERS_PATTERN, formatParametersAsTable(params)), LogLevel.INFO));
 		ofNullable(step.getTable()).ifPresent(table -> sendLog(stepId, "Table:\n\n" + formatDataTable(table.getRows()), LogLevel.INFO));
@@ -437,9 +625,10 @@ public class ReportPortalHook implements RuntimeHook {
 		Step step = stepResult.getStep();
 		Result result = stepResult.getResult();
 
-		ofNullable(stepResult.getEmbeds()).ifPresent(embeds -> embeds.forEach(embed -> embedAttachment(stepId, embed)));
+		flushHttpLog(sr);
+		embedAttachments(stepId, stepResult.getEmbeds(), sr);
 
-		if (result.isFailed()) {
+		if (result.isFailed() && isLogEnabled(LogLevel.ERROR, sr)) {
 			String fullErrorMessage = step.getPrefix() + " " + step.getText();
 			String errorMessage = result.getErrorMessage();
 			if (isNotBlank(errorMessage)) {
@@ -496,19 +685,171 @@ public class ReportPortalHook implements RuntimeHook {
 
 	@Override
 	public void beforeHttpCall(HttpRequest request, ScenarioRuntime sr) {
-		// TODO: Implement better HTTP request logging later
-		RuntimeHook.super.beforeHttpCall(request, sr);
+		if (httpCaptor == null) {
+			return;
+		}
+		httpCaptor.start(sr.scenario.getUniqueId());
+	}
+
+	/**
+	 * Send a captured HTTP call to ReportPortal. The log message is formatted only when the log request is being built.
+	 *
+	 * @param itemId   item ID future
+	 * @param exchange captured HTTP call
+	 */
+	protected void sendHttpLog(@Nonnull Maybe<String> itemId, @Nonnull HttpExchange exchange) {
+		sendHttpLog(new HttpCallGroup(itemId, exchange));
+	}
+
+	/**
+	 * Send a group of repeated HTTP calls to ReportPortal as a single log: a summary of all attempts and the last call.
+	 *
+	 * @param group group of captured HTTP calls
+	 */
+	protected void sendHttpLog(@Nonnull HttpCallGroup group) {
+		HttpCaptor captor = httpCaptor;
+		if (captor == null) {
+			return;
+		}
+		if (captor.isOffloaded(group.getLast()) && attachHttpLog(captor, group)) {
+			return;
+		}
+		ReportPortal.emitLog(
+				group.getItemId(), id -> {
+					SaveLogRQ rq = new SaveLogRQ();
+					rq.setMessage(captor.format(group));
+					rq.setItemUuid(id);
+					rq.setLevel(LogLevel.INFO.name());
+					rq.setLogTime(group.getStartTime());
+					return rq;
+				}
+		);
+	}
+
+	/**
+	 * Report an HTTP call log with heavy bodies as an attachment, so it is offloaded to the blob store like other attachments.
+	 *
+	 * @param captor HTTP call captor
+	 * @param group  group of captured HTTP calls
+	 * @return true if the log was attached, false if it should be sent as a usual log
+	 */
+	private boolean attachHttpLog(@Nonnull HttpCaptor captor, @Nonnull HttpCallGroup group) {
+		HttpExchange last = group.getLast();
+		try {
+			File file = Files.createTempFile("rp-karate-", ".txt").toFile();
+			Files.write(file.toPath(), captor.format(group, true).getBytes(StandardCharsets.UTF_8));
+			attachmentManager.attach(group.getItemId(), new Attachment(
+					file,
+					HTTP_LOG_FILE_NAME,
+					HTTP_LOG_CONTENT_TYPE,
+					String.format(HTTP_LOG_MESSAGE_PATTERN, last.getMethod(), last.getUrl()),
+					LogLevel.INFO,
+					group.getStartTime(),
+					true
+			));
+			return true;
+		} catch (IOException e) {
+			LOGGER.warn("Unable to write HTTP call log to a file, sending it as a log", e);
+			return false;
+		}
+	}
+
+	private void flushHttpLog(@Nonnull ScenarioRuntime sr) {
+		ofNullable(httpCallGroupMap.remove(sr.scenario.getUniqueId())).ifPresent(this::sendHttpLog);
+	}
+
+	private void writeHar(@Nonnull ScenarioRuntime sr, @Nonnull HttpExchange exchange) {
+		String scenarioId = sr.scenario.getUniqueId();
+		try {
+			HarWriter writer = harWriterMap.computeIfAbsent(scenarioId, key -> {
+				try {
+					return new HarWriter(httpCaptor);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			writer.write(exchange);
+		} catch (IOException | UncheckedIOException e) {
+			LOGGER.warn("Unable to write HTTP call to HAR file: {} {}", exchange.getMethod(), exchange.getUrl(), e);
+			ofNullable(harWriterMap.remove(scenarioId)).ifPresent(HarWriter::close);
+		}
+	}
+
+	/**
+	 * Attach HAR file with HTTP calls of a Scenario to ReportPortal. Does nothing if the Scenario made no HTTP calls.
+	 *
+	 * @param itemId Scenario item ID future
+	 * @param sr     Karate's ScenarioRuntime object instance
+	 */
+	protected void attachHar(@Nonnull Maybe<String> itemId, @Nonnull ScenarioRuntime sr) {
+		HarWriter writer = harWriterMap.remove(sr.scenario.getUniqueId());
+		if (writer == null) {
+			return;
+		}
+		int entries = writer.getEntries();
+		File file = writer.finish();
+		if (file == null) {
+			return;
+		}
+		attachmentManager.attach(itemId, new Attachment(
+				file,
+				HAR_FILE_NAME,
+				HAR_CONTENT_TYPE,
+				String.format(HAR_MESSAGE_PATTERN, entries),
+				LogLevel.INFO,
+				Instant.now(),
+				true,
+				sr.result.isFailed()
+		));
 	}
 
 	@Override
 	public void afterHttpCall(HttpRequest request, Response response, ScenarioRuntime sr) {
-		// TODO: Implement better HTTP response logging later
-		RuntimeHook.super.afterHttpCall(request, response, sr);
+		if (httpCaptor == null) {
+			return;
+		}
+		HttpExchange exchange = httpCaptor.finish(sr.scenario.getUniqueId(), request, response);
+		if (httpMetrics != null) {
+			httpMetrics.record(getFeatureNameForReport(sr.featureRuntime), exchange);
+		}
+		if (karateParameters.isHttpHar()) {
+			writeHar(sr, exchange);
+		}
+		if (!karateParameters.isHttpLog() || !isLogEnabled(LogLevel.INFO, sr)) {
+			return;
+		}
+		Maybe<String> stepId = stepIdMap.get(sr.scenario.getUniqueId());
+		if (stepId == null) {
+			LOGGER.debug("Unable to report HTTP call outside of a step: {} {}", exchange.getMethod(), exchange.getUrl());
+			return;
+		}
+		if (!karateParameters.isHttpLogAggregate()) {
+			sendHttpLog(stepId, exchange);
+			return;
+		}
+		String scenarioId = sr.scenario.getUniqueId();
+		HttpCallGroup group = httpCallGroupMap.get(scenarioId);
+		if (group != null && group.add(stepId, exchange)) {
+			return;
+		}
+		if (group != null) {
+			sendHttpLog(group);
+		}
+		httpCallGroupMap.put(scenarioId, new HttpCallGroup(stepId, exchange));
 	}
 
+	/**
+	 * Start the Launch in background while Karate prepares the Suite, so the first Feature does not wait for the connection to
+	 * ReportPortal. Nothing is started for a Suite without Features. Suite items are not reported, since there is no Suite names in
+	 * Karate.
+	 *
+	 * @param suite Karate's Suite object instance
+	 */
 	@Override
 	public void beforeSuite(Suite suite) {
-		// Omit Suite logic, since there is no Suite names in Karate
+		if (karateParameters.isLaunchStartAsync() && (suite == null || suite.featuresFound > 0)) {
+			startLaunchAsync(launch);
+		}
 	}
 
 	@Override
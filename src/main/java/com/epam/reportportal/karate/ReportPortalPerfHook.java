@@ -0,0 +1,289 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate;
+
+import com.epam.reportportal.karate.client.ClientDecorators;
+import com.epam.reportportal.karate.client.RequestJournal;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.http.EndpointStats;
+import com.epam.reportportal.karate.http.HttpMetrics;
+import com.epam.reportportal.karate.http.LatencyHistogram;
+import com.epam.reportportal.karate.http.StripedStats;
+import com.epam.reportportal.karate.perf.PerfEventRecorder;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.utils.MemoizingSupplier;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.PerfHook;
+import com.intuit.karate.RuntimeHook;
+import com.intuit.karate.core.ScenarioRuntime;
+import com.intuit.karate.http.HttpRequest;
+import com.intuit.karate.http.Response;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.epam.reportportal.karate.ReportPortalUtils.*;
+import static com.epam.reportportal.karate.http.HttpMetrics.toMillis;
+import static com.epam.reportportal.utils.formatting.MarkdownUtils.formatDataTable;
+import static java.util.Optional.ofNullable;
+
+/**
+ * ReportPortal hook for performance tests, e.g. run by karate-gatling, where every Scenario is executed thousands of times. The hook
+ * reports no per-iteration items. Instead, it aggregates Scenario durations and HTTP request latencies in memory and publishes a compact
+ * summary tree when {@link #finishLaunch()} is called: "Scenarios" and "Requests" suites with an item per Scenario and per request.
+ */
+public class ReportPortalPerfHook implements RuntimeHook {
+	public static final String SCENARIOS_SUITE = "Scenarios";
+	public static final String REQUESTS_SUITE = "Requests";
+	public static final String ATTRIBUTE_PREFIX = "perf.";
+	private static final String SUMMARY_FILE_PATTERN = "%s.csv";
+	private static final String SUMMARY_CONTENT_TYPE = "text/csv";
+	private static final List<String> SUMMARY_HEADER = Arrays.asList(
+			"Calls",
+			"Errors",
+			"p50, ms",
+			"p95, ms",
+			"p99, ms",
+			"Max, ms",
+			"Throughput, rps"
+	);
+
+	protected final MemoizingSupplier<Launch> launch;
+	protected final KarateParameters karateParameters;
+	protected final RequestJournal requestJournal;
+	private final StripedStats scenarios = new StripedStats();
+	private final StripedStats requests = new StripedStats();
+	private final Map<ScenarioRuntime, Long> scenarioStartTimes = new ConcurrentHashMap<>();
+	private final Map<ScenarioRuntime, Long> httpStartTimes = new ConcurrentHashMap<>();
+	private volatile boolean perfEvents;
+	private volatile LaunchFinishStatus launchFinishStatus;
+
+	/**
+	 * Create a new instance of the ReportPortalPerfHook with the specified ReportPortal instance and Karate agent parameters.
+	 *
+	 * @param reportPortal     the ReportPortal instance
+	 * @param karateParameters Karate agent parameters
+	 */
+	public ReportPortalPerfHook(ReportPortal reportPortal, KarateParameters karateParameters) {
+		this.karateParameters = karateParameters;
+		requestJournal = ClientDecorators.createJournal(karateParameters);
+		ReportPortal rp = ClientDecorators.decorate(reportPortal, karateParameters, requestJournal);
+		launch = new MemoizingSupplier<>(() -> {
+			Launch newLaunch = rp.newLaunch(buildStartLaunchRq(rp.getParameters()));
+			//noinspection ReactiveStreamsUnusedPublisher
+			newLaunch.start();
+			return newLaunch;
+		});
+	}
+
+	/**
+	 * Create a new instance of the ReportPortalPerfHook with the specified ReportPortal instance.
+	 *
+	 * @param reportPortal the ReportPortal instance
+	 */
+	public ReportPortalPerfHook(ReportPortal reportPortal) {
+		this(reportPortal, KarateParameters.load());
+	}
+
+	/**
+	 * Default constructor. Create a new instance of the ReportPortalPerfHook with default ReportPortal instance.
+	 */
+	@SuppressWarnings("unused")
+	public ReportPortalPerfHook() {
+		this(ReportPortal.builder().build());
+	}
+
+	/**
+	 * Create a new instance of the ReportPortalPerfHook with the specified Launch supplier and Karate agent parameters.
+	 *
+	 * @param launchSupplier   Launch instance supplier
+	 * @param karateParameters Karate agent parameters
+	 */
+	public ReportPortalPerfHook(Supplier<Launch> launchSupplier, KarateParameters karateParameters) {
+		this.karateParameters = karateParameters;
+		launch = new MemoizingSupplier<>(launchSupplier);
+		requestJournal = null;
+	}
+
+	/**
+	 * Wrap Karate performance hook to record requests from its performance events instead of HTTP calls. Use it if the runner reports
+	 * performance events under custom names, e.g. karate-gatling with named requests.
+	 *
+	 * @param perfHook original performance hook
+	 * @return performance hook which records events and passes them to the original one
+	 */
+	@Nonnull
+	public PerfHook wrap(@Nonnull PerfHook perfHook) {
+		perfEvents = true;
+		return new PerfEventRecorder(perfHook, requests);
+	}
+
+	@Nonnull
+	private static String getScenarioName(@Nonnull ScenarioRuntime sr) {
+		return sr.featureRuntime.featureCall.feature.getNameForReport() + " / " + sr.scenario.getName();
+	}
+
+	@Override
+	public boolean beforeScenario(ScenarioRuntime sr) {
+		scenarioStartTimes.put(sr, System.nanoTime());
+		return true;
+	}
+
+	@Override
+	public void afterScenario(ScenarioRuntime sr) {
+		Long start = scenarioStartTimes.remove(sr);
+		if (start == null || ofNullable(sr.featureRuntime.caller).map(c -> c.depth).orElse(0) > 0) {
+			return;
+		}
+		long duration = (System.nanoTime() - start) / 1000;
+		long end = System.currentTimeMillis();
+		scenarios.get(getScenarioName(sr)).record(end - duration / 1000, end, duration, sr.result.isFailed());
+	}
+
+	@Override
+	public void beforeHttpCall(HttpRequest request, ScenarioRuntime sr) {
+		if (!perfEvents) {
+			httpStartTimes.put(sr, System.nanoTime());
+		}
+	}
+
+	@Override
+	public void afterHttpCall(HttpRequest request, Response response, ScenarioRuntime sr) {
+		Long start = httpStartTimes.remove(sr);
+		if (start == null) {
+			return;
+		}
+		long duration = (System.nanoTime() - start) / 1000;
+		long end = System.currentTimeMillis();
+		String name = HttpMetrics.getEndpoint(String.valueOf(request.getMethod()), String.valueOf(request.getUrl()));
+		requests.get(name).record(end - duration / 1000, end, duration, response.getStatus() >= 400);
+	}
+
+	/**
+	 * Customize start launch event/request
+	 *
+	 * @param parameters Launch configuration parameters
+	 * @return request to ReportPortal
+	 */
+	protected StartLaunchRQ buildStartLaunchRq(ListenerParameters parameters) {
+		return ReportPortalUtils.buildStartLaunchRq(parameters);
+	}
+
+	/**
+	 * Build a summary table of statistics.
+	 *
+	 * @param stats statistics to format
+	 * @return markdown table
+	 */
+	@Nonnull
+	protected String buildSummary(@Nonnull EndpointStats stats) {
+		LatencyHistogram latency = stats.getLatency();
+		List<String> values = Arrays.asList(
+				String.valueOf(stats.getCount()),
+				String.valueOf(stats.getErrors()),
+				toMillis(latency.getPercentile(50)),
+				toMillis(latency.getPercentile(95)),
+				toMillis(latency.getPercentile(99)),
+				toMillis(latency.getMax()),
+				String.format(Locale.ROOT, "%.2f", stats.getThroughput())
+		);
+		return formatDataTable(Arrays.asList(SUMMARY_HEADER, values));
+	}
+
+	private void reportSuite(@Nonnull String name, @Nonnull Map<String, EndpointStats> statistics) {
+		if (statistics.isEmpty()) {
+			return;
+		}
+		Launch myLaunch = launch.get();
+		Maybe<String> suiteId = myLaunch.startTestItem(buildStartTestItemRq(name, Instant.now(), ItemType.SUITE));
+		ItemStatus suiteStatus = ItemStatus.PASSED;
+		for (Map.Entry<String, EndpointStats> entry : statistics.entrySet()) {
+			EndpointStats stats = entry.getValue();
+			StartTestItemRQ rq = buildStartTestItemRq(entry.getKey(), Instant.now(), ItemType.STEP);
+			rq.setDescription(buildSummary(stats));
+			rq.setAttributes(HttpMetrics.toAttributes(ATTRIBUTE_PREFIX, stats));
+			Maybe<String> itemId = myLaunch.startTestItem(suiteId, rq);
+			ItemStatus status = stats.getErrors() > 0 ? ItemStatus.FAILED : ItemStatus.PASSED;
+			if (status == ItemStatus.FAILED) {
+				suiteStatus = ItemStatus.FAILED;
+			}
+			//noinspection ReactiveStreamsUnusedPublisher
+			myLaunch.finishTestItem(itemId, buildFinishTestItemRq(Instant.now(), status));
+		}
+		String csv = HttpMetrics.toCsv(statistics);
+		myLaunch.log(suiteId, id -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid(id);
+			rq.setLevel(LogLevel.INFO.name());
+			rq.setLogTime(Instant.now());
+			rq.setMessage(name + " summary");
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(String.format(SUMMARY_FILE_PATTERN, name.toLowerCase(Locale.ROOT)));
+			file.setContentType(SUMMARY_CONTENT_TYPE);
+			file.setContent(csv.getBytes(StandardCharsets.UTF_8));
+			rq.setFile(file);
+			return rq;
+		});
+		//noinspection ReactiveStreamsUnusedPublisher
+		myLaunch.finishTestItem(suiteId, buildFinishTestItemRq(Instant.now(), suiteStatus));
+	}
+
+	/**
+	 * Publish the summary tree and finish the Launch. The Launch is started only at this moment, so nothing is reported during the
+	 * performance test. The result is available with {@link #getLaunchFinishStatus()}.
+	 */
+	public void finishLaunch() {
+		reportSuite(SCENARIOS_SUITE, scenarios.merge());
+		reportSuite(REQUESTS_SUITE, requests.merge());
+		Launch myLaunch = launch.get();
+		FinishExecutionRQ rq = ReportPortalUtils.buildFinishLaunchRq(myLaunch.getParameters());
+		Duration budget = Duration.ofMillis(karateParameters.getFinishTimeout());
+		// No shutdown hook is registered by this reporter: the Launch starts only here, so there is nothing to finish on JVM exit
+		Thread noShutDownHook = null;
+		LaunchFinishStatus status = ReportPortalUtils.finishLaunch(myLaunch, rq, noShutDownHook, budget, requestJournal);
+		finishJournal(requestJournal);
+		launchFinishStatus = status;
+	}
+
+	/**
+	 * Get the result of the last Launch finish.
+	 *
+	 * @return finish status or null if the Launch was not finished yet
+	 */
+	@Nullable
+	public LaunchFinishStatus getLaunchFinishStatus() {
+		return launchFinishStatus;
+	}
+}
@@ -16,6 +16,10 @@
 
 package com.epam.reportportal.karate;
 
+import com.epam.reportportal.karate.attachment.AttachmentManager;
+import com.epam.reportportal.karate.client.ClientDecorators;
+import com.epam.reportportal.karate.client.RequestJournal;
+import com.epam.reportportal.karate.config.KarateParameters;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.listeners.LogLevel;
@@ -34,6 +38,7 @@ import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -51,7 +56,11 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 public class ReportPortalPublisher {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReportPortalPublisher.class);
+	private static final Duration ATTACHMENT_UPLOAD_TIMEOUT = Duration.ofMinutes(5);
 	protected final MemoizingSupplier<Launch> launch;
+	protected final KarateParameters karateParameters;
+	protected final AttachmentManager attachmentManager;
+	protected final RequestJournal requestJournal;
 	private final Map<String, Maybe<String>> featureIdMap = new HashMap<>();
 	private final Map<String, Maybe<String>> scenarioIdMap = new HashMap<>();
 	private final Map<String, Instant> stepStartTimeMap = new HashMap<>();
@@ -59,19 +68,47 @@ public class ReportPortalPublisher {
 	private ItemStatus backgroundStatus;
 	private Maybe<String> stepId;
 	private Thread shutDownHook;
+	private volatile LaunchFinishStatus launchFinishStatus;
 
 	public ReportPortalPublisher(ReportPortal reportPortal) {
+		this(reportPortal, KarateParameters.load());
+	}
+
+	/**
+	 * Create a new instance of the ReportPortalPublisher with the specified ReportPortal instance and Karate agent parameters.
+	 *
+	 * @param reportPortal     the ReportPortal instance
+	 * @param karateParameters Karate agent parameters
+	 */
+	public ReportPortalPublisher(ReportPortal reportPortal, KarateParameters karateParameters) {
+		this.karateParameters = karateParameters;
+		requestJournal = ClientDecorators.createJournal(karateParameters);
+		ReportPortal rp = ClientDecorators.decorate(reportPortal, karateParameters, requestJournal);
 		launch = new MemoizingSupplier<>(() -> {
-			ListenerParameters params = reportPortal.getParameters();
+			ListenerParameters params = rp.getParameters();
 			StartLaunchRQ rq = buildStartLaunchRq(params);
-			Launch newLaunch = reportPortal.newLaunch(rq);
-			shutDownHook = registerShutdownHook(this::finishLaunch);
+			Launch newLaunch = rp.newLaunch(rq);
+			shutDownHook = registerShutdownHook(this::finishLaunchOnShutdown);
 			return newLaunch;
 		});
+		attachmentManager = new AttachmentManager(launch, rp.getClient(), karateParameters);
 	}
 
 	public ReportPortalPublisher(Supplier<Launch> launchSupplier) {
+		this(launchSupplier, KarateParameters.load());
+	}
+
+	/**
+	 * Create a new instance of the ReportPortalPublisher with the specified Launch supplier and Karate agent parameters.
+	 *
+	 * @param launchSupplier   Launch instance supplier
+	 * @param karateParameters Karate agent parameters
+	 */
+	public ReportPortalPublisher(Supplier<Launch> launchSupplier, KarateParameters karateParameters) {
+		this.karateParameters = karateParameters;
 		launch = new MemoizingSupplier<>(launchSupplier);
+		requestJournal = null;
+		attachmentManager = new AttachmentManager(launch, null, karateParameters);
 	}
 
 	/**
@@ -104,10 +141,46 @@ public class ReportPortalPublisher {
 	}
 
 	/**
-	 * Finish sending Launch data to ReportPortal.
+	 * Finish sending Launch data to ReportPortal within {@link KarateParameters#getFinishTimeout()}. Requests which were not confirmed in
+	 * time are saved to {@link KarateParameters#getSpoolDirectory()}. The result is available with {@link #getLaunchFinishStatus()}.
 	 */
 	public void finishLaunch() {
-		ReportPortalUtils.doFinishLaunch(launch.get(), buildFinishLaunchRq(launch.get().getParameters()), shutDownHook);
+		finishLaunch(Duration.ofMillis(karateParameters.getFinishTimeout()));
+	}
+
+	/**
+	 * Finish sending Launch data to ReportPortal from the JVM shutdown hook within {@link KarateParameters#getShutdownTimeout()}.
+	 * Requests which were not confirmed in time are saved to {@link KarateParameters#getSpoolDirectory()}.
+	 */
+	public void finishLaunchOnShutdown() {
+		long timeout = karateParameters.getShutdownTimeout() > 0 ?
+				karateParameters.getShutdownTimeout() :
+				karateParameters.getFinishTimeout();
+		finishLaunch(Duration.ofMillis(timeout));
+	}
+
+	/**
+	 * Get the result of the last Launch finish.
+	 *
+	 * @return finish status or null if the Launch was not finished yet
+	 */
+	@Nullable
+	public LaunchFinishStatus getLaunchFinishStatus() {
+		return launchFinishStatus;
+	}
+
+	private void finishLaunch(@Nonnull Duration budget) {
+		Instant start = Instant.now();
+		attachmentManager.finish(limitTimeout(ATTACHMENT_UPLOAD_TIMEOUT, budget));
+		LaunchFinishStatus status = ReportPortalUtils.finishLaunch(
+				launch.get(),
+				buildFinishLaunchRq(launch.get().getParameters()),
+				shutDownHook,
+				getRemainingTimeout(budget, start),
+				requestJournal
+		);
+		finishJournal(requestJournal);
+		launchFinishStatus = status;
 	}
 
 	/**
@@ -159,7 +232,7 @@ public class ReportPortalPublisher {
 
 			for (StepResult stepResult : stepResults) {
 				startStep(stepResult, scenarioResult);
-				sendStepResults(stepResult);
+				sendStepResults(stepResult, scenarioResult);
 				finishStep(stepResult, scenarioResult);
 			}
 
@@ -219,6 +292,11 @@ public class ReportPortalPublisher {
 		FinishTestItemRQ rq = buildFinishScenarioRq(scenarioResult);
 		Maybe<String> removedScenarioId = scenarioIdMap.remove(scenarioResult.getScenario().getName());
 		stepStartTimeMap.remove(scenarioResult.getScenario().getUniqueId());
+		if (removedScenarioId != null) {
+			boolean failed = scenarioResult.isFailed();
+			attachmentManager.finishBundle(scenarioResult.getScenario().getUniqueId(), removedScenarioId, failed);
+			attachmentManager.finishScenario(scenarioResult.getScenario().getUniqueId(), failed);
+		}
 		//noinspection ReactiveStreamsUnusedPublisher
 		launch.get().finishTestItem(removedScenarioId, rq);
 		finishBackground(null, scenarioResult);
@@ -326,6 +404,9 @@ public class ReportPortalPublisher {
 						background && backgroundId != null ? backgroundId : scenarioIdMap.get(scenarioResult.getScenario().getName()),
 						stepRq
 				);
+		if (!isLogEnabled(LogLevel.INFO, scenarioResult)) {
+			return;
+		}
 		ofNullable(stepRq.getParameters()).filter(params -> !params.isEmpty())
 				.ifPresent(params -> sendLog(stepId, String.format(PARAMETERS_PATTERN, formatParametersAsTable(params)), LogLevel.INFO));
 		ofNullable(step.getTable()).ifPresent(table -> sendLog(stepId, "Table:\n\n" + formatDataTable(table.getRows()), LogLevel.INFO));
@@ -380,14 +461,36 @@ public class ReportPortalPublisher {
 	}
 
 	/**
-	 * Send Step logs to ReportPortal.
+	 * Check if a log message with the given level should be reported for the Scenario. Call it before building the message, so
+	 * filtered messages cost nothing.
+	 *
+	 * @param level          log message level
+	 * @param scenarioResult Karate's ScenarioResult object instance, or null to use the configured level
+	 * @return true if the message should be reported, false otherwise
+	 */
+	protected boolean isLogEnabled(@Nonnull LogLevel level, @Nullable ScenarioResult scenarioResult) {
+		LogLevel minimalLevel = ofNullable(scenarioResult).map(ScenarioResult::getScenario)
+				.map(scenario -> getLogLevel(scenario, karateParameters.getLogLevel()))
+				.orElseGet(karateParameters::getLogLevel);
+		return isLogLevelEnabled(level, minimalLevel);
+	}
+
+	/**
+	 * Send Step logs to ReportPortal. Messages larger than configured maximum size are split into parts or compressed.
 	 *
 	 * @param itemId  item ID future
 	 * @param message log message to send
 	 * @param level   log level
 	 */
 	protected void sendLog(Maybe<String> itemId, String message, LogLevel level) {
-		ReportPortalUtils.sendLog(itemId, message, level);
+		ReportPortalUtils.sendLog(
+				itemId,
+				message,
+				level,
+				Instant.now(),
+				karateParameters.getLogMaxSize(),
+				karateParameters.getLogOversizeMode()
+		);
 	}
 
 	/**
@@ -397,7 +500,7 @@ public class ReportPortalPublisher {
 	 * @param embed  Karate's Embed object
 	 */
 	protected void embedAttachment(Maybe<String> itemId, Embed embed) {
-		ReportPortalUtils.embedAttachment(itemId, embed);
+		attachmentManager.embed(itemId, embed);
 	}
 
 	/**
@@ -410,22 +513,53 @@ public class ReportPortalPublisher {
 		ofNullable(embeddedEntities).ifPresent(embeds -> embeds.forEach(embed -> embedAttachment(itemId, embed)));
 	}
 
+	/**
+	 * Embed Scenario attachments to ReportPortal. Attachments are added to the Scenario bundle if bundling is enabled, attachments of a
+	 * failed Scenario are marked as failure evidence, so they are not downscaled and are not deferred.
+	 *
+	 * @param itemId           item ID future
+	 * @param embeddedEntities a list of Karate's Embed object
+	 * @param scenarioResult   Karate's ScenarioResult object instance, or null to embed attachments separately
+	 */
+	protected void embedAttachments(@Nonnull Maybe<String> itemId, @Nullable List<Embed> embeddedEntities,
+			@Nullable ScenarioResult scenarioResult) {
+		if (scenarioResult == null) {
+			embedAttachments(itemId, embeddedEntities);
+			return;
+		}
+		String scenarioKey = scenarioResult.getScenario().getUniqueId();
+		boolean failure = scenarioResult.isFailed();
+		ofNullable(embeddedEntities).ifPresent(embeds -> embeds.forEach(embed -> attachmentManager.embed(itemId, embed, scenarioKey, failure)));
+	}
+
 	/**
 	 * Send Step execution results to ReportPortal.
 	 *
 	 * @param stepResult step execution results
 	 */
 	public void sendStepResults(StepResult stepResult) {
+		sendStepResults(stepResult, null);
+	}
+
+	/**
+	 * Send Step execution results to ReportPortal.
+	 *
+	 * @param stepResult     step execution results
+	 * @param scenarioResult Karate's ScenarioResult object instance, used to resolve Scenario-specific log level
+	 */
+	public void sendStepResults(@Nonnull StepResult stepResult, @Nullable ScenarioResult scenarioResult) {
 		Step step = stepResult.getStep();
 		Result result = stepResult.getResult();
-		String stepLog = stepResult.getStepLog();
-		if (isNotBlank(stepLog)) {
-			sendLog(stepId, stepLog, LogLevel.DEBUG);
+		if (isLogEnabled(LogLevel.DEBUG, scenarioResult)) {
+			String stepLog = stepResult.getStepLog();
+			if (isNotBlank(stepLog)) {
+				sendLog(stepId, stepLog, LogLevel.DEBUG);
+			}
 		}
 
-		embedAttachments(stepId, stepResult.getEmbeds());
+		embedAttachments(stepId, stepResult.getEmbeds(), scenarioResult);
 
-		if (result.isFailed()) {
+		if (result.isFailed() && isLogEnabled(LogLevel.ERROR, scenarioResult)) {
 			String fullErrorMessage = step.getPrefix() + " " + step.getText();
 			String errorMessage = result.getErrorMessage();
 			if (isNotBlank(errorMessage)) {
@@ -16,6 +16,10 @@
 
 package com.epam.reportportal.karate;
 
+import com.epam.reportportal.karate.client.RequestJournal;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.config.OversizedLogMode;
+import com.epam.reportportal.karate.utils.DaemonThreadFactory;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ItemType;
 import com.epam.reportportal.listeners.ListenerParameters;
@@ -42,12 +46,24 @@ import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import static com.epam.reportportal.utils.ParameterUtils.NULL_VALUE;
 import static java.util.Optional.ofNullable;
@@ -68,11 +84,23 @@ public class ReportPortalUtils {
 	public static final String MARKDOWN_DELIMITER_PATTERN = "%s" + MARKDOWN_DELIMITER + "%s";
 	public static final String FEATURE_TAG = "Feature: ";
 	public static final String SCENARIO_TAG = "Scenario: ";
+	public static final String LOG_LEVEL_TAG = "rp.log.level";
+	public static final String LOG_PART_PATTERN = "[Part %d of %d]\n%s";
+	public static final String COMPRESSED_LOG_MESSAGE_PATTERN = "Log message of %d characters is attached as a compressed file";
+	public static final String COMPRESSED_LOG_FILE_NAME = "log.txt.gz";
+	public static final String GZIP_CONTENT_TYPE = "application/gzip";
+	public static final String ATTACHMENT_MESSAGE_PATTERN = "Attachment: %s";
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReportPortalUtils.class);
 	private static final String PARAMETER_ITEMS_START = "[";
 	private static final String PARAMETER_ITEMS_END = "]";
 	private static final String PARAMETER_ITEMS_DELIMITER = ";";
 	private static final String KEY_VALUE_SEPARATOR = ":";
+	private static final int COMPRESSION_BUFFER_SIZE = 8192;
+	private static final List<String> LOG_LEVEL_ORDER = Arrays.asList("TRACE", "DEBUG", "INFO", "WARN", "ERROR", "FATAL");
+	private static final ThreadFactory FINISH_THREAD_FACTORY = new DaemonThreadFactory("finish");
+	private static final ThreadFactory START_THREAD_FACTORY = new DaemonThreadFactory("start");
+	private static final Duration JOURNAL_DIVERT_TIMEOUT = Duration.ofSeconds(30);
+	private static final Map<Launch, CompletableFuture<Void>> FINISHING_LAUNCHES = new ConcurrentHashMap<>();
 
 	private ReportPortalUtils() {
 		throw new RuntimeException("No instances should exist for the class!");
@@ -124,7 +152,12 @@ public class ReportPortalUtils {
 	 * @param hook a Thread which represents Launch finish hook
 	 */
 	public static void unregisterShutdownHook(@Nonnull Thread hook) {
-		Runtime.getRuntime().removeShutdownHook(hook);
+		try {
+			Runtime.getRuntime().removeShutdownHook(hook);
+		} catch (IllegalStateException e) {
+			// The JVM is shutting down already, the hook is running or has already run
+			LOGGER.debug("Unable to remove shutdown hook", e);
+		}
 	}
 
 	/**
@@ -434,6 +467,45 @@ public class ReportPortalUtils {
 		}
 	}
 
+	/**
+	 * Check if a log message with the given level passes the minimal log level threshold.
+	 *
+	 * @param level        log message level
+	 * @param minimalLevel minimal log level to report
+	 * @return true if the message should be reported, false otherwise
+	 */
+	public static boolean isLogLevelEnabled(@Nonnull LogLevel level, @Nonnull LogLevel minimalLevel) {
+		int levelIndex = LOG_LEVEL_ORDER.indexOf(level.name());
+		int minimalLevelIndex = LOG_LEVEL_ORDER.indexOf(minimalLevel.name());
+		return levelIndex < 0 || minimalLevelIndex < 0 || levelIndex >= minimalLevelIndex;
+	}
+
+	@Nullable
+	private static LogLevel getLogLevel(@Nullable List<Tag> tags) {
+		return ofNullable(tags).flatMap(t -> t.stream()
+						.filter(tag -> LOG_LEVEL_TAG.equals(tag.getName()))
+						.flatMap(tag -> tag.getValues().stream())
+						.map(KarateParameters::parseLogLevel)
+						.filter(Objects::nonNull)
+						.findFirst())
+				.orElse(null);
+	}
+
+	/**
+	 * Return minimal log level for a Scenario. The level can be overridden with `@rp.log.level=LEVEL` tag on Scenario or Feature
+	 * level, Scenario tag takes precedence.
+	 *
+	 * @param scenario     Karate's Scenario object instance
+	 * @param defaultLevel log level to use if there is no tag override
+	 * @return minimal log level
+	 */
+	@Nonnull
+	public static LogLevel getLogLevel(@Nonnull Scenario scenario, @Nonnull LogLevel defaultLevel) {
+		return ofNullable(getLogLevel(scenario.getTags())).orElseGet(() -> ofNullable(scenario.getFeature())
+				.map(feature -> getLogLevel(feature.getTags()))
+				.orElse(defaultLevel));
+	}
+
 	/**
 	 * Send Step logs to ReportPortal.
 	 *
@@ -466,27 +538,159 @@ public class ReportPortalUtils {
 		sendLog(itemId, message, level, Instant.now());
 	}
 
+	@Nonnull
+	private static int[] getPartBoundaries(@Nonnull String message, int maxSize) {
+		List<Integer> boundaries = new ArrayList<>();
+		int start = 0;
+		boundaries.add(start);
+		while (start < message.length()) {
+			int end = Math.min(start + maxSize, message.length());
+			if (end < message.length() && end - start > 1 && Character.isHighSurrogate(message.charAt(end - 1))) {
+				end--;
+			}
+			boundaries.add(end);
+			start = end;
+		}
+		return boundaries.stream().mapToInt(Integer::intValue).toArray();
+	}
+
 	/**
-	 * Embed an attachment to ReportPortal.
+	 * Send a log message split into ordered parts, each part is not longer than the maximum size plus a short part header. Parts are
+	 * cut out of the original message only when the log request is being built, so no additional full copy of the message is kept.
 	 *
-	 * @param itemId item ID future
-	 * @param embed  Karate's Embed object
+	 * @param itemId  item ID future
+	 * @param message log message to send
+	 * @param level   log level
+	 * @param logTime log time
+	 * @param maxSize maximum part size in characters
 	 */
-	public static void embedAttachment(@Nonnull Maybe<String> itemId, @Nonnull Embed embed) {
+	public static void sendLogParts(@Nonnull Maybe<String> itemId, @Nonnull String message, @Nonnull LogLevel level,
+			@Nonnull Instant logTime, int maxSize) {
+		int[] boundaries = getPartBoundaries(message, maxSize);
+		int partCount = boundaries.length - 1;
+		for (int i = 0; i < partCount; i++) {
+			int partNumber = i + 1;
+			int start = boundaries[i];
+			int end = boundaries[partNumber];
+			ReportPortal.emitLog(
+					itemId, id -> {
+						SaveLogRQ rq = new SaveLogRQ();
+						rq.setMessage(String.format(LOG_PART_PATTERN, partNumber, partCount, message.substring(start, end)));
+						rq.setItemUuid(id);
+						rq.setLevel(level.name());
+						rq.setLogTime(logTime);
+						return rq;
+					}
+			);
+		}
+	}
+
+	/**
+	 * Compress a log message with gzip and send it as a file attachment. The message is streamed into the compressor, so only the
+	 * compressed copy is kept in memory.
+	 *
+	 * @param itemId  item ID future
+	 * @param message log message to send
+	 * @param level   log level
+	 * @param logTime log time
+	 */
+	public static void sendLogAsAttachment(@Nonnull Maybe<String> itemId, @Nonnull String message, @Nonnull LogLevel level,
+			@Nonnull Instant logTime) {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(compressed), StandardCharsets.UTF_8)) {
+			for (int start = 0; start < message.length(); start += COMPRESSION_BUFFER_SIZE) {
+				writer.write(message, start, Math.min(COMPRESSION_BUFFER_SIZE, message.length() - start));
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Unable to compress log message, sending it as is", e);
+			sendLog(itemId, message, level, logTime);
+			return;
+		}
+		byte[] content = compressed.toByteArray();
+		int messageLength = message.length();
 		ReportPortal.emitLog(
 				itemId, id -> {
 					SaveLogRQ rq = new SaveLogRQ();
+					rq.setMessage(String.format(COMPRESSED_LOG_MESSAGE_PATTERN, messageLength));
 					rq.setItemUuid(id);
-					rq.setLevel(LogLevel.INFO.name());
-					rq.setLogTime(Instant.now());
-					rq.setMessage("Attachment: " + embed.getResourceType().contentType);
+					rq.setLevel(level.name());
+					rq.setLogTime(logTime);
 
 					SaveLogRQ.File file = new SaveLogRQ.File();
-					file.setName(embed.getFile().getName());
-					file.setContent(embed.getBytes());
-					file.setContentType(embed.getResourceType().contentType);
+					file.setName(COMPRESSED_LOG_FILE_NAME);
+					file.setContent(content);
+					file.setContentType(GZIP_CONTENT_TYPE);
 					rq.setFile(file);
+					return rq;
+				}
+		);
+	}
 
+	/**
+	 * Send Step logs to ReportPortal, messages larger than the maximum size are split or compressed according to the mode.
+	 *
+	 * @param itemId  item ID future
+	 * @param message log message to send
+	 * @param level   log level
+	 * @param logTime log time
+	 * @param maxSize maximum message size in characters, zero or negative value means no limit
+	 * @param mode    oversized message handling mode
+	 */
+	public static void sendLog(@Nonnull Maybe<String> itemId, @Nonnull String message, @Nonnull LogLevel level,
+			@Nonnull Instant logTime, int maxSize, @Nonnull OversizedLogMode mode) {
+		if (maxSize <= 0 || message.length() <= maxSize) {
+			sendLog(itemId, message, level, logTime);
+			return;
+		}
+		if (mode == OversizedLogMode.ATTACHMENT) {
+			sendLogAsAttachment(itemId, message, level, logTime);
+		} else {
+			sendLogParts(itemId, message, level, logTime, maxSize);
+		}
+	}
+
+	/**
+	 * Build a log message for an attachment.
+	 *
+	 * @param contentType attachment content type
+	 * @return log message
+	 */
+	@Nonnull
+	public static String getAttachmentMessage(@Nonnull String contentType) {
+		return String.format(ATTACHMENT_MESSAGE_PATTERN, contentType);
+	}
+
+	/**
+	 * Embed an attachment to ReportPortal. The embed file is read only when the log request is being built, the request builder does
+	 * not keep a reference to the Embed object.
+	 *
+	 * @param itemId item ID future
+	 * @param embed  Karate's Embed object
+	 * @deprecated the whole file is loaded into memory, use {@link com.epam.reportportal.karate.attachment.AttachmentManager}, which
+	 * streams attachments from disk
+	 */
+	@Deprecated
+	public static void embedAttachment(@Nonnull Maybe<String> itemId, @Nonnull Embed embed) {
+		File attachment = embed.getFile();
+		String contentType = embed.getResourceType().contentType;
+		Instant logTime = Instant.now();
+		ReportPortal.emitLog(
+				itemId, id -> {
+					SaveLogRQ rq = new SaveLogRQ();
+					rq.setItemUuid(id);
+					rq.setLevel(LogLevel.INFO.name());
+					rq.setLogTime(logTime);
+					rq.setMessage(getAttachmentMessage(contentType));
+
+					try {
+						SaveLogRQ.File file = new SaveLogRQ.File();
+						file.setName(attachment.getName());
+						file.setContent(Files.readAllBytes(attachment.toPath()));
+						file.setContentType(contentType);
+						rq.setFile(file);
+					} catch (IOException e) {
+						LOGGER.warn("Unable to read attachment file: {}", attachment.getAbsolutePath(), e);
+					}
 					return rq;
 				}
 		);
@@ -501,18 +705,199 @@ public class ReportPortalUtils {
 	 */
 	public static void doFinishLaunch(@Nonnull Launch launch, @Nonnull FinishExecutionRQ rq, @Nullable Thread shutDownHook) {
 		ListenerParameters parameters = launch.getParameters();
-		LOGGER.info(
-				"Launch URL: {}/ui/#{}/launches/all/{}",
-				parameters.getBaseUrl(),
-				parameters.getProjectName(),
-				launch.getLaunch().blockingGet()
-		);
+		//noinspection ResultOfMethodCallIgnored
+		launch.getLaunch()
+				.subscribe(
+						id -> LOGGER.info(
+								"Launch URL: {}/ui/#{}/launches/all/{}",
+								parameters.getBaseUrl(),
+								parameters.getProjectName(),
+								id
+						), e -> LOGGER.debug("Unable to get Launch ID", e)
+				);
 		launch.finish(rq);
 		if (shutDownHook != null && Thread.currentThread() != shutDownHook) {
 			unregisterShutdownHook(shutDownHook);
 		}
 	}
 
+	/**
+	 * Start a Launch in a background thread. Server API info is requested right after the start, so DNS resolution, TLS handshake and
+	 * the Launch start round trip are done before the first test item is reported.
+	 *
+	 * @param launch Launch supplier, which starts the Launch on the first call
+	 * @return future which completes when the Launch is started
+	 */
+	@Nonnull
+	public static CompletableFuture<Launch> startLaunchAsync(@Nonnull Supplier<Launch> launch) {
+		CompletableFuture<Launch> result = new CompletableFuture<>();
+		START_THREAD_FACTORY.newThread(() -> {
+			try {
+				Launch startedLaunch = launch.get();
+				startedLaunch.useMicroseconds();
+				result.complete(startedLaunch);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Unable to start Launch in background", e);
+				result.completeExceptionally(e);
+			}
+		}).start();
+		return result;
+	}
+
+	/**
+	 * Finish sending Launch data to ReportPortal in a background thread.
+	 *
+	 * @param launch       Launch object to finish
+	 * @param rq           Request to finish execution
+	 * @param shutDownHook Optional shutdown hook to unregister
+	 * @return future which completes when the Launch is finished
+	 */
+	@Nonnull
+	public static CompletableFuture<Void> finishLaunchAsync(@Nonnull Launch launch, @Nonnull FinishExecutionRQ rq,
+			@Nullable Thread shutDownHook) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		FINISH_THREAD_FACTORY.newThread(() -> {
+			try {
+				doFinishLaunch(launch, rq, shutDownHook);
+				result.complete(null);
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}).start();
+		return result;
+	}
+
+	/**
+	 * Finish sending Launch data to ReportPortal within the given time budget. If the Launch is not finished in time it continues
+	 * finishing in background, and the shutdown hook stays registered to wait for it on JVM exit.
+	 *
+	 * @param launch       Launch object to finish
+	 * @param rq           Request to finish execution
+	 * @param shutDownHook Optional shutdown hook to unregister
+	 * @param timeout      time budget, zero or negative value means no limit
+	 * @return finish status
+	 */
+	@Nonnull
+	public static LaunchFinishStatus finishLaunch(@Nonnull Launch launch, @Nonnull FinishExecutionRQ rq, @Nullable Thread shutDownHook,
+			@Nonnull Duration timeout) {
+		return finishLaunch(launch, rq, shutDownHook, timeout, null);
+	}
+
+	/**
+	 * Finish sending Launch data to ReportPortal within the given time budget. If the Launch is not finished in time the request journal
+	 * is diverted: requests which are not confirmed yet, and the rest of the Launch including its finish, are saved to the journal
+	 * instead of waiting for the server, and the shutdown hook is unregistered. Without a journal the Launch continues finishing in
+	 * background and the shutdown hook stays registered, a repeated call for the same Launch, e.g. from the hook, waits for the same
+	 * finish instead of starting another one.
+	 *
+	 * @param launch       Launch object to finish
+	 * @param rq           Request to finish execution
+	 * @param shutDownHook Optional shutdown hook to unregister
+	 * @param timeout      time budget, zero or negative value means no limit
+	 * @param journal      request journal of the Launch, or null to let the Launch finish in background
+	 * @return finish status
+	 */
+	@Nonnull
+	public static LaunchFinishStatus finishLaunch(@Nonnull Launch launch, @Nonnull FinishExecutionRQ rq, @Nullable Thread shutDownHook,
+			@Nonnull Duration timeout, @Nullable RequestJournal journal) {
+		if (timeout.isZero() || timeout.isNegative()) {
+			doFinishLaunch(launch, rq, shutDownHook);
+			return LaunchFinishStatus.FINISHED;
+		}
+		boolean hookThread = shutDownHook != null && Thread.currentThread() == shutDownHook;
+		CompletableFuture<Void> started = new CompletableFuture<>();
+		CompletableFuture<Void> running = FINISHING_LAUNCHES.putIfAbsent(launch, started);
+		if (running == null) {
+			finishLaunchAsync(launch, rq, hookThread ? null : shutDownHook).whenComplete((result, error) -> {
+				FINISHING_LAUNCHES.remove(launch, started);
+				if (error == null) {
+					started.complete(result);
+				} else {
+					started.completeExceptionally(error);
+				}
+			});
+		}
+		CompletableFuture<Void> finish = running == null ? started : running;
+		try {
+			finish.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+			return LaunchFinishStatus.FINISHED;
+		} catch (TimeoutException e) {
+			if (journal == null) {
+				LOGGER.warn(
+						"Launch was not finished within {} ms, it continues finishing in background until JVM exit",
+						timeout.toMillis()
+				);
+			} else {
+				LOGGER.warn("Launch was not finished within {} ms, the rest of it is saved to the request journal", timeout.toMillis());
+				divertJournal(journal, finish);
+				if (shutDownHook != null && !hookThread) {
+					unregisterShutdownHook(shutDownHook);
+				}
+			}
+			return LaunchFinishStatus.TIMED_OUT;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return LaunchFinishStatus.TIMED_OUT;
+		} catch (ExecutionException e) {
+			LOGGER.error("Unable to finish Launch", e.getCause());
+			return LaunchFinishStatus.FAILED;
+		}
+	}
+
+	private static void divertJournal(@Nonnull RequestJournal journal, @Nonnull CompletableFuture<Void> finish) {
+		journal.divert();
+		// Nothing is sent to the server any more, so the rest of the Launch reaches the journal quickly
+		try {
+			finish.get(JOURNAL_DIVERT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			LOGGER.error("Launch finish was not saved to the request journal within {} ms", JOURNAL_DIVERT_TIMEOUT.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.error("Unable to save Launch finish to the request journal", e.getCause());
+		}
+	}
+
+	/**
+	 * Limit an operation timeout with the Launch finish time budget.
+	 *
+	 * @param timeout operation timeout
+	 * @param budget  Launch finish time budget, zero or negative value means no limit
+	 * @return the lesser of the two
+	 */
+	@Nonnull
+	public static Duration limitTimeout(@Nonnull Duration timeout, @Nonnull Duration budget) {
+		return budget.isZero() || budget.isNegative() || budget.compareTo(timeout) >= 0 ? timeout : budget;
+	}
+
+	/**
+	 * Get the rest of the Launch finish time budget.
+	 *
+	 * @param budget Launch finish time budget, zero or negative value means no limit
+	 * @param start  time when the Launch finish started
+	 * @return remaining time, at least one millisecond, or the budget itself if it is not limited
+	 */
+	@Nonnull
+	public static Duration getRemainingTimeout(@Nonnull Duration budget, @Nonnull Instant start) {
+		if (budget.isZero() || budget.isNegative()) {
+			return budget;
+		}
+		Duration remaining = budget.minus(Duration.between(start, Instant.now()));
+		return remaining.compareTo(Duration.ofMillis(1)) < 0 ? Duration.ofMillis(1) : remaining;
+	}
+
+	/**
+	 * Close request journal after a Launch finish: it is removed if all requests were confirmed by the server, otherwise it is kept to
+	 * be sent later.
+	 *
+	 * @param journal request journal, nothing is done if null
+	 */
+	public static void finishJournal(@Nullable RequestJournal journal) {
+		if (journal != null) {
+			journal.close();
+		}
+	}
+
 	/**
 	 * Builds markdown representation of some code or script to be logged to ReportPortal
 	 *
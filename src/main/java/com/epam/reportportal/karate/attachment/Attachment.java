@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.listeners.LogLevel;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+
+/**
+ * An attachment scheduled for reporting: a file on disk with its name, content type and the log it should be attached to. An attachment
+ * without a file is reported as a plain log, e.g. when its content was stored elsewhere. Instances are immutable, processing steps
+ * return modified copies.
+ */
+public final class Attachment {
+	private static final Logger LOGGER = LoggerFactory.getLogger(Attachment.class);
+
+	private final File file;
+	private final String name;
+	private final String contentType;
+	private final String message;
+	private final LogLevel level;
+	private final Instant logTime;
+	private final boolean temporary;
+	private final boolean failure;
+	private final AttachmentBudget.Reservation reservation;
+
+	/**
+	 * Create an attachment.
+	 *
+	 * @param file        file to attach, or null to report the log only
+	 * @param name        attachment name
+	 * @param contentType attachment content type
+	 * @param message     log message
+	 * @param level       log level
+	 * @param logTime     log time
+	 * @param temporary   true if the file was created by the agent and should be deleted once reported
+	 */
+	public Attachment(@Nullable File file, @Nonnull String name, @Nonnull String contentType, @Nonnull String message,
+			@Nonnull LogLevel level, @Nonnull Instant logTime, boolean temporary) {
+		this(file, name, contentType, message, level, logTime, temporary, false);
+	}
+
+	/**
+	 * Create an attachment.
+	 *
+	 * @param file        file to attach, or null to report the log only
+	 * @param name        attachment name
+	 * @param contentType attachment content type
+	 * @param message     log message
+	 * @param level       log level
+	 * @param logTime     log time
+	 * @param temporary   true if the file was created by the agent and should be deleted once reported
+	 * @param failure     true if the attachment belongs to a failed test
+	 */
+	public Attachment(@Nullable File file, @Nonnull String name, @Nonnull String contentType, @Nonnull String message,
+			@Nonnull LogLevel level, @Nonnull Instant logTime, boolean temporary, boolean failure) {
+		this(file, name, contentType, message, level, logTime, temporary, failure, null);
+	}
+
+	private Attachment(@Nullable File file, @Nonnull String name, @Nonnull String contentType, @Nonnull String message,
+			@Nonnull LogLevel level, @Nonnull Instant logTime, boolean temporary, boolean failure,
+			@Nullable AttachmentBudget.Reservation reservation) {
+		this.file = file;
+		this.name = name;
+		this.contentType = contentType;
+		this.message = message;
+		this.level = level;
+		this.logTime = logTime;
+		this.temporary = temporary;
+		this.failure = failure;
+		this.reservation = reservation;
+	}
+
+	/**
+	 * Create a copy of the attachment with different content.
+	 *
+	 * @param file        new file, created by the agent
+	 * @param name        new attachment name
+	 * @param contentType new content type
+	 * @param message     new log message
+	 * @return attachment copy
+	 */
+	@Nonnull
+	public Attachment withContent(@Nonnull File file, @Nonnull String name, @Nonnull String contentType, @Nonnull String message) {
+		return new Attachment(file, name, contentType, message, level, logTime, true, failure);
+	}
+
+	/**
+	 * Create a copy of the attachment without content, it will be reported as a plain log.
+	 *
+	 * @param message new log message
+	 * @return attachment copy
+	 */
+	@Nonnull
+	public Attachment withoutContent(@Nonnull String message) {
+		return new Attachment(null, name, contentType, message, level, logTime, false, failure);
+	}
+
+	/**
+	 * Create a copy of the attachment with a different log message.
+	 *
+	 * @param message new log message
+	 * @return attachment copy
+	 */
+	@Nonnull
+	public Attachment withMessage(@Nonnull String message) {
+		return new Attachment(file, name, contentType, message, level, logTime, temporary, failure, reservation);
+	}
+
+	/**
+	 * Create a copy of the attachment which belongs to a failed test.
+	 *
+	 * @return attachment copy
+	 */
+	@Nonnull
+	public Attachment withFailure() {
+		return new Attachment(file, name, contentType, message, level, logTime, temporary, true, reservation);
+	}
+
+	/**
+	 * Create a copy of the attachment which holds upload budget.
+	 *
+	 * @param reservation budget reserved for the attachment upload
+	 * @return attachment copy
+	 */
+	@Nonnull
+	public Attachment withReservation(@Nonnull AttachmentBudget.Reservation reservation) {
+		return new Attachment(file, name, contentType, message, level, logTime, temporary, failure, reservation);
+	}
+
+	/**
+	 * @return attachment file, or null if the attachment has no content to upload
+	 */
+	@Nullable
+	public File getFile() {
+		return file;
+	}
+
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	@Nonnull
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Nonnull
+	public String getMessage() {
+		return message;
+	}
+
+	@Nonnull
+	public LogLevel getLevel() {
+		return level;
+	}
+
+	@Nonnull
+	public Instant getLogTime() {
+		return logTime;
+	}
+
+	/**
+	 * @return true if the file was created by the agent and should be deleted once reported
+	 */
+	public boolean isTemporary() {
+		return temporary;
+	}
+
+	/**
+	 * @return true if the attachment belongs to a failed test, such attachments should be kept intact where possible
+	 */
+	public boolean isFailure() {
+		return failure;
+	}
+
+	/**
+	 * Return the upload budget reserved for the attachment, if the attachment is not going to be uploaded.
+	 */
+	void releaseReservation() {
+		if (reservation != null) {
+			reservation.release();
+		}
+	}
+
+	/**
+	 * Delete the attachment file if it was created by the agent.
+	 */
+	void release() {
+		if (!temporary || file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file.toPath());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete temporary attachment file: {}", file.getAbsolutePath(), e);
+		}
+	}
+}
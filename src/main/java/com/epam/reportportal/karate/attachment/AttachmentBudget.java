@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-attachment and per-launch byte budgets for attachment uploads. Bytes reserved for an attachment which ends up not uploaded are
+ * returned to the launch budget with {@link Reservation#release()}.
+ */
+public class AttachmentBudget {
+	public static final String ATTACHMENT_LIMIT_REASON = "attachment size limit exceeded";
+	public static final String LAUNCH_LIMIT_REASON = "launch attachments size limit exceeded";
+
+	private final long maxSize;
+	private final long launchMaxSize;
+	private final AtomicLong launchSize = new AtomicLong();
+
+	/**
+	 * Launch budget bytes reserved for an attachment.
+	 */
+	public static final class Reservation {
+		private final AttachmentBudget budget;
+		private final long size;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		/**
+		 * @param budget budget the bytes were acquired from with {@link AttachmentBudget#acquire(long)}
+		 * @param size   acquired size in bytes
+		 */
+		Reservation(@Nonnull AttachmentBudget budget, long size) {
+			this.budget = budget;
+			this.size = size;
+		}
+
+		/**
+		 * Return the reserved bytes to the launch budget, e.g. if the attachment was deduplicated, dropped or its upload failed. Only
+		 * the first call has effect.
+		 */
+		public void release() {
+			if (released.compareAndSet(false, true) && budget.launchMaxSize > 0) {
+				budget.launchSize.addAndGet(-size);
+			}
+		}
+	}
+
+	/**
+	 * Create a budget.
+	 *
+	 * @param maxSize       maximum size of a single attachment in bytes, zero or negative value means no limit
+	 * @param launchMaxSize maximum size of all attachments uploaded within a launch in bytes, zero or negative value means no limit
+	 */
+	public AttachmentBudget(long maxSize, long launchMaxSize) {
+		this.maxSize = maxSize;
+		this.launchMaxSize = launchMaxSize;
+	}
+
+	private boolean reserveLaunch(long size) {
+		if (launchMaxSize <= 0) {
+			return true;
+		}
+		long current;
+		do {
+			current = launchSize.get();
+			if (current + size > launchMaxSize) {
+				return false;
+			}
+		} while (!launchSize.compareAndSet(current, current + size));
+		return true;
+	}
+
+	/**
+	 * Reserve budget for an attachment upload.
+	 *
+	 * @param size attachment size in bytes
+	 * @return null if the attachment fits into the budget and may be uploaded, otherwise the reason why it does not
+	 */
+	@Nullable
+	public String acquire(long size) {
+		if (maxSize > 0 && size > maxSize) {
+			return ATTACHMENT_LIMIT_REASON;
+		}
+		return reserveLaunch(size) ? null : LAUNCH_LIMIT_REASON;
+	}
+
+	/**
+	 * @return total size of attachments which fit into the launch budget so far, in bytes
+	 */
+	public long getLaunchSize() {
+		return launchSize.get();
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.listeners.LogLevel;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Zip archive which collects attachments of a Scenario, so they can be uploaded with a single request. Attachment files are streamed
+ * into the archive as they are added, the archive itself is kept on disk.
+ */
+public class AttachmentBundle implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentBundle.class);
+
+	public static final String BUNDLE_FILE_NAME = "attachments.zip";
+	public static final String ZIP_CONTENT_TYPE = "application/zip";
+	public static final String BUNDLE_MESSAGE_PATTERN = "Attachments bundle, %d file(s):\n%s";
+	private static final String ENTRY_NAME_PATTERN = "%03d-%s";
+
+	private final File file;
+	private final ZipOutputStream zip;
+	private final List<String> entries = new ArrayList<>();
+
+	/**
+	 * Create an empty bundle in a temporary file.
+	 *
+	 * @throws IOException if the file cannot be created
+	 */
+	public AttachmentBundle() throws IOException {
+		file = Files.createTempFile("rp-karate-", ".zip").toFile();
+		zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())));
+		// most of binary attachments (images, videos) are already compressed, so spend as little CPU as possible
+		zip.setLevel(Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * Stream an attachment file into the bundle. Entries are prefixed with their ordinal number to keep the order and the names unique.
+	 *
+	 * @param source      attachment file
+	 * @param name        attachment name
+	 * @param contentType attachment content type
+	 * @throws IOException if the file cannot be read or written into the bundle
+	 */
+	public synchronized void add(@Nonnull File source, @Nonnull String name, @Nonnull String contentType) throws IOException {
+		String entryName = String.format(ENTRY_NAME_PATTERN, entries.size() + 1, name);
+		zip.putNextEntry(new ZipEntry(entryName));
+		Files.copy(source.toPath(), zip);
+		zip.closeEntry();
+		entries.add(entryName + " (" + contentType + ")");
+	}
+
+	/**
+	 * @return number of attachments in the bundle
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Complete the archive.
+	 *
+	 * @param level   log level of the bundle
+	 * @param failure true if the bundle belongs to a failed test
+	 * @return temporary attachment with the archive
+	 * @throws IOException if the archive cannot be completed
+	 */
+	@Nonnull
+	public synchronized Attachment finish(@Nonnull LogLevel level, boolean failure) throws IOException {
+		zip.close();
+		String message = String.format(BUNDLE_MESSAGE_PATTERN, entries.size(), String.join("\n", entries));
+		return new Attachment(file, BUNDLE_FILE_NAME, ZIP_CONTENT_TYPE, message, level, Instant.now(), true, failure);
+	}
+
+	/**
+	 * Discard the bundle and delete its file.
+	 */
+	@Override
+	public synchronized void close() {
+		try {
+			zip.close();
+		} catch (IOException e) {
+			LOGGER.debug("Unable to close attachment bundle", e);
+		}
+		try {
+			Files.deleteIfExists(file.toPath());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete attachment bundle file: {}", file.getAbsolutePath(), e);
+		}
+	}
+}
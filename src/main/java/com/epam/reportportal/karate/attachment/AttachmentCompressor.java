@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import static com.epam.reportportal.karate.ReportPortalUtils.GZIP_CONTENT_TYPE;
+
+/**
+ * Compresses text-like attachments (plain text, JSON, XML, HTML, etc.) with gzip. Such content usually shrinks ten times or more, so
+ * compression saves upload bandwidth at the cost of some CPU time on a background thread.
+ */
+public class AttachmentCompressor implements AttachmentProcessor {
+	public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+	public static final String COMPRESSED_ATTACHMENT_MESSAGE_PATTERN = "%s\nCompressed with gzip, original size: %d bytes";
+	private static final int BUFFER_SIZE = 8192;
+	private static final Set<String> TEXT_CONTENT_TYPES = new HashSet<>(Arrays.asList(
+			"application/json",
+			"application/xml",
+			"application/javascript",
+			"application/x-javascript",
+			"application/yaml",
+			"application/x-yaml",
+			"application/x-ndjson",
+			"application/graphql",
+			"application/x-www-form-urlencoded"
+	));
+
+	private final long threshold;
+
+	/**
+	 * Create a compressor.
+	 *
+	 * @param threshold minimal attachment size in bytes to compress, smaller attachments are reported as is
+	 */
+	public AttachmentCompressor(long threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Check if a content type denotes text-like content which is worth compressing.
+	 *
+	 * @param contentType content type, possibly with parameters
+	 * @return true if the content is text-like
+	 */
+	public static boolean isTextContentType(@Nullable String contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+		return type.startsWith("text/") || TEXT_CONTENT_TYPES.contains(type) || type.endsWith("+json") || type.endsWith("+xml");
+	}
+
+	@Override
+	@Nonnull
+	public Attachment process(@Nonnull Attachment attachment) throws IOException {
+		File file = Objects.requireNonNull(attachment.getFile());
+		long size = file.length();
+		if (!isTextContentType(attachment.getContentType()) || size < threshold) {
+			return attachment;
+		}
+		File compressed = Files.createTempFile("rp-karate-", COMPRESSED_FILE_EXTENSION).toFile();
+		try (InputStream is = Files.newInputStream(file.toPath());
+				OutputStream os = new GZIPOutputStream(Files.newOutputStream(compressed.toPath()), BUFFER_SIZE)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = is.read(buffer)) >= 0) {
+				os.write(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(compressed.toPath());
+			throw e;
+		}
+		return attachment.withContent(
+				compressed,
+				attachment.getName() + COMPRESSED_FILE_EXTENSION,
+				GZIP_CONTENT_TYPE,
+				String.format(COMPRESSED_ATTACHMENT_MESSAGE_PATTERN, attachment.getMessage(), size)
+		);
+	}
+}
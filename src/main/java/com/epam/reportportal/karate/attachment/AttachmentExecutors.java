@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.utils.DaemonThreadFactory;
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Thread pools for background attachment work. Threads are daemons, so they never prevent JVM exit.
+ */
+final class AttachmentExecutors {
+	private AttachmentExecutors() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	@Nonnull
+	static ExecutorService newFixedThreadPool(@Nonnull String name, int threadCount) {
+		return Executors.newFixedThreadPool(Math.max(1, threadCount), new DaemonThreadFactory(name));
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.ImageFormat;
+import jakarta.annotation.Nonnull;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Downscales images to a maximum dimension and re-encodes them into a more compact format with JDK ImageIO. Images which belong to
+ * failed tests are kept at full resolution, since they are evidence for the failure analysis. The result is used only if it is smaller
+ * than the original image.
+ */
+public class AttachmentImageScaler implements AttachmentProcessor {
+	public static final String SCALED_IMAGE_MESSAGE_PATTERN = "%s\nImage scaled from %dx%d to %dx%d";
+	private static final Set<String> IMAGE_CONTENT_TYPES = new HashSet<>(Arrays.asList("image/png", "image/jpeg", "image/bmp", "image/gif"));
+
+	private final int maxDimension;
+	private final ImageFormat format;
+	private final float quality;
+
+	/**
+	 * Create an image scaler.
+	 *
+	 * @param maxDimension maximum width and height of an image in pixels
+	 * @param format       output image format
+	 * @param quality      output quality in percent, used by lossy formats
+	 */
+	public AttachmentImageScaler(int maxDimension, @Nonnull ImageFormat format, int quality) {
+		this.maxDimension = maxDimension;
+		this.format = format;
+		this.quality = Math.max(1, Math.min(100, quality)) / 100f;
+	}
+
+	@Nonnull
+	private BufferedImage scale(@Nonnull BufferedImage image, int width, int height) {
+		boolean alpha = format != ImageFormat.JPEG && image.getColorModel().hasAlpha();
+		BufferedImage result = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = result.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			if (!alpha) {
+				graphics.setColor(Color.WHITE);
+				graphics.fillRect(0, 0, width, height);
+			}
+			graphics.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return result;
+	}
+
+	private void write(@Nonnull BufferedImage image, @Nonnull File target) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format.getFormatName());
+		if (!writers.hasNext()) {
+			throw new IOException("No ImageIO writer for format: " + format.getFormatName());
+		}
+		ImageWriter writer = writers.next();
+		try (ImageOutputStream os = ImageIO.createImageOutputStream(target)) {
+			writer.setOutput(os);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (format == ImageFormat.JPEG) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(quality);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	@Override
+	@Nonnull
+	public Attachment process(@Nonnull Attachment attachment) throws IOException {
+		String contentType = attachment.getContentType().split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+		if (attachment.isFailure() || !IMAGE_CONTENT_TYPES.contains(contentType)) {
+			return attachment;
+		}
+		File file = Objects.requireNonNull(attachment.getFile());
+		BufferedImage image = ImageIO.read(file);
+		if (image == null) {
+			return attachment;
+		}
+		int width = image.getWidth();
+		int height = image.getHeight();
+		double ratio = Math.min(1d, (double) maxDimension / Math.max(width, height));
+		int scaledWidth = Math.max(1, (int) Math.round(width * ratio));
+		int scaledHeight = Math.max(1, (int) Math.round(height * ratio));
+
+		File scaled = Files.createTempFile("rp-karate-", format.getExtension()).toFile();
+		try {
+			write(scale(image, scaledWidth, scaledHeight), scaled);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(scaled.toPath());
+			throw e;
+		}
+		if (scaled.length() >= file.length()) {
+			Files.deleteIfExists(scaled.toPath());
+			return attachment;
+		}
+		String name = attachment.getName();
+		int extension = name.lastIndexOf('.');
+		return attachment.withContent(
+				scaled,
+				(extension > 0 ? name.substring(0, extension) : name) + format.getExtension(),
+				format.getContentType(),
+				String.format(SCALED_IMAGE_MESSAGE_PATTERN, attachment.getMessage(), width, height, scaledWidth, scaledHeight)
+		);
+	}
+}
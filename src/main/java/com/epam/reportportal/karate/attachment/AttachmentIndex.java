@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import io.reactivex.Completable;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Launch-wide index of uploaded attachments keyed by their content hash. It allows to upload identical attachments only once and
+ * replace repeats with a short log which references the first upload. Attachments are registered only once their upload succeeded.
+ * Uploads are also tracked by content size: an attachment of a size which was not uploaded before cannot be a repeat, so its hash is
+ * calculated while it is being uploaded instead of with a separate read.
+ */
+public class AttachmentIndex {
+	public static final String HASH_ALGORITHM = "SHA-256";
+	public static final String DUPLICATE_MESSAGE_PATTERN = "%s\nIdentical to '%s' attached to item %s, %s: %s";
+	private static final int BUFFER_SIZE = 8192;
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final Map<String, Reference> index = new ConcurrentHashMap<>();
+	private final Map<Long, Completable> uploads = new ConcurrentHashMap<>();
+
+	/**
+	 * Reference to the first upload of an attachment.
+	 */
+	public static final class Reference {
+		private final String name;
+		private final String itemUuid;
+		private final String hash;
+
+		public Reference(@Nonnull String name, @Nonnull String itemUuid, @Nonnull String hash) {
+			this.name = name;
+			this.itemUuid = itemUuid;
+			this.hash = hash;
+		}
+
+		@Nonnull
+		public String getName() {
+			return name;
+		}
+
+		@Nonnull
+		public String getItemUuid() {
+			return itemUuid;
+		}
+
+		@Nonnull
+		public String getHash() {
+			return hash;
+		}
+	}
+
+	@Nonnull
+	static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(HASH_ALGORITHM + " algorithm is not supported", e);
+		}
+	}
+
+	@Nonnull
+	static String toHex(@Nonnull byte[] digest) {
+		char[] result = new char[digest.length * 2];
+		for (int i = 0; i < digest.length; i++) {
+			result[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+			result[i * 2 + 1] = HEX[digest[i] & 0xF];
+		}
+		return new String(result);
+	}
+
+	/**
+	 * Calculate content hash of a file, the file is read with a fixed-size buffer.
+	 *
+	 * @param file file to hash
+	 * @return hex-encoded hash
+	 * @throws IOException if the file cannot be read
+	 */
+	@Nonnull
+	public static String hash(@Nonnull File file) throws IOException {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream is = Files.newInputStream(file.toPath())) {
+			int read;
+			while ((read = is.read(buffer)) >= 0) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Calculate content hash of a byte array.
+	 *
+	 * @param content content to hash
+	 * @return hex-encoded hash
+	 */
+	@Nonnull
+	public static String hash(@Nonnull byte[] content) {
+		return toHex(newDigest().digest(content));
+	}
+
+	/**
+	 * Track an upload of content with the given size.
+	 *
+	 * @param size   content size in bytes
+	 * @param upload upload completion
+	 * @return completion of all earlier uploads of the same size, which should be awaited before looking the content up, or null if
+	 * there were no such uploads and the content is new
+	 */
+	@Nullable
+	public Completable startUpload(long size, @Nonnull Completable upload) {
+		Completable[] previous = new Completable[1];
+		uploads.compute(
+				size, (key, uploaded) -> {
+					previous[0] = uploaded;
+					Completable finished = upload.onErrorComplete();
+					return (uploaded == null ? finished : uploaded.mergeWith(finished)).cache();
+				}
+		);
+		return previous[0];
+	}
+
+	/**
+	 * Find a successful upload of the same content.
+	 *
+	 * @param hash attachment content hash
+	 * @return reference to the first upload of the same content, or null if the content was not uploaded yet
+	 */
+	@Nullable
+	public Reference find(@Nonnull String hash) {
+		return index.get(hash);
+	}
+
+	/**
+	 * Register a successful attachment upload.
+	 *
+	 * @param hash     attachment content hash
+	 * @param name     attachment name
+	 * @param itemUuid UUID of the item the attachment is logged to
+	 */
+	public void register(@Nonnull String hash, @Nonnull String name, @Nonnull String itemUuid) {
+		index.putIfAbsent(hash, new Reference(name, itemUuid, hash));
+	}
+
+	/**
+	 * Build a log message for a repeated attachment.
+	 *
+	 * @param message   original attachment log message
+	 * @param reference reference to the first upload
+	 * @return log message
+	 */
+	@Nonnull
+	public static String getDuplicateMessage(@Nonnull String message, @Nonnull Reference reference) {
+		return String.format(
+				DUPLICATE_MESSAGE_PATTERN,
+				message,
+				reference.getName(),
+				reference.getItemUuid(),
+				HASH_ALGORITHM,
+				reference.getHash()
+		);
+	}
+
+	/**
+	 * @return number of unique attachments registered
+	 */
+	public int size() {
+		return index.size();
+	}
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.core.Embed;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.CompletableSubject;
+import io.reactivex.subjects.MaybeSubject;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import static com.epam.reportportal.karate.ReportPortalUtils.getAttachmentMessage;
+
+/**
+ * Entry point for attachment reporting. Depending on Karate agent parameters attachments are either loaded into memory and sent with
+ * common log batches, or streamed from files by {@link AttachmentUploader}. Attachments can be collected into per-Scenario
+ * {@link AttachmentBundle}s and transformed by a chain of {@link AttachmentProcessor}s on a background pool before reporting. Heavy
+ * attachments are moved into a {@link BlobStore} by {@link AttachmentOffloader}. Repeated attachments are optionally deduplicated with
+ * launch-wide {@link AttachmentIndex}. Attachments of passed tests can be deferred behind failed ones by {@link AttachmentScheduler}.
+ */
+public class AttachmentManager {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentManager.class);
+
+	private final AttachmentIndex index;
+	private final AttachmentUploader uploader;
+	private final List<AttachmentProcessor> processors = new ArrayList<>();
+	private final ExecutorService processingExecutor;
+	private final Scheduler processingScheduler;
+	private final AttachmentOffloader offloader;
+	private final PendingTasks processing = new PendingTasks();
+	private final boolean bundle;
+	private final Map<String, AttachmentBundle> bundles = new ConcurrentHashMap<>();
+	private final Map<String, MaybeSubject<Boolean>> scenarioResults = new ConcurrentHashMap<>();
+	private final AttachmentScheduler scheduler;
+	private final Duration deferTimeout;
+
+	/**
+	 * Create an attachment manager.
+	 *
+	 * @param launch     Launch instance supplier
+	 * @param client     ReportPortal client for streamed uploads, or null if streaming and deferring are not possible
+	 * @param parameters Karate agent parameters
+	 */
+	public AttachmentManager(@Nonnull Supplier<Launch> launch, @Nullable ReportPortalClient client, @Nonnull KarateParameters parameters) {
+		index = parameters.isAttachmentDeduplicate() ? new AttachmentIndex() : null;
+		// Deferred attachments need the upload result to keep the queue order, so they are never sent within log batches
+		uploader = (parameters.isAttachmentStream() || parameters.isAttachmentDeferPassed()) && client != null ?
+				new AttachmentUploader(launch, client, index, parameters.getAttachmentUploadThreads()) :
+				null;
+		bundle = parameters.isAttachmentBundle();
+		if (parameters.isAttachmentCompress()) {
+			processors.add(new AttachmentCompressor(parameters.getAttachmentCompressThreshold()));
+		}
+		if (parameters.getAttachmentImageMaxSize() > 0) {
+			processors.add(new AttachmentImageScaler(
+					parameters.getAttachmentImageMaxSize(),
+					parameters.getAttachmentImageFormat(),
+					parameters.getAttachmentImageQuality()
+			));
+		}
+		boolean budget = parameters.getAttachmentMaxSize() > 0 || parameters.getAttachmentLaunchMaxSize() > 0;
+		offloader = budget || parameters.getAttachmentOffloadSize() > 0 ?
+				new AttachmentOffloader(
+						createBlobStore(parameters),
+						parameters.getAttachmentOffloadSize(),
+						budget ? new AttachmentBudget(parameters.getAttachmentMaxSize(), parameters.getAttachmentLaunchMaxSize()) : null,
+						parameters.getAttachmentStoreThreads()
+				) :
+				null;
+		scheduler = parameters.isAttachmentDeferPassed() ? new AttachmentScheduler() : null;
+		deferTimeout = Duration.ofMillis(Math.max(0, parameters.getAttachmentDeferTimeout()));
+		if (processors.isEmpty()) {
+			processingExecutor = null;
+			processingScheduler = null;
+		} else {
+			processingExecutor = AttachmentExecutors.newFixedThreadPool("attachment-processing", parameters.getAttachmentProcessingThreads());
+			processingScheduler = Schedulers.from(processingExecutor);
+		}
+	}
+
+	/**
+	 * Create a blob store configured in Karate agent parameters, falls back to {@link FileSystemBlobStore} if the configured store cannot
+	 * be created.
+	 *
+	 * @param parameters Karate agent parameters
+	 * @return blob store instance
+	 */
+	@Nonnull
+	public static BlobStore createBlobStore(@Nonnull KarateParameters parameters) {
+		String storeClass = parameters.getAttachmentStore();
+		if (storeClass != null) {
+			try {
+				return Class.forName(storeClass).asSubclass(BlobStore.class).getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException | ClassCastException e) {
+				LOGGER.error("Unable to create blob store '{}', storing attachments locally", storeClass, e);
+			}
+		}
+		return new FileSystemBlobStore(Paths.get(parameters.getAttachmentSpillDirectory()));
+	}
+
+	/**
+	 * Report a Karate embed as an attachment.
+	 *
+	 * @param itemId item ID future
+	 * @param embed  Karate's Embed object
+	 */
+	public void embed(@Nonnull Maybe<String> itemId, @Nonnull Embed embed) {
+		embed(itemId, embed, null, false);
+	}
+
+	/**
+	 * Report a Karate embed as an attachment, or add it to a bundle if bundling is enabled. If deferring is enabled, attachments of
+	 * passed tests are held until the Scenario is finished by {@link #finishScenario(String, boolean)}. Attachments of a Scenario which
+	 * has not failed yet are processed only once it is finished, since a later Step may still fail it.
+	 *
+	 * @param itemId      item ID future, used if the embed is not bundled
+	 * @param embed       Karate's Embed object
+	 * @param scenarioKey key of the Scenario, usually Scenario unique ID, or null to report the embed separately and at once
+	 * @param failure     true if the embed belongs to a failed test, such attachments are kept intact where possible
+	 */
+	public void embed(@Nonnull Maybe<String> itemId, @Nonnull Embed embed, @Nullable String scenarioKey, boolean failure) {
+		File file = embed.getFile();
+		String contentType = embed.getResourceType().contentType;
+		if (bundle && scenarioKey != null) {
+			try {
+				AttachmentBundle attachmentBundle = bundles.computeIfAbsent(scenarioKey, key -> {
+					try {
+						return new AttachmentBundle();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				attachmentBundle.add(file, file.getName(), contentType);
+				return;
+			} catch (IOException | UncheckedIOException e) {
+				LOGGER.warn("Unable to add attachment to bundle, reporting it separately: {}", file.getAbsolutePath(), e);
+			}
+		}
+		String message = getAttachmentMessage(contentType);
+		Attachment attachment = new Attachment(file, file.getName(), contentType, message, LogLevel.INFO, Instant.now(), false, failure);
+		Maybe<Boolean> scenarioResult = failure || scenarioKey == null || processors.isEmpty() ?
+				null :
+				scenarioResults.computeIfAbsent(scenarioKey, key -> MaybeSubject.create());
+		schedule(itemId, attachment, scenarioKey, scenarioResult);
+	}
+
+	private void schedule(@Nonnull Maybe<String> itemId, @Nonnull Attachment attachment, @Nullable String scenarioKey,
+			@Nullable Maybe<Boolean> scenarioResult) {
+		if (scheduler == null || scenarioKey == null) {
+			//noinspection ResultOfMethodCallIgnored
+			deliver(itemId, prepare(attachment, null, scenarioResult));
+		} else if (attachment.isFailure()) {
+			scheduler.priority(deliver(itemId, prepare(attachment, null, scenarioResult)));
+		} else {
+			AttachmentScheduler.Deferred deferred = scheduler.defer(scenarioKey);
+			deferred.setDelivery(deliver(itemId, prepare(attachment, deferred.getGate(), scenarioResult)));
+		}
+	}
+
+	/**
+	 * Start processing of attachments held for a finished Scenario, attachments of a failed Scenario are kept intact. If deferring is
+	 * enabled, release them: at once if the Scenario failed, or into the low-priority queue otherwise.
+	 *
+	 * @param scenarioKey key of the Scenario, usually Scenario unique ID
+	 * @param failed      true if the Scenario failed
+	 */
+	public void finishScenario(@Nonnull String scenarioKey, boolean failed) {
+		MaybeSubject<Boolean> scenarioResult = scenarioResults.remove(scenarioKey);
+		if (scenarioResult != null) {
+			scenarioResult.onSuccess(failed);
+		}
+		if (scheduler != null) {
+			scheduler.finishScenario(scenarioKey, failed);
+		}
+	}
+
+	/**
+	 * Complete a bundle and report it as a single zip attachment. Does nothing if no attachments were bundled with the key.
+	 *
+	 * @param bundleKey key of the bundle
+	 * @param itemId    item ID future to attach the bundle to
+	 * @param failed    true if the bundle belongs to a failed test
+	 */
+	public void finishBundle(@Nonnull String bundleKey, @Nonnull Maybe<String> itemId, boolean failed) {
+		AttachmentBundle attachmentBundle = bundles.remove(bundleKey);
+		if (attachmentBundle == null) {
+			return;
+		}
+		try {
+			schedule(itemId, attachmentBundle.finish(LogLevel.INFO, failed), bundleKey, null);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to complete attachment bundle", e);
+			attachmentBundle.close();
+		}
+	}
+
+	/**
+	 * Report a file as an attachment.
+	 *
+	 * @param itemId      item ID future
+	 * @param file        file to attach
+	 * @param name        attachment name
+	 * @param contentType attachment content type
+	 * @param message     log message
+	 * @param level       log level
+	 * @param logTime     log time
+	 */
+	public void attach(@Nonnull Maybe<String> itemId, @Nonnull File file, @Nonnull String name, @Nonnull String contentType,
+			@Nonnull String message, @Nonnull LogLevel level, @Nonnull Instant logTime) {
+		attach(itemId, new Attachment(file, name, contentType, message, level, logTime, false));
+	}
+
+	/**
+	 * Process and report an attachment.
+	 *
+	 * @param itemId     item ID future
+	 * @param attachment attachment to report
+	 */
+	public void attach(@Nonnull Maybe<String> itemId, @Nonnull Attachment attachment) {
+		//noinspection ResultOfMethodCallIgnored
+		deliver(itemId, prepare(attachment, null, null));
+	}
+
+	@Nonnull
+	private Maybe<Attachment> prepare(@Nonnull Attachment attachment, @Nullable Maybe<Boolean> gate,
+			@Nullable Maybe<Boolean> scenarioResult) {
+		if (processors.isEmpty() && offloader == null && gate == null) {
+			return Maybe.just(attachment);
+		}
+		Maybe<Attachment> source = scenarioResult == null ?
+				Maybe.just(attachment) :
+				scenarioResult.map(failed -> failed ? attachment.withFailure() : attachment);
+		Maybe<Attachment> processed = processors.isEmpty() ? source : source.observeOn(processingScheduler).map(this::process);
+		if (offloader != null) {
+			processed = processed.flatMap(offloader::offload);
+		}
+		if (gate != null) {
+			Maybe<Attachment> opened = processed;
+			processed = gate.flatMap(open -> opened).doOnComplete(attachment::release);
+		}
+		processed = processed.cache();
+		processing.track(processed.ignoreElement());
+		return processed;
+	}
+
+	@Nonnull
+	private Attachment process(@Nonnull Attachment attachment) {
+		Attachment result = attachment;
+		for (AttachmentProcessor processor : processors) {
+			if (result.getFile() == null) {
+				break;
+			}
+			try {
+				Attachment next = processor.process(result);
+				if (next != result) {
+					result.release();
+				}
+				result = next;
+			} catch (IOException | RuntimeException e) {
+				LOGGER.warn("Unable to process attachment: {}", result.getName(), e);
+			}
+		}
+		return result;
+	}
+
+	@Nonnull
+	private Completable deliver(@Nonnull Maybe<String> itemId, @Nonnull Maybe<Attachment> attachment) {
+		if (uploader != null) {
+			return uploader.upload(itemId, attachment);
+		}
+		CompletableSubject delivered = CompletableSubject.create();
+		boolean emitted = ReportPortal.emitLog(
+				attachment.flatMap(a -> itemId).doOnComplete(delivered::onComplete).doOnError(delivered::onError), id -> {
+					try {
+						return buildLog(id, attachment.blockingGet());
+					} finally {
+						delivered.onComplete();
+					}
+				}
+		);
+		if (!emitted) {
+			//noinspection ResultOfMethodCallIgnored
+			attachment.subscribe(Attachment::releaseReservation, e -> LOGGER.debug("Unable to prepare attachment", e));
+			delivered.onComplete();
+		}
+		return delivered;
+	}
+
+	@Nonnull
+	private SaveLogRQ buildLog(@Nonnull String itemUuid, @Nonnull Attachment attachment) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemUuid);
+		rq.setLevel(attachment.getLevel().name());
+		rq.setLogTime(attachment.getLogTime());
+		rq.setMessage(attachment.getMessage());
+		File file = attachment.getFile();
+		if (file == null) {
+			return rq;
+		}
+		byte[] content;
+		try {
+			content = Files.readAllBytes(file.toPath());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to read attachment file: {}", file.getAbsolutePath(), e);
+			attachment.releaseReservation();
+			return rq;
+		} finally {
+			attachment.release();
+		}
+		if (index != null) {
+			String hash = AttachmentIndex.hash(content);
+			AttachmentIndex.Reference reference = index.find(hash);
+			if (reference != null) {
+				attachment.releaseReservation();
+				rq.setMessage(AttachmentIndex.getDuplicateMessage(attachment.getMessage(), reference));
+				return rq;
+			}
+			// Log batch results are not reported back by the client, so the attachment is registered once it is added to a batch
+			index.register(hash, attachment.getName(), itemUuid);
+		}
+		SaveLogRQ.File rqFile = new SaveLogRQ.File();
+		rqFile.setName(attachment.getName());
+		rqFile.setContent(content);
+		rqFile.setContentType(attachment.getContentType());
+		rq.setFile(rqFile);
+		return rq;
+	}
+
+	/**
+	 * Wait for all background attachment processing to finish and release resources.
+	 *
+	 * @param timeout maximum time to wait
+	 * @return true if all attachments were processed, false if the timeout elapsed
+	 */
+	public boolean finish(@Nonnull Duration timeout) {
+		bundles.values().forEach(AttachmentBundle::close);
+		bundles.clear();
+		new ArrayList<>(scenarioResults.keySet()).forEach(key -> finishScenario(key, false));
+		long deadline = System.nanoTime() + timeout.toNanos();
+		boolean result = true;
+		if (scheduler != null) {
+			Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+			result = scheduler.finish(deferTimeout.compareTo(remaining) < 0 ? deferTimeout : remaining);
+		}
+		result &= processing.await(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+		if (!result) {
+			LOGGER.warn("Timed out waiting for {} attachment(s) to be processed", processing.size());
+		}
+		if (processingExecutor != null) {
+			processingExecutor.shutdown();
+		}
+		if (offloader != null) {
+			offloader.close();
+		}
+		if (uploader != null) {
+			result &= uploader.await(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+			uploader.close();
+		}
+		return result;
+	}
+}
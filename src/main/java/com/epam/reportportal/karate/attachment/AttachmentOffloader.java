@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Moves attachments which should not be uploaded to ReportPortal into a {@link BlobStore}: attachments above the offload threshold and
+ * attachments which do not fit into the {@link AttachmentBudget}. Storing runs on a dedicated thread pool, so slow storage does not hold
+ * attachment processing. An offloaded attachment is replaced with a log carrying its location, size and content hash.
+ */
+public class AttachmentOffloader {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentOffloader.class);
+
+	public static final String OFFLOADED_ATTACHMENT_MESSAGE_PATTERN = "%s\nNot uploaded: %s. Stored at: %s, size: %d bytes, %s: %s";
+	public static final String NOT_STORED_ATTACHMENT_MESSAGE_PATTERN = "%s\nNot uploaded: %s. Unable to store it";
+	public static final String OFFLOAD_THRESHOLD_REASON = "attachment offload size reached";
+
+	private final BlobStore store;
+	private final long threshold;
+	private final AttachmentBudget budget;
+	private final ExecutorService executor;
+	private final Scheduler scheduler;
+
+	/**
+	 * Create an offloader.
+	 *
+	 * @param store       storage for offloaded attachments
+	 * @param threshold   minimal size in bytes of an attachment to offload unconditionally, zero or negative value disables it
+	 * @param budget      upload budget, attachments which do not fit are offloaded; null means no budget
+	 * @param threadCount number of threads which store attachments
+	 */
+	public AttachmentOffloader(@Nonnull BlobStore store, long threshold, @Nullable AttachmentBudget budget, int threadCount) {
+		this.store = store;
+		this.threshold = threshold;
+		this.budget = budget;
+		executor = AttachmentExecutors.newFixedThreadPool("attachment-store", threadCount);
+		scheduler = Schedulers.from(executor);
+	}
+
+	@Nonnull
+	private Attachment store(@Nonnull Attachment attachment, @Nonnull File file, @Nonnull String reason) throws Exception {
+		long size = file.length();
+		String hash = AttachmentIndex.hash(file);
+		String location = store.store(file, attachment.getName(), attachment.getContentType(), hash);
+		LOGGER.info("Attachment '{}' of {} bytes is not uploaded ({}), stored at: {}", attachment.getName(), size, reason, location);
+		attachment.release();
+		return attachment.withoutContent(String.format(
+				OFFLOADED_ATTACHMENT_MESSAGE_PATTERN,
+				attachment.getMessage(),
+				reason,
+				location,
+				size,
+				AttachmentIndex.HASH_ALGORITHM,
+				hash
+		));
+	}
+
+	@Nonnull
+	private Attachment drop(@Nonnull Attachment attachment, @Nonnull String reason) {
+		attachment.release();
+		return attachment.withoutContent(String.format(NOT_STORED_ATTACHMENT_MESSAGE_PATTERN, attachment.getMessage(), reason));
+	}
+
+	@Nonnull
+	private Attachment onStoreError(@Nonnull Attachment attachment, long size, @Nonnull String reason, @Nonnull Throwable error) {
+		// Only attachments over the offload size may be uploaded instead, and only if they fit into the budget
+		String dropReason = OFFLOAD_THRESHOLD_REASON.equals(reason) ? (budget == null ? null : budget.acquire(size)) : reason;
+		if (dropReason != null) {
+			LOGGER.warn("Unable to store attachment '{}', it is not uploaded ({})", attachment.getName(), dropReason, error);
+			return drop(attachment, dropReason);
+		}
+		LOGGER.warn("Unable to store attachment '{}', uploading it instead", attachment.getName(), error);
+		return budget == null ? attachment : attachment.withReservation(new AttachmentBudget.Reservation(budget, size));
+	}
+
+	/**
+	 * Offload an attachment to the store if it should not be uploaded. If the store fails the attachment is uploaded as usual only if it
+	 * fits into the budget, otherwise it is replaced with a log which says that it was not uploaded. An uploaded attachment holds its
+	 * budget reservation, which should be released if the attachment is not uploaded in the end.
+	 *
+	 * @param attachment attachment to check
+	 * @return the same attachment if it should be uploaded, or an attachment without content which refers to the stored copy
+	 */
+	@Nonnull
+	public Maybe<Attachment> offload(@Nonnull Attachment attachment) {
+		File file = attachment.getFile();
+		if (file == null) {
+			return Maybe.just(attachment);
+		}
+		long size = file.length();
+		String reason;
+		if (threshold > 0 && size >= threshold) {
+			reason = OFFLOAD_THRESHOLD_REASON;
+		} else if (budget != null) {
+			reason = budget.acquire(size);
+			if (reason == null) {
+				return Maybe.just(attachment.withReservation(new AttachmentBudget.Reservation(budget, size)));
+			}
+		} else {
+			return Maybe.just(attachment);
+		}
+		return Maybe.fromCallable(() -> store(attachment, file, reason))
+				.subscribeOn(scheduler)
+				.onErrorReturn(e -> onStoreError(attachment, size, reason, e));
+	}
+
+	/**
+	 * Stop store threads and close the store. Pending attachments are not waited for.
+	 */
+	public void close() {
+		executor.shutdown();
+		store.close();
+	}
+}
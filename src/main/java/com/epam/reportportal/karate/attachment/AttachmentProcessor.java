@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.IOException;
+
+/**
+ * A step of attachment processing pipeline, which runs on a background pool before an attachment is reported.
+ */
+public interface AttachmentProcessor {
+	/**
+	 * Process an attachment.
+	 *
+	 * @param attachment attachment to process, always has a file
+	 * @return the same attachment if it should be reported as is, or a processed copy
+	 * @throws IOException if the attachment cannot be processed, the original attachment is reported in this case
+	 */
+	@Nonnull
+	Attachment process(@Nonnull Attachment attachment) throws IOException;
+}
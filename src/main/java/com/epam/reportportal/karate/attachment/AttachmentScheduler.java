@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Failed-first attachment scheduler. Attachments of failed tests are delivered at once, attachments of passed tests are parked until the
+ * Scenario is finished and then put into a low-priority queue. The queue is drained one attachment at a time and only when there are no
+ * pending deliveries of failed tests' attachments. Everything left in the queue at launch finish after the time budget is dropped.
+ */
+public class AttachmentScheduler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentScheduler.class);
+
+	/**
+	 * Attachment delivery which waits for its gate to be opened.
+	 */
+	public static final class Deferred {
+		private final MaybeSubject<Boolean> gate = MaybeSubject.create();
+		private volatile Completable delivery = Completable.complete();
+
+		private Deferred() {
+		}
+
+		/**
+		 * @return gate to put in front of the attachment delivery, it emits a value when the delivery can start and completes empty if
+		 * the attachment is dropped
+		 */
+		@Nonnull
+		public Maybe<Boolean> getGate() {
+			return gate;
+		}
+
+		/**
+		 * @param delivery the attachment delivery, which completes when the attachment is uploaded or its upload failed
+		 */
+		public void setDelivery(@Nonnull Completable delivery) {
+			this.delivery = delivery;
+		}
+	}
+
+	private final Map<String, List<Deferred>> parked = new ConcurrentHashMap<>();
+	private final Queue<Deferred> queue = new ConcurrentLinkedQueue<>();
+	private final PendingTasks deferred = new PendingTasks();
+	private final AtomicInteger priorityPending = new AtomicInteger();
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	/**
+	 * Register a delivery of a failed test attachment. Deferred attachments wait until all such deliveries are finished.
+	 *
+	 * @param delivery the attachment delivery
+	 */
+	public void priority(@Nonnull Completable delivery) {
+		priorityPending.incrementAndGet();
+		//noinspection ResultOfMethodCallIgnored
+		delivery.onErrorComplete().doFinally(() -> {
+			if (priorityPending.decrementAndGet() <= 0) {
+				drain();
+			}
+		}).subscribe();
+	}
+
+	/**
+	 * Park an attachment delivery until the Scenario is finished.
+	 *
+	 * @param scenarioKey key of the Scenario, usually Scenario unique ID
+	 * @return deferred delivery to set up
+	 */
+	@Nonnull
+	public Deferred defer(@Nonnull String scenarioKey) {
+		Deferred result = new Deferred();
+		parked.compute(scenarioKey, (k, v) -> {
+			List<Deferred> scenarioDeferred = v == null ? new ArrayList<>() : v;
+			scenarioDeferred.add(result);
+			return scenarioDeferred;
+		});
+		return result;
+	}
+
+	/**
+	 * Release attachments parked for a Scenario: at once if the Scenario failed, or into the low-priority queue otherwise.
+	 *
+	 * @param scenarioKey key of the Scenario
+	 * @param failed      true if the Scenario failed
+	 */
+	public void finishScenario(@Nonnull String scenarioKey, boolean failed) {
+		List<Deferred> scenarioDeferred = parked.remove(scenarioKey);
+		if (scenarioDeferred == null) {
+			return;
+		}
+		if (failed) {
+			scenarioDeferred.forEach(d -> {
+				priority(d.delivery);
+				d.gate.onSuccess(Boolean.TRUE);
+			});
+			return;
+		}
+		scenarioDeferred.forEach(d -> {
+			deferred.track(d.delivery);
+			queue.add(d);
+		});
+		drain();
+	}
+
+	private void drain() {
+		if (priorityPending.get() > 0 || !draining.compareAndSet(false, true)) {
+			return;
+		}
+		Deferred next = queue.poll();
+		if (next == null) {
+			draining.set(false);
+			if (!queue.isEmpty()) {
+				drain();
+			}
+			return;
+		}
+		next.gate.onSuccess(Boolean.TRUE);
+		//noinspection ResultOfMethodCallIgnored
+		next.delivery.onErrorComplete().doFinally(() -> {
+			draining.set(false);
+			drain();
+		}).subscribe();
+	}
+
+	/**
+	 * Wait for the low-priority queue to drain and drop everything left after the timeout. Attachments of unfinished Scenarios are
+	 * queued as passed.
+	 *
+	 * @param timeout time budget for deferred attachments
+	 * @return true if all deferred attachments were delivered, false if some of them were dropped
+	 */
+	public boolean finish(@Nonnull Duration timeout) {
+		new ArrayList<>(parked.keySet()).forEach(key -> finishScenario(key, false));
+		if (deferred.await(timeout)) {
+			return true;
+		}
+		int dropped = 0;
+		Deferred next;
+		while ((next = queue.poll()) != null) {
+			next.gate.onComplete();
+			dropped++;
+		}
+		if (dropped > 0) {
+			LOGGER.warn("Dropped {} attachment(s) of passed tests, which were not delivered within {} ms", dropped, timeout.toMillis());
+		}
+		return false;
+	}
+}
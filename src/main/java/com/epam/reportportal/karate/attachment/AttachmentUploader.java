@@ -0,0 +1,291 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.client.FileRequestBody;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.Constants;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.CompletableSubject;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Uploads attachments to ReportPortal directly from files. Unlike {@link com.epam.reportportal.service.ReportPortal#emitLog} the
+ * file content is never loaded into memory: it is streamed from disk into the HTTP request body, so memory usage does not depend on
+ * attachment size. If an {@link AttachmentIndex} is given, the file content hash is calculated while the file is being sent, and
+ * repeated attachments are replaced with a log referencing the first successful upload. A separate read to calculate the hash before
+ * sending is needed only for attachments of the same size as an earlier one.
+ */
+public class AttachmentUploader {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentUploader.class);
+	private static final MediaType JSON_TYPE = MediaType.get("application/json; charset=utf-8");
+	private static final MediaType DEFAULT_TYPE = MediaType.get("application/octet-stream");
+
+	private final Supplier<Launch> launch;
+	private final ReportPortalClient client;
+	private final AttachmentIndex index;
+	private final ExecutorService executor;
+	private final Scheduler scheduler;
+	private final PendingTasks pending = new PendingTasks();
+
+	/**
+	 * Create an uploader.
+	 *
+	 * @param launch      Launch instance supplier, used to get Launch UUID
+	 * @param client      ReportPortal client to send requests with
+	 * @param index       attachment index to deduplicate uploads, or null to upload every attachment
+	 * @param threadCount number of upload threads
+	 */
+	public AttachmentUploader(@Nonnull Supplier<Launch> launch, @Nonnull ReportPortalClient client, @Nullable AttachmentIndex index,
+			int threadCount) {
+		this.launch = launch;
+		this.client = client;
+		this.index = index;
+		executor = AttachmentExecutors.newFixedThreadPool("attachment-upload", threadCount);
+		scheduler = Schedulers.from(executor);
+	}
+
+	/**
+	 * File request body which calculates the file content hash while the file is being sent.
+	 */
+	private static final class HashingFileBody extends FileRequestBody {
+		private volatile String hash;
+
+		private HashingFileBody(@Nonnull File file, @Nonnull MediaType contentType) {
+			super(file, contentType);
+		}
+
+		@Override
+		public void writeTo(@Nonnull BufferedSink sink) throws IOException {
+			hash = null;
+			MessageDigest digest = AttachmentIndex.newDigest();
+			try (Source source = Okio.source(new DigestInputStream(Files.newInputStream(getFile().toPath()), digest))) {
+				sink.writeAll(source);
+			}
+			hash = AttachmentIndex.toHex(digest.digest());
+		}
+
+		/**
+		 * @return hash of the file content, or null if the body was not written completely
+		 */
+		@Nullable
+		public String getHash() {
+			return hash;
+		}
+	}
+
+	@Nonnull
+	private static MediaType getMediaType(@Nonnull String contentType) {
+		return ofNullable(MediaType.parse(contentType)).orElse(DEFAULT_TYPE);
+	}
+
+	@Nonnull
+	private static List<MultipartBody.Part> buildMultipartRequest(@Nonnull SaveLogRQ rq, @Nullable RequestBody file)
+			throws JsonProcessingException {
+		String json = HttpRequestUtils.MAPPER.writeValueAsString(Collections.singletonList(rq));
+		MultipartBody.Part jsonPart = MultipartBody.Part.createFormData(Constants.LOG_REQUEST_JSON_PART, null, RequestBody.create(json, JSON_TYPE));
+		if (file == null) {
+			return Collections.singletonList(jsonPart);
+		}
+		return Arrays.asList(jsonPart, MultipartBody.Part.createFormData(Constants.LOG_REQUEST_BINARY_PART, rq.getFile().getName(), file));
+	}
+
+	/**
+	 * Build multipart log request which streams the file content from disk.
+	 *
+	 * @param rq          log request, without file content
+	 * @param file        file to attach, or null to send the log without attachment
+	 * @param contentType file content type
+	 * @return multipart request parts
+	 * @throws JsonProcessingException if the log request serialization failed
+	 */
+	@Nonnull
+	public static List<MultipartBody.Part> buildMultipartRequest(@Nonnull SaveLogRQ rq, @Nullable File file, @Nonnull String contentType)
+			throws JsonProcessingException {
+		return buildMultipartRequest(rq, file == null ? null : new FileRequestBody(file, getMediaType(contentType)));
+	}
+
+	@Nonnull
+	private static SaveLogRQ buildLog(@Nonnull String launchUuid, @Nonnull String itemUuid, @Nonnull Attachment attachment,
+			@Nonnull String message) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setLaunchUuid(launchUuid);
+		rq.setItemUuid(itemUuid);
+		rq.setLevel(attachment.getLevel().name());
+		rq.setLogTime(attachment.getLogTime());
+		rq.setMessage(message);
+		return rq;
+	}
+
+	@Nonnull
+	private Completable send(@Nonnull String launchUuid, @Nonnull String itemUuid, @Nonnull Attachment attachment,
+			@Nullable RequestBody file) throws JsonProcessingException {
+		SaveLogRQ rq = buildLog(launchUuid, itemUuid, attachment, attachment.getMessage());
+		if (file != null) {
+			SaveLogRQ.File rqFile = new SaveLogRQ.File();
+			rqFile.setName(attachment.getName());
+			rqFile.setContentType(attachment.getContentType());
+			rq.setFile(rqFile);
+		}
+		return client.log(buildMultipartRequest(rq, file)).ignoreElement();
+	}
+
+	@Nonnull
+	private Completable sendHashing(@Nonnull String launchUuid, @Nonnull String itemUuid, @Nonnull Attachment attachment,
+			@Nonnull File file) throws JsonProcessingException {
+		HashingFileBody body = new HashingFileBody(file, getMediaType(attachment.getContentType()));
+		return send(launchUuid, itemUuid, attachment, body).doOnComplete(() -> {
+			String hash = body.getHash();
+			// The body may be not written by the client, e.g. if the request was diverted elsewhere
+			index.register(hash != null ? hash : AttachmentIndex.hash(file), attachment.getName(), itemUuid);
+		});
+	}
+
+	@Nonnull
+	private Completable sendDeduplicated(@Nonnull String launchUuid, @Nonnull String itemUuid, @Nonnull Attachment attachment,
+			@Nonnull File file) throws IOException {
+		String hash = AttachmentIndex.hash(file);
+		AttachmentIndex.Reference reference = index.find(hash);
+		if (reference != null) {
+			attachment.releaseReservation();
+			SaveLogRQ rq = buildLog(launchUuid, itemUuid, attachment, AttachmentIndex.getDuplicateMessage(attachment.getMessage(), reference));
+			return client.log(buildMultipartRequest(rq, (RequestBody) null)).ignoreElement();
+		}
+		return send(launchUuid, itemUuid, attachment, new FileRequestBody(file, getMediaType(attachment.getContentType())))
+				.doOnComplete(() -> index.register(hash, attachment.getName(), itemUuid));
+	}
+
+	@Nonnull
+	private Completable send(@Nonnull String launchUuid, @Nonnull String itemUuid, @Nonnull Attachment attachment) throws IOException {
+		File file = attachment.getFile();
+		if (file == null) {
+			return send(launchUuid, itemUuid, attachment, null);
+		}
+		if (index == null) {
+			return send(launchUuid, itemUuid, attachment, new FileRequestBody(file, getMediaType(attachment.getContentType())));
+		}
+		CompletableSubject uploaded = CompletableSubject.create();
+		Completable previous = index.startUpload(file.length(), uploaded);
+		Completable upload = previous == null ?
+				sendHashing(launchUuid, itemUuid, attachment, file) :
+				previous.observeOn(scheduler).andThen(Completable.defer(() -> sendDeduplicated(launchUuid, itemUuid, attachment, file)));
+		return upload.doFinally(uploaded::onComplete);
+	}
+
+	/**
+	 * Upload an attachment. The method returns immediately, the upload is performed in background once the item ID and the attachment
+	 * are ready. Temporary attachment files are deleted after the upload.
+	 *
+	 * @param itemId     item ID future
+	 * @param attachment attachment future
+	 * @return upload completion
+	 */
+	@Nonnull
+	public Completable upload(@Nonnull Maybe<String> itemId, @Nonnull Maybe<Attachment> attachment) {
+		Completable upload = attachment.flatMapCompletable(a -> Maybe.zip(
+								launch.get().getLaunch(), itemId, (launchUuid, itemUuid) -> new String[] { launchUuid, itemUuid })
+						.observeOn(scheduler)
+						.flatMapCompletable(ids -> send(ids[0], ids[1], a))
+						.doOnError(e -> {
+							LOGGER.error("Unable to upload attachment: {}", a.getName(), e);
+							a.releaseReservation();
+						})
+						.doFinally(a::release))
+				.onErrorComplete()
+				.cache();
+		pending.track(upload);
+		return upload;
+	}
+
+	/**
+	 * Upload a file as a log attachment. The method returns immediately, the upload is performed in background.
+	 *
+	 * @param itemId      item ID future
+	 * @param file        file to attach
+	 * @param name        attachment name
+	 * @param contentType attachment content type
+	 * @param message     log message
+	 * @param level       log level
+	 * @param logTime     log time
+	 * @return upload completion
+	 */
+	@Nonnull
+	public Completable upload(@Nonnull Maybe<String> itemId, @Nonnull File file, @Nonnull String name, @Nonnull String contentType,
+			@Nonnull String message, @Nonnull LogLevel level, @Nonnull Instant logTime) {
+		return upload(itemId, Maybe.just(new Attachment(file, name, contentType, message, level, logTime, false)));
+	}
+
+	/**
+	 * @return number of uploads which are not finished yet
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Wait for all scheduled uploads to finish, including uploads scheduled during the wait.
+	 *
+	 * @param timeout maximum time to wait
+	 * @return true if all uploads finished, false if the timeout elapsed
+	 */
+	public boolean await(@Nonnull Duration timeout) {
+		if (pending.await(timeout)) {
+			return true;
+		}
+		LOGGER.warn("Timed out waiting for {} attachment upload(s) to finish", pending.size());
+		return false;
+	}
+
+	/**
+	 * Stop upload threads. Pending uploads are not waited for, call {@link #await(Duration)} before.
+	 */
+	public void close() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Storage for heavy payloads which should not be uploaded to ReportPortal. The agent stores the content and logs only its location.
+ * Implementations are called from a dedicated thread pool, so they may block on I/O, and must be thread-safe.
+ * <p>
+ * A custom implementation is set with its fully qualified class name in {@code rp.karate.attachment.store} property, the class should
+ * have a public no-argument constructor.
+ */
+public interface BlobStore extends Closeable {
+	/**
+	 * Store a file.
+	 *
+	 * @param file        file to store
+	 * @param name        original attachment name
+	 * @param contentType attachment content type
+	 * @param hash        hex-encoded SHA-256 hash of the file content
+	 * @return location of the stored content, e.g. a path or a URL, which will be logged to ReportPortal
+	 * @throws IOException if the file cannot be stored
+	 */
+	@Nonnull
+	String store(@Nonnull File file, @Nonnull String name, @Nonnull String contentType, @Nonnull String hash) throws IOException;
+
+	/**
+	 * Release store resources. Called once the launch is finished.
+	 */
+	@Override
+	default void close() {
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * {@link BlobStore} which copies files into a local directory. Files are prefixed with their hash, so identical content is stored once.
+ */
+public class FileSystemBlobStore implements BlobStore {
+	private static final int HASH_PREFIX_LENGTH = 12;
+
+	private final Path directory;
+
+	/**
+	 * Create a store.
+	 *
+	 * @param directory directory to store files in, created on the first store
+	 */
+	public FileSystemBlobStore(@Nonnull Path directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	@Nonnull
+	public String store(@Nonnull File file, @Nonnull String name, @Nonnull String contentType, @Nonnull String hash) throws IOException {
+		Files.createDirectories(directory);
+		Path target = directory.resolve(hash.substring(0, HASH_PREFIX_LENGTH) + "-" + name).toAbsolutePath();
+		if (!Files.exists(target)) {
+			Files.copy(file.toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+		}
+		return target.toString();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import io.reactivex.Completable;
+import jakarta.annotation.Nonnull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Set of background tasks which are not finished yet. Tasks remove themselves from the set on completion.
+ */
+final class PendingTasks {
+	private final Set<Completable> pending = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Subscribe to a task and keep it in the set until it finishes.
+	 *
+	 * @param task cached task
+	 */
+	void track(@Nonnull Completable task) {
+		pending.add(task);
+		//noinspection ResultOfMethodCallIgnored
+		task.doFinally(() -> pending.remove(task)).onErrorComplete().subscribe();
+	}
+
+	int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Wait for all tasks to finish, including tasks added during the wait.
+	 *
+	 * @param timeout maximum time to wait
+	 * @return true if all tasks finished, false if the timeout elapsed
+	 */
+	boolean await(@Nonnull Duration timeout) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		List<Completable> snapshot = new ArrayList<>(pending);
+		while (!snapshot.isEmpty()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0 || !Completable.merge(snapshot).onErrorComplete().blockingAwait(remaining, TimeUnit.NANOSECONDS)) {
+				return false;
+			}
+			snapshot = new ArrayList<>(pending);
+		}
+		return true;
+	}
+}
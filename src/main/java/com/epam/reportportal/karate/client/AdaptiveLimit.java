@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.exception.ReportPortalException;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.HttpException;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.InterruptedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit which follows AIMD (additive increase, multiplicative decrease): it grows by one per limit's worth of fast
+ * responses while all the limit is in use, and is multiplied by {@link #BACKOFF_RATIO} on a slow response or an overload error (HTTP 429,
+ * 5xx or a timeout). Only requests started after the previous decrease can decrease the limit again, so a burst of slow responses to
+ * the same window of requests backs off once.
+ */
+public class AdaptiveLimit implements AdaptiveLimitMXBean {
+	public static final int INITIAL_LIMIT = 8;
+	public static final double BACKOFF_RATIO = 0.5;
+	public static final String OBJECT_NAME_PATTERN = "com.epam.reportportal.karate:type=AdaptiveLimit,name=%d";
+	private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveLimit.class);
+	private static final AtomicLong INSTANCE_COUNTER = new AtomicLong();
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final int SERVER_ERROR = 500;
+
+	private final int min;
+	private final int max;
+	private final long latencyThresholdNanos;
+	private double limit;
+	private long lastDecrease = System.nanoTime();
+	private long decreaseCount;
+	private ObjectName objectName;
+
+	/**
+	 * @param initial          initial limit
+	 * @param min              minimal limit
+	 * @param max              maximal limit
+	 * @param latencyThreshold response time above which the limit is decreased
+	 */
+	public AdaptiveLimit(int initial, int min, int max, @Nonnull Duration latencyThreshold) {
+		this.min = Math.max(1, min);
+		this.max = Math.max(this.min, max);
+		latencyThresholdNanos = latencyThreshold.toNanos();
+		limit = Math.max(this.min, Math.min(this.max, initial));
+	}
+
+	@Override
+	public synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	@Override
+	public synchronized long getDecreaseCount() {
+		return decreaseCount;
+	}
+
+	/**
+	 * Register the limit in the platform MBean server, so it can be watched with JMX tools. The MBean stays registered until
+	 * {@link #unregister()} is called.
+	 *
+	 * @return registered object name, or null if registration failed
+	 */
+	@Nullable
+	public synchronized ObjectName register() {
+		if (objectName != null) {
+			return objectName;
+		}
+		try {
+			ObjectName name = new ObjectName(String.format(OBJECT_NAME_PATTERN, INSTANCE_COUNTER.incrementAndGet()));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			objectName = name;
+			return name;
+		} catch (JMException e) {
+			LOGGER.debug("Unable to register adaptive concurrency limit MBean", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Remove the limit from the platform MBean server, if it was registered.
+	 */
+	public synchronized void unregister() {
+		if (objectName == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException e) {
+			LOGGER.debug("Unable to unregister adaptive concurrency limit MBean", e);
+		}
+		objectName = null;
+	}
+
+	/**
+	 * Check if a request error means that the server is overloaded.
+	 *
+	 * @param error request error
+	 * @return true for HTTP 429 and 5xx responses and timeouts
+	 */
+	public static boolean isOverload(@Nullable Throwable error) {
+		for (Throwable e = error; e != null; e = e.getCause()) {
+			int status = 0;
+			if (e instanceof HttpException) {
+				status = ((HttpException) e).code();
+			} else if (e instanceof ReportPortalException) {
+				status = ((ReportPortalException) e).getStatusCode();
+			} else if (e instanceof InterruptedIOException) {
+				return true;
+			}
+			if (status == TOO_MANY_REQUESTS || status >= SERVER_ERROR) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void decrease(long startNanos) {
+		if (startNanos - lastDecrease < 0) {
+			return;
+		}
+		limit = Math.max(min, limit * BACKOFF_RATIO);
+		lastDecrease = System.nanoTime();
+		decreaseCount++;
+		LOGGER.debug("ReportPortal concurrency limit decreased to {}", getLimit());
+	}
+
+	/**
+	 * Record a completed request.
+	 *
+	 * @param startNanos request start time, from {@link System#nanoTime()}
+	 * @param error      request error, or null if it succeeded
+	 * @param inFlight   number of requests in flight when this one completed, including it
+	 */
+	public synchronized void record(long startNanos, @Nullable Throwable error, int inFlight) {
+		long latency = System.nanoTime() - startNanos;
+		if (error != null ? isOverload(error) : latency > latencyThresholdNanos) {
+			decrease(startNanos);
+		} else if (error == null && inFlight >= getLimit()) {
+			limit = Math.min(max, limit + 1 / limit);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.client;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker state of ReportPortal calls. Outcomes of the last calls are kept in a sliding window; when the share of failed or
+ * slow calls reaches the failure rate the breaker opens. After the open duration a single caller is allowed to probe the server, the
+ * breaker stays half-open until the probe {@link #close() closes} or {@link #open() reopens} it.
+ */
+public class CircuitBreaker {
+	/**
+	 * Circuit breaker state.
+	 */
+	public enum State {
+		/**
+		 * Calls are sent to ReportPortal.
+		 */
+		CLOSED,
+		/**
+		 * Calls are diverted.
+		 */
+		OPEN,
+		/**
+		 * Calls are diverted, while a probe is sent to ReportPortal.
+		 */
+		HALF_OPEN
+	}
+
+	private final boolean[] window;
+	private final int failureRate;
+	private final long slowCallNanos;
+	private final long openNanos;
+	private State state = State.CLOSED;
+	private int position;
+	private int calls;
+	private int failures;
+	private long openedAt;
+
+	/**
+	 * @param windowSize        number of recent calls to evaluate
+	 * @param failureRate       percentage of failed or slow calls in a full window which opens the breaker
+	 * @param slowCallThreshold call duration which is counted as a failure
+	 * @param openDuration      time the breaker stays open before a probe is allowed
+	 */
+	public CircuitBreaker(int windowSize, int failureRate, @Nonnull Duration slowCallThreshold, @Nonnull Duration openDuration) {
+		window = new boolean[Math.max(1, windowSize)];
+		this.failureRate = Math.max(1, failureRate);
+		slowCallNanos = slowCallThreshold.toNanos();
+		openNanos = openDuration.toNanos();
+	}
+
+	@Nonnull
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * Record a call outcome, it is evaluated only while the breaker is closed.
+	 *
+	 * @param duration call duration
+	 * @param error    if the call failed
+	 */
+	public synchronized void record(@Nonnull Duration duration, boolean error) {
+		if (state != State.CLOSED) {
+			return;
+		}
+		boolean failure = error || duration.toNanos() >= slowCallNanos;
+		if (calls == window.length) {
+			failures -= window[position] ? 1 : 0;
+		} else {
+			calls++;
+		}
+		window[position] = failure;
+		failures += failure ? 1 : 0;
+		position = (position + 1) % window.length;
+		if (calls == window.length && failures * 100 >= failureRate * calls) {
+			open();
+		}
+	}
+
+	/**
+	 * Switch the breaker to half-open state if it was open long enough.
+	 *
+	 * @return true if the caller should probe the server
+	 */
+	public synchronized boolean tryHalfOpen() {
+		if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+			state = State.HALF_OPEN;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Open the breaker, e.g. because a probe failed.
+	 */
+	public synchronized void open() {
+		state = State.OPEN;
+		openedAt = System.nanoTime();
+		reset();
+	}
+
+	/**
+	 * Close the breaker, e.g. because a probe succeeded.
+	 */
+	public synchronized void close() {
+		state = State.CLOSED;
+		reset();
+	}
+
+	private void reset() {
+		position = 0;
+		calls = 0;
+		failures = 0;
+	}
+}
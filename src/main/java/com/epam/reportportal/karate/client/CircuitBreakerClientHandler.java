@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.utils.DaemonThreadFactory;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ReportPortalClient} invocation handler guarded by a {@link CircuitBreaker}. While the breaker is open reporting calls are
+ * diverted to a spool and answered with generated IDs, so tests do not wait for a degraded server. The spool is a journal directory in
+ * the offline directory, only sequence numbers and record positions are kept in memory. Once the open duration is over the spool is
+ * uploaded in the original order on a background thread; if the upload succeeds the breaker closes, the spool directory is removed and
+ * calls are sent directly again, with generated IDs replaced by the real ones. If the Launch is finished while the server is still
+ * unavailable the spool directory is kept, to be uploaded later with {@link JournalReplayer}.
+ */
+public class CircuitBreakerClientHandler implements InvocationHandler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreakerClientHandler.class);
+
+	private final ReportPortalClient client;
+	private final CircuitBreaker breaker;
+	private final File offlineDirectory;
+	private final long segmentSize;
+	private final Duration requestTimeout;
+	private final Object lock = new Object();
+	private final NavigableMap<Long, Long> spool = new TreeMap<>();
+	private final Map<String, String> ids = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("breaker"));
+	private File spoolDirectory;
+	private JournalSegmentWriter writer;
+	private int reserved;
+	private boolean draining;
+	private MaybeSubject<Object> launchFinish;
+	private Method launchFinishMethod;
+
+	/**
+	 * @param client           client to delegate calls to
+	 * @param breaker          circuit breaker
+	 * @param offlineDirectory directory to create spool directories in
+	 * @param segmentSize      size of a spool segment file in bytes
+	 * @param requestTimeout   maximum time to wait for a server response while the spool is uploaded
+	 */
+	public CircuitBreakerClientHandler(@Nonnull ReportPortalClient client, @Nonnull CircuitBreaker breaker,
+			@Nonnull File offlineDirectory, long segmentSize, @Nonnull Duration requestTimeout) {
+		this.client = client;
+		this.breaker = breaker;
+		this.offlineDirectory = offlineDirectory;
+		this.segmentSize = segmentSize;
+		this.requestTimeout = requestTimeout;
+	}
+
+	@Nonnull
+	private Maybe<?> measure(@Nonnull Maybe<?> call) {
+		return Maybe.defer(() -> {
+			long start = System.nanoTime();
+			return call.doOnEvent((result, error) -> breaker.record(Duration.ofNanos(System.nanoTime() - start), error != null));
+		});
+	}
+
+	@Nullable
+	private Object send(@Nonnull Method method, @Nullable Object[] args) throws Throwable {
+		// Only calls which refer to an ID generated while the breaker was open are serialized to replace it
+		if (OfflineClientHandler.REPORTING_METHODS.contains(method.getName()) && JournalEntry.refersTo(args, ids.keySet())) {
+			return measure(JournalEntry.of(0, method, args).replaceIds(ids).send(client));
+		}
+		Object result;
+		try {
+			result = method.invoke(client, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+		return result instanceof Maybe ? measure((Maybe<?>) result) : result;
+	}
+
+	@Nonnull
+	private JournalSegmentWriter open() throws IOException {
+		if (writer == null) {
+			File directory = new File(
+					offlineDirectory,
+					RequestJournal.SPOOL_DIRECTORY_PREFIX + System.currentTimeMillis() + "-" + UUID.randomUUID()
+			);
+			writer = new JournalSegmentWriter(directory, segmentSize);
+			spoolDirectory = directory;
+		}
+		return writer;
+	}
+
+	@Nonnull
+	private Maybe<?> divert(@Nonnull JournalSegmentWriter target, @Nonnull File directory, @Nonnull Method method,
+			@Nullable Object[] args) {
+		String id = OfflineClientHandler.CREATING_METHODS.contains(method.getName()) ? UUID.randomUUID().toString() : null;
+		long entrySequence = sequence.incrementAndGet();
+		long position = -1;
+		try {
+			boolean replace = JournalEntry.refersTo(args, ids.keySet());
+			JournalEntry entry = JournalEntry.of(entrySequence, method, args, file -> RequestJournal.keep(directory, file));
+			if (replace) {
+				entry = entry.replaceIds(ids);
+			}
+			entry.setCreatedId(id);
+			position = target.append(JournalSegmentWriter.REQUEST, HttpRequestUtils.MAPPER.writeValueAsBytes(entry.toJson()));
+		} catch (IOException | RuntimeException e) {
+			LOGGER.warn("Unable to spool ReportPortal client call: {}", method.getName(), e);
+		}
+		boolean finish = OfflineClientHandler.FINISH_LAUNCH_METHOD.equals(method.getName());
+		MaybeSubject<Object> result;
+		boolean save;
+		synchronized (lock) {
+			reserved--;
+			if (position >= 0) {
+				spool.put(entrySequence, position);
+			}
+			lock.notifyAll();
+			if (!finish) {
+				return Maybe.just(OfflineClientHandler.createResponse(method, id));
+			}
+			// The Launch finish waits until the spool is either uploaded or saved, so it is not lost on JVM exit
+			result = MaybeSubject.create();
+			launchFinish = result;
+			launchFinishMethod = method;
+			save = !draining && !startDrain();
+		}
+		if (save) {
+			save();
+		}
+		return result;
+	}
+
+	private boolean startDrain() {
+		if (!breaker.tryHalfOpen()) {
+			return false;
+		}
+		draining = true;
+		drainExecutor.execute(this::drain);
+		return true;
+	}
+
+	private static void close(@Nullable JournalSegmentWriter target, @Nullable File directory, boolean delete) {
+		if (target == null || directory == null) {
+			return;
+		}
+		try {
+			target.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close spool: {}", directory.getAbsolutePath(), e);
+		}
+		if (delete) {
+			RequestJournal.delete(directory);
+		}
+	}
+
+	private void drain() {
+		while (true) {
+			Map.Entry<Long, Long> next;
+			JournalSegmentWriter target;
+			File directory;
+			synchronized (lock) {
+				while (spool.isEmpty() && reserved > 0) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						draining = false;
+						return;
+					}
+				}
+				next = spool.firstEntry();
+				target = writer;
+				directory = spoolDirectory;
+				if (next == null && target == null) {
+					draining = false;
+					breaker.close();
+					LOGGER.info("ReportPortal is available again, spooled calls are uploaded");
+					return;
+				}
+				if (next == null) {
+					writer = null;
+					spoolDirectory = null;
+				}
+			}
+			if (next == null) {
+				// The breaker closes on the next pass, unless more calls were spooled meanwhile
+				close(target, directory, true);
+				continue;
+			}
+			JournalEntry entry;
+			try {
+				byte[] record = JournalSegmentReader.read(directory, next.getValue());
+				entry = JournalEntry.of((ObjectNode) HttpRequestUtils.MAPPER.readTree(record));
+			} catch (IOException | RuntimeException e) {
+				LOGGER.warn("Unable to read spooled call, it is skipped: {}", directory.getAbsolutePath(), e);
+				synchronized (lock) {
+					spool.remove(next.getKey());
+				}
+				continue;
+			}
+			Object response;
+			try {
+				response = entry.replaceIds(ids).send(client).timeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS).blockingGet();
+			} catch (IOException | RuntimeException e) {
+				LOGGER.debug("Unable to upload spooled call: {}", entry.getMethod(), e);
+				boolean save;
+				synchronized (lock) {
+					draining = false;
+					breaker.open();
+					save = launchFinish != null;
+				}
+				if (save) {
+					save();
+				}
+				return;
+			}
+			String createdId = entry.getCreatedId();
+			String id = createdId == null || response == null ?
+					null :
+					HttpRequestUtils.MAPPER.valueToTree(response).path("id").asText(null);
+			if (id != null) {
+				ids.put(createdId, id);
+			}
+			try {
+				target.append(JournalSegmentWriter.ACKNOWLEDGEMENT, JournalSegmentWriter.acknowledgement(entry.getSequence(), id));
+			} catch (IOException e) {
+				LOGGER.warn("Unable to write spooled call acknowledgement: {}", directory.getAbsolutePath(), e);
+			}
+			entry.getFiles().forEach(File::delete);
+			MaybeSubject<Object> finish = null;
+			Method finishMethod = null;
+			synchronized (lock) {
+				spool.remove(next.getKey());
+				if (launchFinish != null && OfflineClientHandler.FINISH_LAUNCH_METHOD.equals(entry.getMethod())) {
+					finish = launchFinish;
+					finishMethod = launchFinishMethod;
+					launchFinish = null;
+				}
+			}
+			if (finish != null) {
+				finish.onSuccess(response == null ? OfflineClientHandler.createResponse(finishMethod, null) : response);
+			}
+		}
+	}
+
+	private void save() {
+		MaybeSubject<Object> finish;
+		Method finishMethod;
+		JournalSegmentWriter target;
+		File directory;
+		int count;
+		synchronized (lock) {
+			finish = launchFinish;
+			finishMethod = launchFinishMethod;
+			launchFinish = null;
+			target = writer;
+			directory = spoolDirectory;
+			writer = null;
+			spoolDirectory = null;
+			count = spool.size();
+			spool.clear();
+		}
+		if (finish == null) {
+			return;
+		}
+		close(target, directory, false);
+		LOGGER.warn(
+				"ReportPortal is unavailable, {} call(s) are saved to: {}. Send them with {}",
+				count,
+				directory == null ? null : directory.getAbsolutePath(),
+				JournalReplayer.class.getName()
+		);
+		finish.onSuccess(OfflineClientHandler.createResponse(finishMethod, null));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			try {
+				return method.invoke(this, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+		if (Maybe.class.isAssignableFrom(method.getReturnType())) {
+			JournalSegmentWriter target;
+			File directory;
+			synchronized (lock) {
+				if (breaker.getState() != CircuitBreaker.State.CLOSED || !spool.isEmpty() || reserved > 0) {
+					if (!OfflineClientHandler.REPORTING_METHODS.contains(method.getName())) {
+						return Maybe.empty();
+					}
+					try {
+						target = open();
+						directory = spoolDirectory;
+						// The call is serialized outside the lock, the drain waits for it to be spooled
+						reserved++;
+						if (!draining) {
+							startDrain();
+						}
+					} catch (IOException e) {
+						LOGGER.error("Unable to create spool, calls are sent to ReportPortal: {}", offlineDirectory.getAbsolutePath(), e);
+						target = null;
+						directory = null;
+					}
+				} else {
+					target = null;
+					directory = null;
+				}
+			}
+			if (target != null) {
+				return divert(target, directory, method, args);
+			}
+		}
+		return send(method, args);
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Applies Karate agent request handling features to a ReportPortal client.
+ */
+public final class ClientDecorators {
+	public static final String JOURNAL_DIRECTORY_PREFIX = "rp-journal-";
+	private static final Logger LOGGER = LoggerFactory.getLogger(ClientDecorators.class);
+
+	private ClientDecorators() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	/**
+	 * Wrap a client into a dynamic proxy with the given invocation handler.
+	 *
+	 * @param handler invocation handler, which delegates calls to the original client
+	 * @return client proxy
+	 */
+	@Nonnull
+	public static ReportPortalClient proxy(@Nonnull InvocationHandler handler) {
+		return (ReportPortalClient) Proxy.newProxyInstance(
+				ReportPortalClient.class.getClassLoader(),
+				new Class<?>[] { ReportPortalClient.class },
+				handler
+		);
+	}
+
+	/**
+	 * Create a request journal according to Karate agent parameters: in a new subdirectory of
+	 * {@link KarateParameters#getJournalDirectory()}, or of {@link KarateParameters#getSpoolDirectory()} if only it is set.
+	 *
+	 * @param parameters Karate agent parameters
+	 * @return request journal, or null if requests should not be recorded
+	 */
+	@Nullable
+	public static RequestJournal createJournal(@Nonnull KarateParameters parameters) {
+		String suffix = System.currentTimeMillis() + "-" + UUID.randomUUID();
+		File directory;
+		if (parameters.getJournalDirectory() != null) {
+			directory = new File(parameters.getJournalDirectory(), JOURNAL_DIRECTORY_PREFIX + suffix);
+		} else if (parameters.getSpoolDirectory() != null) {
+			directory = new File(parameters.getSpoolDirectory(), RequestJournal.SPOOL_DIRECTORY_PREFIX + suffix);
+		} else {
+			return null;
+		}
+		try {
+			return new RequestJournal(directory, parameters.getJournalSegmentSize());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to create request journal: {}", directory.getAbsolutePath(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Create a client which writes reporting calls to a new spool file in {@link KarateParameters#getOfflineDirectory()} instead of
+	 * sending them.
+	 *
+	 * @param parameters Karate agent parameters
+	 * @return offline client
+	 */
+	@Nonnull
+	public static ReportPortalClient offline(@Nonnull KarateParameters parameters) {
+		File file = new File(
+				parameters.getOfflineDirectory(),
+				OfflineClientHandler.SPOOL_FILE_PREFIX + System.currentTimeMillis() + "-" + UUID.randomUUID()
+						+ OfflineClientHandler.SPOOL_FILE_SUFFIX
+		);
+		LOGGER.info("ReportPortal offline mode, reporting calls are saved to: {}", file.getAbsolutePath());
+		return proxy(new OfflineClientHandler(file));
+	}
+
+	/**
+	 * Create an adaptive concurrency limit, which starts from {@link KarateParameters#getDispatchMaxConcurrency()} or
+	 * {@link AdaptiveLimit#INITIAL_LIMIT}, and register it for JMX monitoring if {@link KarateParameters#isDispatchAdaptiveJmx()} is set.
+	 *
+	 * @param parameters Karate agent parameters
+	 * @return adaptive concurrency limit
+	 */
+	@Nonnull
+	public static AdaptiveLimit createAdaptiveLimit(@Nonnull KarateParameters parameters) {
+		AdaptiveLimit limit = new AdaptiveLimit(
+				parameters.getDispatchMaxConcurrency() > 0 ? parameters.getDispatchMaxConcurrency() : AdaptiveLimit.INITIAL_LIMIT,
+				parameters.getDispatchAdaptiveMin(),
+				parameters.getDispatchAdaptiveMax(),
+				Duration.ofMillis(parameters.getDispatchAdaptiveLatency())
+		);
+		if (parameters.isDispatchAdaptiveJmx()) {
+			limit.register();
+		}
+		return limit;
+	}
+
+	/**
+	 * Decorate ReportPortal client according to Karate agent parameters.
+	 *
+	 * @param client     original client
+	 * @param parameters Karate agent parameters
+	 * @return decorated client, or the original client if no decoration is configured
+	 */
+	@Nonnull
+	public static ReportPortalClient decorate(@Nonnull ReportPortalClient client, @Nonnull KarateParameters parameters) {
+		return decorate(client, parameters, null);
+	}
+
+	/**
+	 * Decorate ReportPortal client according to Karate agent parameters and record its requests into the given journal.
+	 *
+	 * @param client     original client
+	 * @param parameters Karate agent parameters
+	 * @param journal    request journal, requests are not recorded if null
+	 * @return decorated client, or the original client if no decoration is configured
+	 */
+	@Nonnull
+	public static ReportPortalClient decorate(@Nonnull ReportPortalClient client, @Nonnull KarateParameters parameters,
+			@Nullable RequestJournal journal) {
+		ReportPortalClient result = client;
+		if (parameters.isBreaker()) {
+			CircuitBreaker breaker = new CircuitBreaker(
+					parameters.getBreakerWindow(),
+					parameters.getBreakerFailureRate(),
+					Duration.ofMillis(parameters.getBreakerSlowCall()),
+					Duration.ofMillis(parameters.getBreakerOpenDuration())
+			);
+			// Below the dispatcher, so time spent in dispatch queues does not count as server latency
+			result = proxy(new CircuitBreakerClientHandler(
+					result,
+					breaker,
+					new File(parameters.getOfflineDirectory()),
+					parameters.getJournalSegmentSize(),
+					Duration.ofMillis(parameters.getBreakerSlowCall())
+			));
+		}
+		if (parameters.isDispatchPriority() || parameters.isDispatchAdaptive()) {
+			int[] laneLimits = parameters.isDispatchPriority() ?
+					new int[] { parameters.getDispatchStructureConcurrency(), parameters.getDispatchErrorLogConcurrency(),
+							parameters.getDispatchLogConcurrency() } :
+					new int[RequestLane.values().length];
+			AdaptiveLimit adaptiveLimit = parameters.isDispatchAdaptive() ? createAdaptiveLimit(parameters) : null;
+			PriorityDispatcher dispatcher = new PriorityDispatcher(laneLimits, parameters.getDispatchMaxConcurrency(), adaptiveLimit);
+			result = proxy(new PriorityClientHandler(result, dispatcher));
+		}
+		if (journal != null) {
+			// Outermost, so requests are journaled when they are queued rather than when they are dispatched
+			result = proxy(new JournalClientHandler(result, journal));
+		}
+		return result;
+	}
+
+	/**
+	 * Create a ReportPortal instance with the client decorated according to Karate agent parameters.
+	 *
+	 * @param reportPortal original ReportPortal instance
+	 * @param parameters   Karate agent parameters
+	 * @return ReportPortal instance with decorated client, or the original instance if no decoration is configured
+	 */
+	@Nonnull
+	public static ReportPortal decorate(@Nonnull ReportPortal reportPortal, @Nonnull KarateParameters parameters) {
+		return decorate(reportPortal, parameters, null);
+	}
+
+	/**
+	 * Create a ReportPortal instance with the client decorated according to Karate agent parameters, which records its requests into the
+	 * given journal.
+	 *
+	 * @param reportPortal original ReportPortal instance
+	 * @param parameters   Karate agent parameters
+	 * @param journal      request journal, requests are not recorded if null
+	 * @return ReportPortal instance with decorated client, or the original instance if no decoration is configured
+	 */
+	@Nonnull
+	public static ReportPortal decorate(@Nonnull ReportPortal reportPortal, @Nonnull KarateParameters parameters,
+			@Nullable RequestJournal journal) {
+		if (parameters.isOffline()) {
+			return ReportPortal.create(offline(parameters), reportPortal.getParameters());
+		}
+		ReportPortalClient client = reportPortal.getClient();
+		ReportPortalClient decorated = decorate(client, parameters, journal);
+		if (decorated == client) {
+			return reportPortal;
+		}
+		return ReportPortal.create(decorated, reportPortal.getParameters());
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Request body which streams a file from disk. Unlike {@link RequestBody#create(File, MediaType)} it exposes the file, so a
+ * {@link RequestJournal} can refer to the file instead of copying its content.
+ */
+public class FileRequestBody extends RequestBody {
+	private final File file;
+	private final MediaType contentType;
+
+	/**
+	 * @param file        file to send
+	 * @param contentType file content type
+	 */
+	public FileRequestBody(@Nonnull File file, @Nullable MediaType contentType) {
+		this.file = file;
+		this.contentType = contentType;
+	}
+
+	@Nonnull
+	public File getFile() {
+		return file;
+	}
+
+	@Override
+	public MediaType contentType() {
+		return contentType;
+	}
+
+	@Override
+	public long contentLength() {
+		return file.length();
+	}
+
+	@Override
+	public void writeTo(@Nonnull BufferedSink sink) throws IOException {
+		try (Source source = Okio.source(file)) {
+			sink.writeAll(source);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+/**
+ * {@link ReportPortalClient} invocation handler which records every request into a {@link RequestJournal} and acknowledges it there
+ * once the server responds. When the journal is diverted, requests are only recorded and answered with generated responses.
+ */
+public class JournalClientHandler implements InvocationHandler {
+	private final ReportPortalClient client;
+	private final RequestJournal journal;
+
+	/**
+	 * @param client  client to delegate requests to
+	 * @param journal request journal
+	 */
+	public JournalClientHandler(@Nonnull ReportPortalClient client, @Nonnull RequestJournal journal) {
+		this.client = client;
+		this.journal = journal;
+	}
+
+	@Nullable
+	private static String getResponseId(@Nonnull Method method, @Nullable Object response) {
+		if (response == null || !OfflineClientHandler.CREATING_METHODS.contains(method.getName())) {
+			return null;
+		}
+		return HttpRequestUtils.MAPPER.valueToTree(response).path("id").asText(null);
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		boolean reactive = Maybe.class.isAssignableFrom(method.getReturnType());
+		if (reactive && journal.isDiverted()) {
+			if (!OfflineClientHandler.REPORTING_METHODS.contains(method.getName())) {
+				return Maybe.empty();
+			}
+			String createdId = OfflineClientHandler.CREATING_METHODS.contains(method.getName()) ? UUID.randomUUID().toString() : null;
+			journal.record(method, args, createdId);
+			return Maybe.just(OfflineClientHandler.createResponse(method, createdId));
+		}
+		long id = reactive ? journal.record(method, args, null) : -1;
+		Object result;
+		try {
+			result = method.invoke(client, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+		if (id < 0 || !(result instanceof Maybe)) {
+			return result;
+		}
+		// The server response is awaited even if the call is answered locally, so late confirmations are not replayed
+		Maybe<Object> sent = ((Maybe<?>) result).cast(Object.class)
+				.doOnSuccess(r -> journal.complete(id, getResponseId(method, r)))
+				.doOnComplete(() -> journal.complete(id, null))
+				.doOnError(e -> journal.fail(id))
+				.cache();
+		return Maybe.ambArray(sent, journal.getDivertedAnswer(id, method));
+	}
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * A serialized ReportPortal client call: method name, parameter types and arguments. Request objects are stored as JSON, multipart log
+ * batches as a list of parts with Base64-encoded bodies. Parts streamed from files can be stored as a reference to the file instead.
+ */
+public class JournalEntry {
+	/**
+	 * Keeps files referenced by journal entries until the entries are sent.
+	 */
+	public interface FileKeeper {
+		/**
+		 * @param file file of a request part
+		 * @return file to refer to from a journal entry, it stays available after the original file is deleted
+		 * @throws IOException if the file cannot be kept
+		 */
+		@Nonnull
+		File keep(@Nonnull File file) throws IOException;
+	}
+
+	private static final String SEQUENCE = "sequence";
+	private static final String METHOD = "method";
+	private static final String TYPES = "types";
+	private static final String ARGS = "args";
+	private static final String HEADERS = "headers";
+	private static final String CONTENT_TYPE = "contentType";
+	private static final String BODY = "body";
+	private static final String FILE = "file";
+	private static final String CONTENT_TYPE_HEADER = "Content-Type";
+	private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+	private static final String CREATED_ID = "createdId";
+	private static final String JSON_CONTENT_TYPE = "json";
+	private static final Pattern ID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+	private final long sequence;
+	private final ObjectNode json;
+
+	private JournalEntry(long sequence, @Nonnull ObjectNode json) {
+		this.sequence = sequence;
+		this.json = json;
+	}
+
+	@Nonnull
+	private static JsonNode toJson(@Nullable Object arg, @Nullable FileKeeper files) throws IOException {
+		if (!(arg instanceof List) || ((List<?>) arg).isEmpty() || !(((List<?>) arg).get(0) instanceof MultipartBody.Part)) {
+			return HttpRequestUtils.MAPPER.valueToTree(arg);
+		}
+		ArrayNode parts = HttpRequestUtils.MAPPER.createArrayNode();
+		for (Object p : (List<?>) arg) {
+			MultipartBody.Part part = (MultipartBody.Part) p;
+			ObjectNode node = parts.addObject();
+			ObjectNode headers = node.putObject(HEADERS);
+			ofNullable(part.headers()).ifPresent(h -> h.names().forEach(name -> headers.put(name, h.get(name))));
+			ofNullable(part.body().contentType()).ifPresent(type -> node.put(CONTENT_TYPE, type.toString()));
+			if (files != null && part.body() instanceof FileRequestBody) {
+				node.put(FILE, files.keep(((FileRequestBody) part.body()).getFile()).getAbsolutePath());
+				continue;
+			}
+			Buffer buffer = new Buffer();
+			part.body().writeTo(buffer);
+			node.put(BODY, Base64.getEncoder().encodeToString(buffer.readByteArray()));
+		}
+		return parts;
+	}
+
+	/**
+	 * Serialize a client call.
+	 *
+	 * @param sequence call sequence number
+	 * @param method   client method
+	 * @param args     method arguments
+	 * @return journal entry
+	 * @throws IOException if an argument cannot be serialized
+	 */
+	@Nonnull
+	public static JournalEntry of(long sequence, @Nonnull Method method, @Nullable Object[] args) throws IOException {
+		return of(sequence, method, args, null);
+	}
+
+	/**
+	 * Serialize a client call, parts streamed from files are stored as references to the files.
+	 *
+	 * @param sequence call sequence number
+	 * @param method   client method
+	 * @param args     method arguments
+	 * @param files    keeper of referenced files, or null to store file content in the entry
+	 * @return journal entry
+	 * @throws IOException if an argument cannot be serialized
+	 */
+	@Nonnull
+	public static JournalEntry of(long sequence, @Nonnull Method method, @Nullable Object[] args, @Nullable FileKeeper files)
+			throws IOException {
+		ObjectNode json = HttpRequestUtils.MAPPER.createObjectNode();
+		json.put(SEQUENCE, sequence);
+		json.put(METHOD, method.getName());
+		ArrayNode types = json.putArray(TYPES);
+		for (Class<?> type : method.getParameterTypes()) {
+			types.add(type.getName());
+		}
+		ArrayNode arguments = json.putArray(ARGS);
+		if (args != null) {
+			for (Object arg : args) {
+				arguments.add(toJson(arg, files));
+			}
+		}
+		return new JournalEntry(sequence, json);
+	}
+
+	/**
+	 * Restore an entry from its JSON representation.
+	 *
+	 * @param json entry JSON
+	 * @return journal entry
+	 */
+	@Nonnull
+	public static JournalEntry of(@Nonnull ObjectNode json) {
+		return new JournalEntry(json.path(SEQUENCE).asLong(), json);
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	@Nonnull
+	public String getMethod() {
+		return json.path(METHOD).asText();
+	}
+
+	/**
+	 * @return ID of the entity created by the call, if the call was made in offline mode
+	 */
+	@Nullable
+	public String getCreatedId() {
+		return json.path(CREATED_ID).asText(null);
+	}
+
+	public void setCreatedId(@Nullable String createdId) {
+		json.put(CREATED_ID, createdId);
+	}
+
+	/**
+	 * Apply an operator to the text of every argument: JSON of request objects and strings, and JSON parts of multipart log batches.
+	 *
+	 * @param operator text operator
+	 * @return transformed copy of the entry JSON
+	 * @throws IOException if the operator result is not a valid JSON
+	 */
+	@Nonnull
+	private ObjectNode transform(@Nonnull UnaryOperator<String> operator) throws IOException {
+		ObjectNode result = json.deepCopy();
+		JsonNode types = result.path(TYPES);
+		ArrayNode args = (ArrayNode) result.path(ARGS);
+		for (int i = 0; i < args.size(); i++) {
+			if (!List.class.getName().equals(types.path(i).asText())) {
+				args.set(i, HttpRequestUtils.MAPPER.readTree(operator.apply(HttpRequestUtils.MAPPER.writeValueAsString(args.get(i)))));
+				continue;
+			}
+			for (JsonNode part : args.get(i)) {
+				if (part.path(CONTENT_TYPE).asText("").contains(JSON_CONTENT_TYPE)) {
+					String body = new String(Base64.getDecoder().decode(part.path(BODY).asText()), StandardCharsets.UTF_8);
+					String transformed = operator.apply(body);
+					((ObjectNode) part).put(BODY, Base64.getEncoder().encodeToString(transformed.getBytes(StandardCharsets.UTF_8)));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static boolean containsAny(@Nonnull String text, @Nonnull Set<String> known) {
+		Matcher matcher = ID_PATTERN.matcher(text);
+		while (matcher.find()) {
+			if (known.contains(matcher.group())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a client call refers to any of the given IDs without serializing the whole call: only strings, request objects and JSON
+	 * parts of multipart log batches are checked, attachment parts are skipped.
+	 *
+	 * @param args  method arguments
+	 * @param known IDs to look for
+	 * @return true if an argument refers to one of the IDs
+	 * @throws IOException if an argument cannot be read
+	 */
+	public static boolean refersTo(@Nullable Object[] args, @Nonnull Set<String> known) throws IOException {
+		if (args == null || known.isEmpty()) {
+			return false;
+		}
+		for (Object arg : args) {
+			if (arg == null) {
+				continue;
+			}
+			if (arg instanceof String) {
+				if (known.contains(arg)) {
+					return true;
+				}
+			} else if (arg instanceof List && !((List<?>) arg).isEmpty() && ((List<?>) arg).get(0) instanceof MultipartBody.Part) {
+				for (Object p : (List<?>) arg) {
+					RequestBody body = ((MultipartBody.Part) p).body();
+					MediaType type = body.contentType();
+					if (type != null && type.subtype().contains(JSON_CONTENT_TYPE)) {
+						Buffer buffer = new Buffer();
+						body.writeTo(buffer);
+						if (containsAny(buffer.readUtf8(), known)) {
+							return true;
+						}
+					}
+				}
+			} else if (containsAny(HttpRequestUtils.MAPPER.writeValueAsString(arg), known)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find IDs of the given set which the call refers to, e.g. a parent item ID or a Launch UUID.
+	 *
+	 * @param known IDs to look for
+	 * @return referred IDs in the order of appearance, except the ID created by the call itself
+	 * @throws IOException if the entry cannot be read
+	 */
+	@Nonnull
+	public Set<String> getReferencedIds(@Nonnull Set<String> known) throws IOException {
+		Set<String> result = new LinkedHashSet<>();
+		String createdId = getCreatedId();
+		transform(text -> {
+			Matcher matcher = ID_PATTERN.matcher(text);
+			while (matcher.find()) {
+				String id = matcher.group();
+				if (known.contains(id) && !id.equals(createdId)) {
+					result.add(id);
+				}
+			}
+			return text;
+		});
+		return result;
+	}
+
+	/**
+	 * Create a copy of the entry with IDs replaced according to the given map.
+	 *
+	 * @param ids ID replacements
+	 * @return entry copy
+	 * @throws IOException if the entry cannot be read
+	 */
+	@Nonnull
+	public JournalEntry replaceIds(@Nonnull Map<String, String> ids) throws IOException {
+		return new JournalEntry(
+				sequence,
+				transform(text -> ID_PATTERN.matcher(text)
+						.replaceAll(m -> Matcher.quoteReplacement(ids.getOrDefault(m.group(), m.group()))))
+		);
+	}
+
+	/**
+	 * @return files the entry refers to instead of storing their content
+	 */
+	@Nonnull
+	public List<File> getFiles() {
+		List<File> result = new ArrayList<>();
+		for (JsonNode arg : json.path(ARGS)) {
+			if (arg.isArray()) {
+				arg.forEach(part -> ofNullable(part.get(FILE)).map(JsonNode::asText).map(File::new).ifPresent(result::add));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return entry JSON representation
+	 */
+	@Nonnull
+	public ObjectNode toJson() {
+		return json;
+	}
+
+	@Nonnull
+	private static List<MultipartBody.Part> toParts(@Nonnull JsonNode parts) {
+		List<MultipartBody.Part> result = new ArrayList<>();
+		for (JsonNode node : parts) {
+			Headers.Builder headers = new Headers.Builder();
+			node.path(HEADERS).fields().forEachRemaining(e -> {
+				if (!CONTENT_TYPE_HEADER.equalsIgnoreCase(e.getKey()) && !CONTENT_LENGTH_HEADER.equalsIgnoreCase(e.getKey())) {
+					headers.add(e.getKey(), e.getValue().asText());
+				}
+			});
+			MediaType type = ofNullable(node.get(CONTENT_TYPE)).map(JsonNode::asText).map(MediaType::parse).orElse(null);
+			RequestBody body = node.has(FILE) ?
+					new FileRequestBody(new File(node.path(FILE).asText()), type) :
+					RequestBody.create(type, Base64.getDecoder().decode(node.path(BODY).asText()));
+			result.add(MultipartBody.Part.create(headers.build(), body));
+		}
+		return result;
+	}
+
+	/**
+	 * Send the call again with the given client.
+	 *
+	 * @param client client to send the call with
+	 * @return client call result
+	 * @throws IOException if the call cannot be restored
+	 */
+	@Nonnull
+	public Maybe<?> send(@Nonnull ReportPortalClient client) throws IOException {
+		try {
+			JsonNode typeNames = json.path(TYPES);
+			Class<?>[] types = new Class<?>[typeNames.size()];
+			for (int i = 0; i < types.length; i++) {
+				types[i] = ClassUtils.getClass(typeNames.get(i).asText());
+			}
+			Method method = ReportPortalClient.class.getMethod(getMethod(), types);
+			JsonNode arguments = json.path(ARGS);
+			Object[] args = new Object[types.length];
+			for (int i = 0; i < types.length; i++) {
+				JsonNode arg = arguments.get(i);
+				if (arg == null || arg.isNull()) {
+					args[i] = null;
+				} else if (List.class.isAssignableFrom(types[i])) {
+					args[i] = toParts(arg);
+				} else {
+					args[i] = HttpRequestUtils.MAPPER.treeToValue(arg, types[i]);
+				}
+			}
+			return (Maybe<?>) method.invoke(client, args);
+		} catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+			throw new IOException("Unable to restore ReportPortal client call: " + getMethod(), e);
+		} catch (InvocationTargetException e) {
+			throw new IOException("Unable to send ReportPortal client call: " + getMethod(), e.getCause());
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resends ReportPortal client calls of a {@link RequestJournal} directory which were not acknowledged by the server. Calls are sent one
+ * by one in their original order, IDs generated while the journal was diverted are replaced with the IDs returned by the server. The
+ * replay stops at the first failure and can be resumed later: sent calls are acknowledged in the journal together with the received IDs.
+ */
+public class JournalReplayer {
+	public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(1);
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalReplayer.class);
+	private static final long ACKNOWLEDGEMENT_SEGMENT_SIZE = 64 * 1024;
+
+	private final ReportPortalClient client;
+	private final Duration requestTimeout;
+
+	/**
+	 * @param client         client to send calls with
+	 * @param requestTimeout maximum time to wait for a server response
+	 */
+	public JournalReplayer(@Nonnull ReportPortalClient client, @Nonnull Duration requestTimeout) {
+		this.client = client;
+		this.requestTimeout = requestTimeout;
+	}
+
+	@Nullable
+	private Object send(@Nonnull JournalEntry entry) throws IOException {
+		try {
+			return entry.send(client).timeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS).blockingGet();
+		} catch (RuntimeException e) {
+			throw new IOException("ReportPortal client call failed: " + entry.getMethod(), e);
+		}
+	}
+
+	/**
+	 * Resend unacknowledged calls of a journal directory. The directory is deleted once all calls are sent.
+	 *
+	 * @param directory journal directory
+	 * @return number of calls sent
+	 * @throws IOException if the journal cannot be read or a call failed, already sent calls are not sent again on the next replay
+	 */
+	public int replay(@Nonnull File directory) throws IOException {
+		if (!directory.isDirectory()) {
+			throw new IOException("Not a journal directory: " + directory.getAbsolutePath());
+		}
+		Map<String, String> ids = new HashMap<>();
+		List<JournalEntry> entries = JournalSegmentReader.readUnacknowledged(directory, ids);
+		int sent = 0;
+		try (JournalSegmentWriter writer = new JournalSegmentWriter(directory, ACKNOWLEDGEMENT_SEGMENT_SIZE)) {
+			for (JournalEntry entry : entries) {
+				Object response = send(entry.replaceIds(ids));
+				String createdId = entry.getCreatedId();
+				String id = createdId == null || response == null ?
+						null :
+						HttpRequestUtils.MAPPER.valueToTree(response).path("id").asText(null);
+				if (createdId != null) {
+					if (id == null) {
+						throw new IOException("ReportPortal response has no ID: " + entry.getMethod());
+					}
+					ids.put(createdId, id);
+				}
+				writer.append(JournalSegmentWriter.ACKNOWLEDGEMENT, JournalSegmentWriter.acknowledgement(entry.getSequence(), id));
+				sent++;
+			}
+		}
+		RequestJournal.delete(directory);
+		LOGGER.info("{} ReportPortal request(s) sent from: {}", sent, directory.getAbsolutePath());
+		return sent;
+	}
+
+	/**
+	 * Resend unacknowledged calls of the given journal directories. ReportPortal connection is configured the same way
+	 * as for the agent, e.g. with {@code reportportal.properties} file.
+	 *
+	 * @param args paths to journal directories
+	 * @return process exit code: 0 if all sources were replayed, 1 if some of them failed, 2 if the arguments are invalid
+	 */
+	public static int run(@Nonnull String... args) {
+		if (args.length == 0) {
+			LOGGER.error("Usage: {} <journal directory>...", JournalReplayer.class.getName());
+			return 2;
+		}
+		JournalReplayer replayer = new JournalReplayer(ReportPortal.builder().build().getClient(), DEFAULT_REQUEST_TIMEOUT);
+		int status = 0;
+		for (String path : args) {
+			try {
+				replayer.replay(new File(path));
+			} catch (IOException e) {
+				LOGGER.error("Unable to replay: {}", path, e);
+				status = 1;
+			}
+		}
+		return status;
+	}
+
+	public static void main(String[] args) {
+		System.exit(run(args));
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Reads journal segment files written by {@link JournalSegmentWriter}.
+ */
+public final class JournalSegmentReader {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalSegmentReader.class);
+	public static final String SEGMENT_SUFFIX = ".wal";
+
+	private JournalSegmentReader() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	/**
+	 * @param directory journal directory
+	 * @return segment files of the directory in the order they were written
+	 */
+	@Nonnull
+	public static List<File> getSegments(@Nonnull File directory) {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+		if (files == null) {
+			return Collections.emptyList();
+		}
+		List<File> result = new ArrayList<>(Arrays.asList(files));
+		result.sort(Comparator.comparing(File::getName));
+		return result;
+	}
+
+	private static void readFully(@Nonnull FileChannel channel, @Nonnull ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException("Unexpected end of journal segment");
+			}
+		}
+		buffer.flip();
+	}
+
+	/**
+	 * Read a single record payload.
+	 *
+	 * @param directory journal directory
+	 * @param position  record position returned by {@link JournalSegmentWriter#append(byte, byte[])}
+	 * @return record payload
+	 * @throws IOException if the record cannot be read or is corrupted
+	 */
+	@Nonnull
+	public static byte[] read(@Nonnull File directory, long position) throws IOException {
+		File segment = new File(directory, String.format(JournalSegmentWriter.SEGMENT_NAME_PATTERN, (int) (position >>> Integer.SIZE)));
+		long offset = position & 0xFFFFFFFFL;
+		try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(JournalSegmentWriter.HEADER_SIZE);
+			readFully(channel, header, offset);
+			int length = header.getInt();
+			header.get();
+			int checksum = header.getInt();
+			ByteBuffer payload = ByteBuffer.allocate(length);
+			readFully(channel, payload, offset + JournalSegmentWriter.HEADER_SIZE);
+			if (checksum != JournalSegmentWriter.checksum(payload.array())) {
+				throw new IOException("Journal record is corrupted: " + segment.getAbsolutePath());
+			}
+			return payload.array();
+		}
+	}
+
+	/**
+	 * Read journaled client calls which were not acknowledged by the server. A partly written record, e.g. if the process was killed
+	 * while appending it, ends its segment: it and the rest of the segment are skipped.
+	 *
+	 * @param directory journal directory
+	 * @return unacknowledged calls in the order they were made
+	 * @throws IOException in case of a read error
+	 */
+	@Nonnull
+	public static List<JournalEntry> readUnacknowledged(@Nonnull File directory) throws IOException {
+		return readUnacknowledged(directory, new HashMap<>());
+	}
+
+	/**
+	 * Read journaled client calls which were not acknowledged by the server, and IDs which the server assigned to entities created by
+	 * acknowledged calls, if the calls were answered with generated IDs.
+	 *
+	 * @param directory journal directory
+	 * @param ids       map to put generated IDs and their server replacements to
+	 * @return unacknowledged calls in the order they were made
+	 * @throws IOException in case of a read error
+	 */
+	@Nonnull
+	public static List<JournalEntry> readUnacknowledged(@Nonnull File directory, @Nonnull Map<String, String> ids) throws IOException {
+		Map<Long, JournalEntry> entries = new TreeMap<>();
+		for (File segment : getSegments(directory)) {
+			try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.READ)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				while (buffer.remaining() >= JournalSegmentWriter.HEADER_SIZE) {
+					int length = buffer.getInt();
+					if (length <= 0 || length + JournalSegmentWriter.HEADER_SIZE - Integer.BYTES > buffer.remaining()) {
+						break;
+					}
+					byte type = buffer.get();
+					int checksum = buffer.getInt();
+					byte[] payload = new byte[length];
+					buffer.get(payload);
+					if (checksum != JournalSegmentWriter.checksum(payload)) {
+						LOGGER.warn("Skipping partly written journal record at the end of segment: {}", segment.getAbsolutePath());
+						break;
+					}
+					if (type == JournalSegmentWriter.REQUEST) {
+						JournalEntry entry = JournalEntry.of((ObjectNode) HttpRequestUtils.MAPPER.readTree(payload));
+						entries.put(entry.getSequence(), entry);
+					} else if (type == JournalSegmentWriter.ACKNOWLEDGEMENT && payload.length >= Long.BYTES) {
+						JournalEntry entry = entries.remove(ByteBuffer.wrap(payload).getLong());
+						String createdId = entry == null ? null : entry.getCreatedId();
+						if (createdId != null && payload.length > Long.BYTES) {
+							ids.put(createdId, new String(payload, Long.BYTES, payload.length - Long.BYTES, StandardCharsets.UTF_8));
+						}
+					}
+				}
+			}
+		}
+		return new ArrayList<>(entries.values());
+	}
+}
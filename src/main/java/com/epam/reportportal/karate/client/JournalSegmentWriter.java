@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Appends length-prefixed records to memory-mapped journal segment files. A record is a 4-byte payload length, a 1-byte type, a 4-byte
+ * CRC32 checksum of the payload and the payload. A new segment is started when the current one is full, unused tail of a segment is left
+ * zero-filled, which marks its end for {@link JournalSegmentReader}. The checksum lets the reader detect a record which was only partly
+ * written when the process was killed.
+ */
+public class JournalSegmentWriter implements Closeable {
+	public static final String SEGMENT_NAME_PATTERN = "%08d" + JournalSegmentReader.SEGMENT_SUFFIX;
+	public static final byte REQUEST = 1;
+	public static final byte ACKNOWLEDGEMENT = 2;
+	static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES;
+
+	private final File directory;
+	private final long segmentSize;
+	private int index;
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+	private boolean closed;
+
+	/**
+	 * Create a writer, which continues after existing segments of the directory.
+	 *
+	 * @param directory   journal directory
+	 * @param segmentSize size of a segment file in bytes
+	 * @throws IOException if the directory cannot be created
+	 */
+	public JournalSegmentWriter(@Nonnull File directory, long segmentSize) throws IOException {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		Files.createDirectories(directory.toPath());
+		index = JournalSegmentReader.getSegments(directory).size();
+	}
+
+	private void closeSegment() throws IOException {
+		if (buffer != null) {
+			buffer.force();
+			buffer = null;
+		}
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	private void nextSegment(int recordSize) throws IOException {
+		closeSegment();
+		File file = new File(directory, String.format(SEGMENT_NAME_PATTERN, ++index));
+		channel = FileChannel.open(
+				file.toPath(),
+				StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE
+		);
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, recordSize));
+	}
+
+	static int checksum(@Nonnull byte[] payload) {
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Create a payload of an acknowledgement record.
+	 *
+	 * @param sequence sequence number of the acknowledged call
+	 * @param id       ID of the entity created by the call, to replace the ID generated for it
+	 * @return record payload
+	 */
+	@Nonnull
+	public static byte[] acknowledgement(long sequence, @Nullable String id) {
+		byte[] idBytes = id == null ? new byte[0] : id.getBytes(StandardCharsets.UTF_8);
+		return ByteBuffer.allocate(Long.BYTES + idBytes.length).putLong(sequence).put(idBytes).array();
+	}
+
+	/**
+	 * Append a record to the journal.
+	 *
+	 * @param type    record type
+	 * @param payload record payload
+	 * @return record position to read it with {@link JournalSegmentReader#read(File, long)}, or -1 if the writer is closed
+	 * @throws IOException if a new segment cannot be created
+	 */
+	public synchronized long append(byte type, @Nonnull byte[] payload) throws IOException {
+		if (closed) {
+			return -1;
+		}
+		int recordSize = HEADER_SIZE + payload.length;
+		if (buffer == null || buffer.remaining() < recordSize) {
+			nextSegment(recordSize);
+		}
+		long position = ((long) index << Integer.SIZE) | buffer.position();
+		buffer.putInt(payload.length);
+		buffer.put(type);
+		buffer.putInt(checksum(payload));
+		buffer.put(payload);
+		return position;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		closed = true;
+		closeSegment();
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link ReportPortalClient} invocation handler for offline mode: reporting calls are written to a gzip-compressed spool file instead
+ * of being sent, and answered with generated IDs. The spool is uploaded later with {@link SpoolUploader}, which replaces generated IDs
+ * with the real ones.
+ */
+public class OfflineClientHandler implements InvocationHandler {
+	public static final String SPOOL_FILE_PREFIX = "rp-offline-";
+	public static final String SPOOL_FILE_SUFFIX = ".jsonl.gz";
+	private static final Logger LOGGER = LoggerFactory.getLogger(OfflineClientHandler.class);
+	static final Set<String> REPORTING_METHODS = Set.of("startLaunch", "finishLaunch", "startTestItem", "finishTestItem", "log");
+	static final Set<String> CREATING_METHODS = Set.of("startLaunch", "startTestItem");
+	static final String FINISH_LAUNCH_METHOD = "finishLaunch";
+	private static final String OFFLINE_MESSAGE = "Saved to offline spool";
+	private static final ObjectMapper RESPONSE_MAPPER = HttpRequestUtils.MAPPER.copy()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private final File file;
+	private final AtomicLong sequence = new AtomicLong();
+	private Writer writer;
+
+	/**
+	 * @param file spool file, calls are appended to it
+	 */
+	public OfflineClientHandler(@Nonnull File file) {
+		this.file = file;
+	}
+
+	@Nonnull
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Write a call to the spool. Each Launch is written as a separate gzip member, which is completed when the Launch finish call is
+	 * written, so the spool file stays readable even if the JVM exits before this object is discarded.
+	 */
+	private synchronized void write(@Nonnull JournalEntry entry, boolean last) throws IOException {
+		if (writer == null) {
+			Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+			writer = new BufferedWriter(new OutputStreamWriter(
+					new GZIPOutputStream(new FileOutputStream(file, true)),
+					StandardCharsets.UTF_8
+			));
+		}
+		writer.write(HttpRequestUtils.MAPPER.writeValueAsString(entry.toJson()));
+		writer.write('\n');
+		if (last) {
+			writer.close();
+			writer = null;
+		}
+	}
+
+	/**
+	 * Create a synthetic response of a client method.
+	 *
+	 * @param method client method
+	 * @param id     ID of the created entity, or null
+	 * @return response object
+	 */
+	@Nonnull
+	static Object createResponse(@Nonnull Method method, @Nullable String id) {
+		JavaType type = RESPONSE_MAPPER.constructType(((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0]);
+		if (type.isCollectionLikeType()) {
+			return RESPONSE_MAPPER.convertValue(RESPONSE_MAPPER.createArrayNode(), type);
+		}
+		ObjectNode response = RESPONSE_MAPPER.createObjectNode();
+		if (id != null) {
+			response.put("id", id);
+			response.put("uniqueId", id);
+			response.put("number", 1L);
+		}
+		response.put("message", OFFLINE_MESSAGE);
+		return RESPONSE_MAPPER.convertValue(response, type);
+	}
+
+	/**
+	 * Create a result of a client method which has nothing to do in offline mode.
+	 *
+	 * @param type method return type
+	 * @return empty reactive result, default value of a primitive type, or null
+	 */
+	@Nullable
+	static Object createEmptyResult(@Nonnull Class<?> type) {
+		if (Completable.class.isAssignableFrom(type)) {
+			return Completable.complete();
+		}
+		if (Flowable.class.isAssignableFrom(type)) {
+			return Flowable.empty();
+		}
+		if (Observable.class.isAssignableFrom(type)) {
+			return Observable.empty();
+		}
+		if (type.isPrimitive() && type != void.class) {
+			return Array.get(Array.newInstance(type, 1), 0);
+		}
+		return null;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			try {
+				return method.invoke(this, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+		if (!Maybe.class.isAssignableFrom(method.getReturnType())) {
+			return createEmptyResult(method.getReturnType());
+		}
+		if (!REPORTING_METHODS.contains(method.getName())) {
+			return Maybe.empty();
+		}
+		String id = CREATING_METHODS.contains(method.getName()) ? UUID.randomUUID().toString() : null;
+		try {
+			JournalEntry entry = JournalEntry.of(sequence.incrementAndGet(), method, args);
+			entry.setCreatedId(id);
+			write(entry, FINISH_LAUNCH_METHOD.equals(method.getName()));
+			return Maybe.just(createResponse(method, id));
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Unable to write ReportPortal client call to offline spool: {}", file.getAbsolutePath(), e);
+			return Maybe.error(e);
+		}
+	}
+
+	/**
+	 * Write calls to a new offline spool file, which can be uploaded with {@link SpoolUploader}.
+	 *
+	 * @param file    spool file
+	 * @param entries calls to write
+	 * @throws IOException in case of a write error
+	 */
+	public static void write(@Nonnull File file, @Nonnull Collection<JournalEntry> entries) throws IOException {
+		Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+				new GZIPOutputStream(new FileOutputStream(file)),
+				StandardCharsets.UTF_8
+		))) {
+			for (JournalEntry entry : entries) {
+				writer.write(HttpRequestUtils.MAPPER.writeValueAsString(entry.toJson()));
+				writer.write('\n');
+			}
+		}
+	}
+
+	/**
+	 * Read calls from an offline spool file. A truncated last gzip member, e.g. if the JVM was killed, is read up to the last complete
+	 * call.
+	 *
+	 * @param file spool file
+	 * @return calls in the order they were written
+	 * @throws IOException in case of a read error
+	 */
+	@Nonnull
+	public static List<JournalEntry> read(@Nonnull File file) throws IOException {
+		List<JournalEntry> result = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new GZIPInputStream(new FileInputStream(file)),
+				StandardCharsets.UTF_8
+		))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isBlank()) {
+					result.add(JournalEntry.of((ObjectNode) HttpRequestUtils.MAPPER.readTree(line)));
+				}
+			}
+		} catch (EOFException e) {
+			LOGGER.warn("Offline spool file is truncated, {} complete call(s) read: {}", result.size(), file.getAbsolutePath());
+		}
+		return result;
+	}
+}
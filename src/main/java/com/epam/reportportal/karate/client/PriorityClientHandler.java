@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.Constants;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * {@link ReportPortalClient} invocation handler which routes requests through a {@link PriorityDispatcher}. Log batches are classified
+ * by the levels of their logs, all other requests belong to {@link RequestLane#STRUCTURE} lane. Only the JSON part of a log batch is
+ * read, with a streaming parser which stops at the first error log, attachment parts are skipped.
+ */
+public class PriorityClientHandler implements InvocationHandler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PriorityClientHandler.class);
+	private static final String LOG_METHOD = "log";
+	private static final String FINISH_LAUNCH_METHOD = "finishLaunch";
+	private static final String LEVEL_FIELD = "level";
+
+	private final ReportPortalClient client;
+	private final PriorityDispatcher dispatcher;
+
+	/**
+	 * @param client     client to delegate requests to
+	 * @param dispatcher request dispatcher
+	 */
+	public PriorityClientHandler(@Nonnull ReportPortalClient client, @Nonnull PriorityDispatcher dispatcher) {
+		this.client = client;
+		this.dispatcher = dispatcher;
+	}
+
+	private static boolean isError(@Nullable String level) {
+		return LogLevel.ERROR.name().equalsIgnoreCase(level) || LogLevel.FATAL.name().equalsIgnoreCase(level);
+	}
+
+	private static boolean hasErrors(@Nonnull MultipartBody.Part part) throws IOException {
+		boolean json = ofNullable(part.headers()).map(headers -> headers.get("Content-Disposition"))
+				.map(header -> header.contains(Constants.LOG_REQUEST_JSON_PART))
+				.orElse(false);
+		if (!json) {
+			return false;
+		}
+		Buffer buffer = new Buffer();
+		part.body().writeTo(buffer);
+		try (JsonParser parser = HttpRequestUtils.MAPPER.getFactory().createParser(buffer.inputStream())) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (token == JsonToken.FIELD_NAME && LEVEL_FIELD.equals(parser.getCurrentName())
+						&& parser.nextToken() == JsonToken.VALUE_STRING && isError(parser.getText())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get dispatch lane of a client method call.
+	 *
+	 * @param method client method
+	 * @param args   method arguments
+	 * @return request lane
+	 */
+	@Nonnull
+	public static RequestLane getLane(@Nonnull Method method, @Nullable Object[] args) {
+		if (!LOG_METHOD.equals(method.getName()) || args == null || args.length == 0) {
+			return RequestLane.STRUCTURE;
+		}
+		Object request = args[0];
+		if (request instanceof SaveLogRQ) {
+			return isError(((SaveLogRQ) request).getLevel()) ? RequestLane.ERROR_LOG : RequestLane.LOG;
+		}
+		if (request instanceof List) {
+			try {
+				for (Object part : (List<?>) request) {
+					if (part instanceof MultipartBody.Part && hasErrors((MultipartBody.Part) part)) {
+						return RequestLane.ERROR_LOG;
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				LOGGER.debug("Unable to read log batch levels", e);
+			}
+		}
+		return RequestLane.LOG;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Object result;
+		try {
+			result = method.invoke(client, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+		if (result instanceof Maybe) {
+			Maybe<?> dispatched = dispatcher.dispatch(getLane(method, args), (Maybe<?>) result);
+			AdaptiveLimit adaptiveLimit = dispatcher.getAdaptiveLimit();
+			if (adaptiveLimit != null && FINISH_LAUNCH_METHOD.equals(method.getName())) {
+				// The Launch is over, remove its limit from JMX
+				return dispatched.doFinally(adaptiveLimit::unregister);
+			}
+			return dispatched;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.utils.DaemonThreadFactory;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Starts ReportPortal requests by {@link RequestLane}s. Each lane has its own concurrency limit, so a burst of log uploads cannot occupy
+ * all connections, and lanes are served in priority order when the total concurrency limit is reached. The total limit may be an
+ * {@link AdaptiveLimit}, which follows observed response times.
+ */
+public class PriorityDispatcher {
+	private static final RequestLane[] LANES = RequestLane.values();
+
+	private final int[] limits;
+	private final int totalLimit;
+	private final AdaptiveLimit adaptiveLimit;
+	private final int[] active = new int[LANES.length];
+	private final List<Deque<Runnable>> queues = new ArrayList<>(LANES.length);
+	private final ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory("dispatch"));
+	private int totalActive;
+
+	/**
+	 * Create a dispatcher.
+	 *
+	 * @param limits     concurrency limits of lanes in {@link RequestLane} order, zero or negative value means no limit
+	 * @param totalLimit concurrency limit of all lanes, zero or negative value means no limit
+	 */
+	public PriorityDispatcher(@Nonnull int[] limits, int totalLimit) {
+		this(limits, totalLimit, null);
+	}
+
+	/**
+	 * Create a dispatcher with an adaptive total concurrency limit.
+	 *
+	 * @param limits        concurrency limits of lanes in {@link RequestLane} order, zero or negative value means no limit
+	 * @param totalLimit    concurrency limit of all lanes, zero or negative value means no limit, ignored if adaptive limit is set
+	 * @param adaptiveLimit adaptive concurrency limit of all lanes, or null
+	 */
+	public PriorityDispatcher(@Nonnull int[] limits, int totalLimit, @Nullable AdaptiveLimit adaptiveLimit) {
+		if (limits.length != LANES.length) {
+			throw new IllegalArgumentException("Expected " + LANES.length + " lane limits, got " + limits.length);
+		}
+		this.limits = limits.clone();
+		this.totalLimit = totalLimit;
+		this.adaptiveLimit = adaptiveLimit;
+		for (int i = 0; i < LANES.length; i++) {
+			queues.add(new ArrayDeque<>());
+		}
+	}
+
+	private boolean hasCapacity(int lane) {
+		int total = adaptiveLimit != null ? adaptiveLimit.getLimit() : totalLimit;
+		return (limits[lane] <= 0 || active[lane] < limits[lane]) && (total <= 0 || totalActive < total);
+	}
+
+	private void drain() {
+		List<Runnable> ready = new ArrayList<>();
+		synchronized (this) {
+			for (int lane = 0; lane < LANES.length; lane++) {
+				Deque<Runnable> queue = queues.get(lane);
+				while (!queue.isEmpty() && hasCapacity(lane)) {
+					ready.add(queue.poll());
+					active[lane]++;
+					totalActive++;
+				}
+			}
+		}
+		ready.forEach(executor::execute);
+	}
+
+	private synchronized void record(long startNanos, @Nullable Throwable error) {
+		if (adaptiveLimit != null) {
+			adaptiveLimit.record(startNanos, error, totalActive);
+		}
+	}
+
+	private void release(@Nonnull RequestLane lane) {
+		synchronized (this) {
+			active[lane.ordinal()]--;
+			totalActive--;
+		}
+		drain();
+	}
+
+	/**
+	 * Schedule a request. The request is subscribed to once its lane has free capacity, the subscription runs on a dispatcher thread.
+	 *
+	 * @param lane    request lane
+	 * @param request cold request to dispatch
+	 * @param <T>     response type
+	 * @return request which is subscribed to in dispatch order
+	 */
+	@Nonnull
+	public <T> Maybe<T> dispatch(@Nonnull RequestLane lane, @Nonnull Maybe<T> request) {
+		return Maybe.create(emitter -> {
+			Runnable task = () -> {
+				if (emitter.isDisposed()) {
+					release(lane);
+					return;
+				}
+				long start = System.nanoTime();
+				Throwable[] error = new Throwable[1];
+				emitter.setDisposable(request.doOnError(e -> error[0] = e).doFinally(() -> {
+					record(start, error[0]);
+					release(lane);
+				}).subscribe(emitter::onSuccess, emitter::onError, emitter::onComplete));
+			};
+			synchronized (this) {
+				queues.get(lane.ordinal()).add(task);
+			}
+			drain();
+		});
+	}
+
+	/**
+	 * @return adaptive concurrency limit of all lanes, or null if the limit is fixed
+	 */
+	@Nullable
+	public AdaptiveLimit getAdaptiveLimit() {
+		return adaptiveLimit;
+	}
+
+	/**
+	 * @param lane request lane
+	 * @return number of requests of the lane which are waiting to start
+	 */
+	public synchronized int getQueued(@Nonnull RequestLane lane) {
+		return queues.get(lane.ordinal()).size();
+	}
+}
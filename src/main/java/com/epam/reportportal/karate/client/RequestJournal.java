@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Write-ahead journal of ReportPortal client calls. Every call is appended to memory-mapped segment files in the journal directory before
+ * it is sent, and an acknowledgement record once the server confirms it, only sequence numbers and record positions are kept in memory.
+ * Files of streamed attachments are linked into the journal directory instead of being copied into the records.
+ * <p>
+ * If the Launch cannot be finished in time the journal is diverted: calls which are still waiting for a server response are answered
+ * at once, later calls, including the Launch finish, are only journaled and answered with generated IDs. Responses which arrive after
+ * that are still acknowledged. Unacknowledged calls are resent later with {@link JournalReplayer}, which skips acknowledged ones and
+ * replaces generated IDs with the real ones. The journal directory is removed when it is closed with all calls acknowledged.
+ */
+public class RequestJournal {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RequestJournal.class);
+	public static final String SPOOL_DIRECTORY_PREFIX = "rp-spool-";
+	private static final String FILES_DIRECTORY = "files";
+
+	private final File directory;
+	private final JournalSegmentWriter writer;
+	private final AtomicLong sequence = new AtomicLong();
+	private final Map<Long, Long> pending = new ConcurrentSkipListMap<>();
+	private final Map<Long, List<File>> files = new ConcurrentHashMap<>();
+	private final Map<Long, Method> inFlight = new ConcurrentHashMap<>();
+	private final Map<Long, MaybeSubject<Object>> answers = new ConcurrentHashMap<>();
+	private volatile boolean diverted;
+	private boolean closed;
+
+	/**
+	 * @param directory   journal directory
+	 * @param segmentSize size of a segment file in bytes
+	 * @throws IOException if the directory cannot be created
+	 */
+	public RequestJournal(@Nonnull File directory, long segmentSize) throws IOException {
+		this.directory = directory;
+		writer = new JournalSegmentWriter(directory, segmentSize);
+	}
+
+	@Nonnull
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Link a file into a journal directory, or copy it there if it cannot be linked.
+	 *
+	 * @param directory journal directory
+	 * @param file      file to keep
+	 * @return kept file
+	 * @throws IOException if the file cannot be kept
+	 */
+	@Nonnull
+	static File keep(@Nonnull File directory, @Nonnull File file) throws IOException {
+		Path target = directory.toPath().resolve(FILES_DIRECTORY).resolve(UUID.randomUUID() + "-" + file.getName());
+		Files.createDirectories(target.getParent());
+		try {
+			return Files.createLink(target, file.toPath()).toFile();
+		} catch (IOException | UnsupportedOperationException e) {
+			// Hard links are not possible across file systems
+			return Files.copy(file.toPath(), target, StandardCopyOption.COPY_ATTRIBUTES).toFile();
+		}
+	}
+
+	private long append(@Nonnull JournalEntry entry) throws IOException {
+		return writer.append(JournalSegmentWriter.REQUEST, HttpRequestUtils.MAPPER.writeValueAsBytes(entry.toJson()));
+	}
+
+	/**
+	 * Record a client call.
+	 *
+	 * @param method    client method
+	 * @param args      method arguments
+	 * @param createdId ID generated for the entity created by the call, if the call is answered without sending it
+	 * @return call sequence number, or -1 if the call cannot be recorded
+	 */
+	public long record(@Nonnull Method method, @Nullable Object[] args, @Nullable String createdId) {
+		long id = sequence.incrementAndGet();
+		try {
+			JournalEntry entry = JournalEntry.of(id, method, args, file -> keep(directory, file));
+			entry.setCreatedId(createdId);
+			long position = append(entry);
+			if (position < 0) {
+				return -1;
+			}
+			pending.put(id, position);
+			List<File> entryFiles = entry.getFiles();
+			if (!entryFiles.isEmpty()) {
+				files.put(id, entryFiles);
+			}
+		} catch (IOException | RuntimeException e) {
+			LOGGER.warn("Unable to record ReportPortal client call: {}", method.getName(), e);
+			return -1;
+		}
+		return id;
+	}
+
+	/**
+	 * Get an answer to a sent call which is given if the journal is diverted before the server responds.
+	 *
+	 * @param id     call sequence number
+	 * @param method client method
+	 * @return answer with a generated response
+	 */
+	@Nonnull
+	public synchronized Maybe<Object> getDivertedAnswer(long id, @Nonnull Method method) {
+		MaybeSubject<Object> answer = MaybeSubject.create();
+		if (diverted) {
+			answer(id, method, answer);
+		} else {
+			inFlight.put(id, method);
+			answers.put(id, answer);
+		}
+		return answer;
+	}
+
+	private void answer(long id, @Nonnull Method method, @Nonnull MaybeSubject<Object> answer) {
+		String createdId = OfflineClientHandler.CREATING_METHODS.contains(method.getName()) ? UUID.randomUUID().toString() : null;
+		Long position = pending.get(id);
+		if (createdId != null && position != null) {
+			try {
+				byte[] record = JournalSegmentReader.read(directory, position);
+				JournalEntry entry = JournalEntry.of((ObjectNode) HttpRequestUtils.MAPPER.readTree(record));
+				entry.setCreatedId(createdId);
+				long newPosition = append(entry);
+				if (newPosition >= 0) {
+					pending.put(id, newPosition);
+				}
+			} catch (IOException | RuntimeException e) {
+				LOGGER.warn("Unable to record generated ID of ReportPortal client call: {}", method.getName(), e);
+			}
+		}
+		answer.onSuccess(OfflineClientHandler.createResponse(method, createdId));
+	}
+
+	/**
+	 * Stop waiting for the server: calls which were sent but not confirmed yet are answered at once with generated responses, and
+	 * {@link #isDiverted()} tells callers to journal further calls without sending them.
+	 */
+	public synchronized void divert() {
+		if (diverted) {
+			return;
+		}
+		diverted = true;
+		int count = inFlight.size();
+		new ArrayList<>(inFlight.keySet()).forEach(id -> {
+			Method method = inFlight.remove(id);
+			MaybeSubject<Object> answer = answers.remove(id);
+			if (method != null && answer != null) {
+				answer(id, method, answer);
+			}
+		});
+		LOGGER.warn("ReportPortal requests are journaled without sending, {} unconfirmed request(s) answered locally", count);
+	}
+
+	/**
+	 * @return true if calls should be journaled without sending them
+	 */
+	public boolean isDiverted() {
+		return diverted;
+	}
+
+	/**
+	 * Mark a call as confirmed by the server.
+	 *
+	 * @param id         call sequence number
+	 * @param responseId ID of the entity created by the call, to replace the generated ID if the call was answered locally
+	 */
+	public synchronized void complete(long id, @Nullable String responseId) {
+		inFlight.remove(id);
+		answers.remove(id);
+		// A late response after the close leaves the call unconfirmed, the journal may be reported as saved already
+		if (closed || pending.remove(id) == null) {
+			return;
+		}
+		try {
+			writer.append(JournalSegmentWriter.ACKNOWLEDGEMENT, JournalSegmentWriter.acknowledgement(id, responseId));
+		} catch (IOException e) {
+			LOGGER.warn("Unable to write ReportPortal client call acknowledgement to the journal", e);
+		}
+		Optional.ofNullable(files.remove(id)).ifPresent(f -> f.forEach(file -> file.delete()));
+	}
+
+	/**
+	 * Stop waiting for a call which failed, it stays unconfirmed in the journal.
+	 *
+	 * @param id call sequence number
+	 */
+	public void fail(long id) {
+		inFlight.remove(id);
+		answers.remove(id);
+	}
+
+	/**
+	 * @return number of calls which are not confirmed yet
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Delete a journal directory with all its segments and files.
+	 *
+	 * @param directory journal directory
+	 */
+	public static void delete(@Nonnull File directory) {
+		try (Stream<Path> files = Files.walk(directory.toPath())) {
+			for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+				Files.deleteIfExists(file);
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete journal: {}", directory.getAbsolutePath(), e);
+		}
+	}
+
+	/**
+	 * Close the journal after the Launch finish. The journal directory is deleted if all calls are confirmed, otherwise it is kept to be
+	 * sent later with {@link JournalReplayer}.
+	 */
+	public synchronized void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			writer.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close journal: {}", directory.getAbsolutePath(), e);
+		}
+		int count = getPendingCount();
+		if (count == 0) {
+			delete(directory);
+			return;
+		}
+		LOGGER.warn(
+				"{} ReportPortal request(s) which were not confirmed by the server are saved to: {}. Send them with {}",
+				count,
+				directory.getAbsolutePath(),
+				JournalReplayer.class.getName()
+		);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+/**
+ * Dispatch lanes of ReportPortal requests in priority order: requests of a lane declared earlier are started first.
+ */
+public enum RequestLane {
+	/**
+	 * Launch and test item start and finish requests, which build the tree of the launch.
+	 */
+	STRUCTURE,
+	/**
+	 * Log batches which contain error logs.
+	 */
+	ERROR_LOG,
+	/**
+	 * All other logs and attachments.
+	 */
+	LOG
+}
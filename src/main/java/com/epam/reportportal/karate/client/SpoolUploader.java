@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.utils.DaemonThreadFactory;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Uploads offline spool files written by {@link OfflineClientHandler}. Launch start calls are sent first, then independent subtrees,
+ * i.e. top-level items with all their descendants and logs, are uploaded in parallel, each in its original order, finally Launches are
+ * finished. IDs generated in offline mode are replaced with the IDs returned by the server.
+ */
+public class SpoolUploader {
+	public static final int DEFAULT_CONNECTIONS = 4;
+	private static final Logger LOGGER = LoggerFactory.getLogger(SpoolUploader.class);
+	private static final String START_LAUNCH_METHOD = "startLaunch";
+	private static final String FINISH_LAUNCH_METHOD = "finishLaunch";
+	private static final String LAUNCH_GROUP = "";
+	private static final String CONNECTIONS_OPTION = "--connections";
+	private static final String PROGRESS_FILE_SUFFIX = ".progress";
+
+	private final ReportPortalClient client;
+	private final int connections;
+	private final Duration requestTimeout;
+
+	/**
+	 * @param client         client to send calls with
+	 * @param connections    number of subtrees uploaded in parallel
+	 * @param requestTimeout maximum time to wait for a server response
+	 */
+	public SpoolUploader(@Nonnull ReportPortalClient client, int connections, @Nonnull Duration requestTimeout) {
+		this.client = client;
+		this.connections = Math.max(1, connections);
+		this.requestTimeout = requestTimeout;
+	}
+
+	/**
+	 * Upload progress of a spool file: indexes of sent calls and IDs received for them, appended to a file next to the spool.
+	 */
+	private static final class Progress implements Closeable {
+		private final Map<Integer, String> sent = new ConcurrentHashMap<>();
+		private final Writer writer;
+
+		private Progress(@Nonnull File file) throws IOException {
+			if (file.exists()) {
+				for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+					String[] fields = line.split(" ");
+					try {
+						// A torn last line is left by a killed upload, the call is sent again in this case
+						sent.put(Integer.parseInt(fields[0]), fields.length > 1 ? fields[1] : "");
+					} catch (NumberFormatException e) {
+						LOGGER.debug("Skipping malformed upload progress record: {}", line);
+					}
+				}
+			}
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+		}
+
+		private synchronized void record(int index, @Nullable String id) throws IOException {
+			writer.write(id == null ? index + "\n" : index + " " + id + "\n");
+			writer.flush();
+			sent.put(index, id == null ? "" : id);
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			writer.close();
+		}
+	}
+
+	private int send(@Nonnull List<Integer> indexes, @Nonnull List<JournalEntry> entries, @Nonnull Map<String, String> ids,
+			@Nonnull Progress progress) throws IOException {
+		int result = 0;
+		for (int index : indexes) {
+			JournalEntry entry = entries.get(index);
+			String createdId = entry.getCreatedId();
+			String sentId = progress.sent.get(index);
+			if (sentId != null) {
+				if (createdId != null) {
+					ids.put(createdId, sentId);
+				}
+				continue;
+			}
+			Object response;
+			try {
+				response = entry.replaceIds(ids).send(client).timeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS).blockingGet();
+			} catch (RuntimeException e) {
+				throw new IOException("ReportPortal client call failed: " + entry.getMethod(), e);
+			}
+			String id = null;
+			if (createdId != null) {
+				id = response == null ? null : HttpRequestUtils.MAPPER.valueToTree(response).path("id").asText(null);
+				if (id == null) {
+					throw new IOException("ReportPortal response has no ID: " + entry.getMethod());
+				}
+				ids.put(createdId, id);
+			}
+			progress.record(index, id);
+			result++;
+		}
+		return result;
+	}
+
+	/**
+	 * @param file spool file
+	 * @return file to record upload progress of the spool file in
+	 */
+	@Nonnull
+	public static File getProgressFile(@Nonnull File file) {
+		return new File(file.getPath() + PROGRESS_FILE_SUFFIX);
+	}
+
+	/**
+	 * Upload an offline spool file. Sent calls are recorded in a progress file next to the spool, so an upload which failed partway is
+	 * resumed from the first unsent call on the next run. The spool and the progress files are deleted once all calls are sent.
+	 *
+	 * @param file spool file
+	 * @return number of calls sent
+	 * @throws IOException if the file cannot be read or a call failed
+	 */
+	public int upload(@Nonnull File file) throws IOException {
+		List<JournalEntry> entries = OfflineClientHandler.read(file);
+		Set<String> created = entries.stream().map(JournalEntry::getCreatedId).filter(Objects::nonNull).collect(Collectors.toSet());
+		List<Integer> starts = new ArrayList<>();
+		List<Integer> finishes = new ArrayList<>();
+		Map<String, List<Integer>> subtrees = new LinkedHashMap<>();
+		Map<String, String> roots = new HashMap<>();
+		for (int i = 0; i < entries.size(); i++) {
+			JournalEntry entry = entries.get(i);
+			if (START_LAUNCH_METHOD.equals(entry.getMethod())) {
+				starts.add(i);
+				continue;
+			}
+			if (FINISH_LAUNCH_METHOD.equals(entry.getMethod())) {
+				finishes.add(i);
+				continue;
+			}
+			String root = entry.getReferencedIds(created).stream().map(roots::get).filter(Objects::nonNull).findFirst().orElse(null);
+			String createdId = entry.getCreatedId();
+			if (createdId != null) {
+				root = root == null ? createdId : root;
+				roots.put(createdId, root);
+			}
+			subtrees.computeIfAbsent(root == null ? LAUNCH_GROUP : root, k -> new ArrayList<>()).add(i);
+		}
+
+		File progressFile = getProgressFile(file);
+		int sent;
+		try (Progress progress = new Progress(progressFile)) {
+			sent = upload(file, entries, starts, subtrees, finishes, progress);
+		}
+		Files.deleteIfExists(file.toPath());
+		Files.deleteIfExists(progressFile.toPath());
+		LOGGER.info("{} ReportPortal request(s) uploaded from: {}", sent, file.getAbsolutePath());
+		return sent;
+	}
+
+	private int upload(@Nonnull File file, @Nonnull List<JournalEntry> entries, @Nonnull List<Integer> starts,
+			@Nonnull Map<String, List<Integer>> subtrees, @Nonnull List<Integer> finishes, @Nonnull Progress progress) throws IOException {
+		Map<String, String> ids = new ConcurrentHashMap<>();
+		int sent = send(starts, entries, ids, progress);
+		ExecutorService executor = Executors.newFixedThreadPool(connections, new DaemonThreadFactory("upload"));
+		try {
+			List<Future<Integer>> results = subtrees.values()
+					.stream()
+					.map(subtree -> executor.submit(() -> send(subtree, entries, ids, progress)))
+					.collect(Collectors.toList());
+			IOException failure = null;
+			for (Future<Integer> result : results) {
+				try {
+					sent += result.get();
+				} catch (ExecutionException e) {
+					if (failure == null) {
+						failure = new IOException("Unable to upload offline spool: " + file, e.getCause());
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Offline spool upload was interrupted: " + file, e);
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return sent + send(finishes, entries, ids, progress);
+	}
+
+	/**
+	 * Upload offline spool files. ReportPortal connection is configured the same way as for the agent, e.g. with
+	 * {@code reportportal.properties} file.
+	 *
+	 * @param args optional {@code --connections <number>} and paths to spool files
+	 * @return process exit code: 0 if all files were uploaded, 1 if some of them failed, 2 if the arguments are invalid
+	 */
+	public static int run(@Nonnull String... args) {
+		int connections = DEFAULT_CONNECTIONS;
+		List<String> files = new ArrayList<>();
+		try {
+			for (int i = 0; i < args.length; i++) {
+				if (CONNECTIONS_OPTION.equals(args[i]) && i + 1 < args.length) {
+					connections = Integer.parseInt(args[++i]);
+				} else {
+					files.add(args[i]);
+				}
+			}
+		} catch (NumberFormatException e) {
+			files.clear();
+		}
+		if (files.isEmpty()) {
+			LOGGER.error("Usage: {} [{} <number>] <spool file>...", SpoolUploader.class.getName(), CONNECTIONS_OPTION);
+			return 2;
+		}
+		SpoolUploader uploader = new SpoolUploader(
+				ReportPortal.builder().build().getClient(),
+				connections,
+				JournalReplayer.DEFAULT_REQUEST_TIMEOUT
+		);
+		int status = 0;
+		for (String path : files) {
+			try {
+				uploader.upload(new File(path));
+			} catch (IOException e) {
+				LOGGER.error("Unable to upload offline spool, run the upload again to resume it: {}", path, e);
+				status = 1;
+			}
+		}
+		return status;
+	}
+
+	public static void main(String[] args) {
+		System.exit(run(args));
+	}
+}
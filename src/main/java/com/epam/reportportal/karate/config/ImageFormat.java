@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.config;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Output format of downscaled screenshots.
+ */
+public enum ImageFormat {
+	/**
+	 * Lossy JPEG, the most compact for screenshots. Transparency is replaced with white background.
+	 */
+	JPEG("jpeg", "image/jpeg", ".jpg"),
+	/**
+	 * Lossless PNG.
+	 */
+	PNG("png", "image/png", ".png");
+
+	private final String formatName;
+	private final String contentType;
+	private final String extension;
+
+	ImageFormat(@Nonnull String formatName, @Nonnull String contentType, @Nonnull String extension) {
+		this.formatName = formatName;
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	/**
+	 * @return format name as ImageIO knows it
+	 */
+	@Nonnull
+	public String getFormatName() {
+		return formatName;
+	}
+
+	@Nonnull
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * @return file name extension, including the dot
+	 */
+	@Nonnull
+	public String getExtension() {
+		return extension;
+	}
+}
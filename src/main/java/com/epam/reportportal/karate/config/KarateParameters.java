@@ -0,0 +1,929 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.config;
+
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Karate agent configuration parameters. Complements common client {@link com.epam.reportportal.listeners.ListenerParameters} with
+ * options which make sense only for Karate.
+ */
+public class KarateParameters {
+	private static final Logger LOGGER = LoggerFactory.getLogger(KarateParameters.class);
+
+	public static final LogLevel DEFAULT_LOG_LEVEL = LogLevel.DEBUG;
+	public static final int DEFAULT_LOG_MAX_SIZE = 0;
+	public static final OversizedLogMode DEFAULT_LOG_OVERSIZE_MODE = OversizedLogMode.SPLIT;
+	public static final boolean DEFAULT_ATTACHMENT_STREAM = true;
+	public static final int DEFAULT_ATTACHMENT_UPLOAD_THREADS = 2;
+	public static final boolean DEFAULT_ATTACHMENT_DEDUPLICATE = false;
+	public static final boolean DEFAULT_ATTACHMENT_COMPRESS = false;
+	public static final int DEFAULT_ATTACHMENT_COMPRESS_THRESHOLD = 10240;
+	public static final int DEFAULT_ATTACHMENT_PROCESSING_THREADS = 2;
+	public static final boolean DEFAULT_ATTACHMENT_BUNDLE = false;
+	public static final long DEFAULT_ATTACHMENT_MAX_SIZE = 0;
+	public static final long DEFAULT_ATTACHMENT_LAUNCH_MAX_SIZE = 0;
+	public static final String DEFAULT_ATTACHMENT_SPILL_DIRECTORY = "target/reportportal-attachments";
+	public static final long DEFAULT_ATTACHMENT_OFFLOAD_SIZE = 0;
+	public static final int DEFAULT_ATTACHMENT_STORE_THREADS = 2;
+	public static final int DEFAULT_ATTACHMENT_IMAGE_MAX_SIZE = 0;
+	public static final ImageFormat DEFAULT_ATTACHMENT_IMAGE_FORMAT = ImageFormat.JPEG;
+	public static final int DEFAULT_ATTACHMENT_IMAGE_QUALITY = 80;
+	public static final boolean DEFAULT_DISPATCH_PRIORITY = false;
+	public static final int DEFAULT_DISPATCH_STRUCTURE_CONCURRENCY = 0;
+	public static final int DEFAULT_DISPATCH_ERROR_LOG_CONCURRENCY = 2;
+	public static final int DEFAULT_DISPATCH_LOG_CONCURRENCY = 2;
+	public static final int DEFAULT_DISPATCH_MAX_CONCURRENCY = 0;
+	public static final boolean DEFAULT_ATTACHMENT_DEFER_PASSED = false;
+	public static final long DEFAULT_ATTACHMENT_DEFER_TIMEOUT = 60000L;
+	public static final boolean DEFAULT_HTTP_LOG = false;
+	public static final int DEFAULT_HTTP_BODY_MAX_SIZE = 1024;
+	public static final String DEFAULT_HTTP_REDACT_HEADERS = "Authorization,Proxy-Authorization,Cookie,Set-Cookie";
+	public static final boolean DEFAULT_HTTP_METRICS = false;
+	public static final boolean DEFAULT_HTTP_HAR = false;
+	public static final boolean DEFAULT_HTTP_LOG_AGGREGATE = true;
+	public static final long DEFAULT_FINISH_TIMEOUT = 0;
+	public static final long DEFAULT_SHUTDOWN_TIMEOUT = 0;
+	public static final long DEFAULT_JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+	public static final boolean DEFAULT_OFFLINE = false;
+	public static final String DEFAULT_OFFLINE_DIRECTORY = "target/reportportal-offline";
+	public static final PublishMode DEFAULT_PUBLISH_MODE = PublishMode.ITEMS;
+	public static final boolean DEFAULT_BREAKER = false;
+	public static final int DEFAULT_BREAKER_WINDOW = 20;
+	public static final int DEFAULT_BREAKER_FAILURE_RATE = 50;
+	public static final long DEFAULT_BREAKER_SLOW_CALL = 10000;
+	public static final long DEFAULT_BREAKER_OPEN_DURATION = 30000;
+	public static final boolean DEFAULT_DISPATCH_ADAPTIVE = false;
+	public static final int DEFAULT_DISPATCH_ADAPTIVE_MIN = 1;
+	public static final int DEFAULT_DISPATCH_ADAPTIVE_MAX = 64;
+	public static final long DEFAULT_DISPATCH_ADAPTIVE_LATENCY = 1000;
+	public static final boolean DEFAULT_LAUNCH_START_ASYNC = false;
+	public static final boolean DEFAULT_DISPATCH_ADAPTIVE_JMX = false;
+
+	private LogLevel logLevel;
+	private int logMaxSize;
+	private OversizedLogMode logOversizeMode;
+	private boolean attachmentStream;
+	private int attachmentUploadThreads;
+	private boolean attachmentDeduplicate;
+	private boolean attachmentCompress;
+	private int attachmentCompressThreshold;
+	private int attachmentProcessingThreads;
+	private boolean attachmentBundle;
+	private long attachmentMaxSize;
+	private long attachmentLaunchMaxSize;
+	private String attachmentSpillDirectory;
+	private long attachmentOffloadSize;
+	private String attachmentStore;
+	private int attachmentStoreThreads;
+	private int attachmentImageMaxSize;
+	private ImageFormat attachmentImageFormat;
+	private int attachmentImageQuality;
+	private boolean dispatchPriority;
+	private int dispatchStructureConcurrency;
+	private int dispatchErrorLogConcurrency;
+	private int dispatchLogConcurrency;
+	private int dispatchMaxConcurrency;
+	private boolean attachmentDeferPassed;
+	private long attachmentDeferTimeout;
+	private boolean httpLog;
+	private int httpBodyMaxSize;
+	private String httpRedactHeaders;
+	private String httpRedactBody;
+	private boolean httpMetrics;
+	private boolean httpHar;
+	private boolean httpLogAggregate;
+	private long finishTimeout;
+	private String spoolDirectory;
+	private long shutdownTimeout;
+	private String journalDirectory;
+	private long journalSegmentSize;
+	private boolean offline;
+	private String offlineDirectory;
+	private PublishMode publishMode;
+	private boolean breaker;
+	private int breakerWindow;
+	private int breakerFailureRate;
+	private long breakerSlowCall;
+	private long breakerOpenDuration;
+	private boolean dispatchAdaptive;
+	private int dispatchAdaptiveMin;
+	private int dispatchAdaptiveMax;
+	private long dispatchAdaptiveLatency;
+	private boolean launchStartAsync;
+	private boolean dispatchAdaptiveJmx;
+
+	/**
+	 * Create parameters with default values.
+	 */
+	public KarateParameters() {
+		logLevel = DEFAULT_LOG_LEVEL;
+		logMaxSize = DEFAULT_LOG_MAX_SIZE;
+		logOversizeMode = DEFAULT_LOG_OVERSIZE_MODE;
+		attachmentStream = DEFAULT_ATTACHMENT_STREAM;
+		attachmentUploadThreads = DEFAULT_ATTACHMENT_UPLOAD_THREADS;
+		attachmentDeduplicate = DEFAULT_ATTACHMENT_DEDUPLICATE;
+		attachmentCompress = DEFAULT_ATTACHMENT_COMPRESS;
+		attachmentCompressThreshold = DEFAULT_ATTACHMENT_COMPRESS_THRESHOLD;
+		attachmentProcessingThreads = DEFAULT_ATTACHMENT_PROCESSING_THREADS;
+		attachmentBundle = DEFAULT_ATTACHMENT_BUNDLE;
+		attachmentMaxSize = DEFAULT_ATTACHMENT_MAX_SIZE;
+		attachmentLaunchMaxSize = DEFAULT_ATTACHMENT_LAUNCH_MAX_SIZE;
+		attachmentSpillDirectory = DEFAULT_ATTACHMENT_SPILL_DIRECTORY;
+		attachmentOffloadSize = DEFAULT_ATTACHMENT_OFFLOAD_SIZE;
+		attachmentStore = null;
+		attachmentStoreThreads = DEFAULT_ATTACHMENT_STORE_THREADS;
+		attachmentImageMaxSize = DEFAULT_ATTACHMENT_IMAGE_MAX_SIZE;
+		attachmentImageFormat = DEFAULT_ATTACHMENT_IMAGE_FORMAT;
+		attachmentImageQuality = DEFAULT_ATTACHMENT_IMAGE_QUALITY;
+		dispatchPriority = DEFAULT_DISPATCH_PRIORITY;
+		dispatchStructureConcurrency = DEFAULT_DISPATCH_STRUCTURE_CONCURRENCY;
+		dispatchErrorLogConcurrency = DEFAULT_DISPATCH_ERROR_LOG_CONCURRENCY;
+		dispatchLogConcurrency = DEFAULT_DISPATCH_LOG_CONCURRENCY;
+		dispatchMaxConcurrency = DEFAULT_DISPATCH_MAX_CONCURRENCY;
+		attachmentDeferPassed = DEFAULT_ATTACHMENT_DEFER_PASSED;
+		attachmentDeferTimeout = DEFAULT_ATTACHMENT_DEFER_TIMEOUT;
+		httpLog = DEFAULT_HTTP_LOG;
+		httpBodyMaxSize = DEFAULT_HTTP_BODY_MAX_SIZE;
+		httpRedactHeaders = DEFAULT_HTTP_REDACT_HEADERS;
+		httpRedactBody = null;
+		httpMetrics = DEFAULT_HTTP_METRICS;
+		httpHar = DEFAULT_HTTP_HAR;
+		httpLogAggregate = DEFAULT_HTTP_LOG_AGGREGATE;
+		finishTimeout = DEFAULT_FINISH_TIMEOUT;
+		spoolDirectory = null;
+		shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+		journalDirectory = null;
+		journalSegmentSize = DEFAULT_JOURNAL_SEGMENT_SIZE;
+		offline = DEFAULT_OFFLINE;
+		offlineDirectory = DEFAULT_OFFLINE_DIRECTORY;
+		publishMode = DEFAULT_PUBLISH_MODE;
+		breaker = DEFAULT_BREAKER;
+		breakerWindow = DEFAULT_BREAKER_WINDOW;
+		breakerFailureRate = DEFAULT_BREAKER_FAILURE_RATE;
+		breakerSlowCall = DEFAULT_BREAKER_SLOW_CALL;
+		breakerOpenDuration = DEFAULT_BREAKER_OPEN_DURATION;
+		dispatchAdaptive = DEFAULT_DISPATCH_ADAPTIVE;
+		dispatchAdaptiveMin = DEFAULT_DISPATCH_ADAPTIVE_MIN;
+		dispatchAdaptiveMax = DEFAULT_DISPATCH_ADAPTIVE_MAX;
+		dispatchAdaptiveLatency = DEFAULT_DISPATCH_ADAPTIVE_LATENCY;
+		launchStartAsync = DEFAULT_LAUNCH_START_ASYNC;
+		dispatchAdaptiveJmx = DEFAULT_DISPATCH_ADAPTIVE_JMX;
+	}
+
+	/**
+	 * Create parameters and load their values with the given properties loader.
+	 *
+	 * @param properties properties loader
+	 */
+	public KarateParameters(@Nonnull PropertiesLoader properties) {
+		logLevel = toLogLevel(properties, KarateProperty.LOG_LEVEL, DEFAULT_LOG_LEVEL);
+		logMaxSize = toInt(properties, KarateProperty.LOG_MAX_SIZE, DEFAULT_LOG_MAX_SIZE);
+		logOversizeMode = toEnum(properties, KarateProperty.LOG_OVERSIZE_MODE, OversizedLogMode.class, DEFAULT_LOG_OVERSIZE_MODE);
+		attachmentStream = toBoolean(properties, KarateProperty.ATTACHMENT_STREAM, DEFAULT_ATTACHMENT_STREAM);
+		attachmentUploadThreads = toInt(properties, KarateProperty.ATTACHMENT_UPLOAD_THREADS, DEFAULT_ATTACHMENT_UPLOAD_THREADS);
+		attachmentDeduplicate = toBoolean(properties, KarateProperty.ATTACHMENT_DEDUPLICATE, DEFAULT_ATTACHMENT_DEDUPLICATE);
+		attachmentCompress = toBoolean(properties, KarateProperty.ATTACHMENT_COMPRESS, DEFAULT_ATTACHMENT_COMPRESS);
+		attachmentCompressThreshold = toInt(properties, KarateProperty.ATTACHMENT_COMPRESS_THRESHOLD, DEFAULT_ATTACHMENT_COMPRESS_THRESHOLD);
+		attachmentProcessingThreads = toInt(properties, KarateProperty.ATTACHMENT_PROCESSING_THREADS, DEFAULT_ATTACHMENT_PROCESSING_THREADS);
+		attachmentBundle = toBoolean(properties, KarateProperty.ATTACHMENT_BUNDLE, DEFAULT_ATTACHMENT_BUNDLE);
+		attachmentMaxSize = toLong(properties, KarateProperty.ATTACHMENT_MAX_SIZE, DEFAULT_ATTACHMENT_MAX_SIZE);
+		attachmentLaunchMaxSize = toLong(properties, KarateProperty.ATTACHMENT_LAUNCH_MAX_SIZE, DEFAULT_ATTACHMENT_LAUNCH_MAX_SIZE);
+		attachmentSpillDirectory = getProperty(properties, KarateProperty.ATTACHMENT_SPILL_DIRECTORY, DEFAULT_ATTACHMENT_SPILL_DIRECTORY);
+		attachmentOffloadSize = toLong(properties, KarateProperty.ATTACHMENT_OFFLOAD_SIZE, DEFAULT_ATTACHMENT_OFFLOAD_SIZE);
+		attachmentStore = getProperty(properties, KarateProperty.ATTACHMENT_STORE);
+		attachmentStoreThreads = toInt(properties, KarateProperty.ATTACHMENT_STORE_THREADS, DEFAULT_ATTACHMENT_STORE_THREADS);
+		attachmentImageMaxSize = toInt(properties, KarateProperty.ATTACHMENT_IMAGE_MAX_SIZE, DEFAULT_ATTACHMENT_IMAGE_MAX_SIZE);
+		attachmentImageFormat = toEnum(properties, KarateProperty.ATTACHMENT_IMAGE_FORMAT, ImageFormat.class, DEFAULT_ATTACHMENT_IMAGE_FORMAT);
+		attachmentImageQuality = toInt(properties, KarateProperty.ATTACHMENT_IMAGE_QUALITY, DEFAULT_ATTACHMENT_IMAGE_QUALITY);
+		dispatchPriority = toBoolean(properties, KarateProperty.DISPATCH_PRIORITY, DEFAULT_DISPATCH_PRIORITY);
+		dispatchStructureConcurrency = toInt(properties, KarateProperty.DISPATCH_STRUCTURE_CONCURRENCY, DEFAULT_DISPATCH_STRUCTURE_CONCURRENCY);
+		dispatchErrorLogConcurrency = toInt(properties, KarateProperty.DISPATCH_ERROR_LOG_CONCURRENCY, DEFAULT_DISPATCH_ERROR_LOG_CONCURRENCY);
+		dispatchLogConcurrency = toInt(properties, KarateProperty.DISPATCH_LOG_CONCURRENCY, DEFAULT_DISPATCH_LOG_CONCURRENCY);
+		dispatchMaxConcurrency = toInt(properties, KarateProperty.DISPATCH_MAX_CONCURRENCY, DEFAULT_DISPATCH_MAX_CONCURRENCY);
+		attachmentDeferPassed = toBoolean(properties, KarateProperty.ATTACHMENT_DEFER_PASSED, DEFAULT_ATTACHMENT_DEFER_PASSED);
+		attachmentDeferTimeout = toLong(properties, KarateProperty.ATTACHMENT_DEFER_TIMEOUT, DEFAULT_ATTACHMENT_DEFER_TIMEOUT);
+		httpLog = toBoolean(properties, KarateProperty.HTTP_LOG, DEFAULT_HTTP_LOG);
+		httpBodyMaxSize = toInt(properties, KarateProperty.HTTP_BODY_MAX_SIZE, DEFAULT_HTTP_BODY_MAX_SIZE);
+		httpRedactHeaders = getProperty(properties, KarateProperty.HTTP_REDACT_HEADERS, DEFAULT_HTTP_REDACT_HEADERS);
+		httpRedactBody = getProperty(properties, KarateProperty.HTTP_REDACT_BODY);
+		httpMetrics = toBoolean(properties, KarateProperty.HTTP_METRICS, DEFAULT_HTTP_METRICS);
+		httpHar = toBoolean(properties, KarateProperty.HTTP_HAR, DEFAULT_HTTP_HAR);
+		httpLogAggregate = toBoolean(properties, KarateProperty.HTTP_LOG_AGGREGATE, DEFAULT_HTTP_LOG_AGGREGATE);
+		finishTimeout = toLong(properties, KarateProperty.FINISH_TIMEOUT, DEFAULT_FINISH_TIMEOUT);
+		spoolDirectory = getProperty(properties, KarateProperty.SPOOL_DIRECTORY);
+		shutdownTimeout = toLong(properties, KarateProperty.SHUTDOWN_TIMEOUT, DEFAULT_SHUTDOWN_TIMEOUT);
+		journalDirectory = getProperty(properties, KarateProperty.JOURNAL_DIRECTORY);
+		journalSegmentSize = toLong(properties, KarateProperty.JOURNAL_SEGMENT_SIZE, DEFAULT_JOURNAL_SEGMENT_SIZE);
+		offline = toBoolean(properties, KarateProperty.OFFLINE, DEFAULT_OFFLINE);
+		offlineDirectory = getProperty(properties, KarateProperty.OFFLINE_DIRECTORY, DEFAULT_OFFLINE_DIRECTORY);
+		publishMode = toEnum(properties, KarateProperty.PUBLISH_MODE, PublishMode.class, DEFAULT_PUBLISH_MODE);
+		breaker = toBoolean(properties, KarateProperty.BREAKER, DEFAULT_BREAKER);
+		breakerWindow = toInt(properties, KarateProperty.BREAKER_WINDOW, DEFAULT_BREAKER_WINDOW);
+		breakerFailureRate = toInt(properties, KarateProperty.BREAKER_FAILURE_RATE, DEFAULT_BREAKER_FAILURE_RATE);
+		breakerSlowCall = toLong(properties, KarateProperty.BREAKER_SLOW_CALL, DEFAULT_BREAKER_SLOW_CALL);
+		breakerOpenDuration = toLong(properties, KarateProperty.BREAKER_OPEN_DURATION, DEFAULT_BREAKER_OPEN_DURATION);
+		dispatchAdaptive = toBoolean(properties, KarateProperty.DISPATCH_ADAPTIVE, DEFAULT_DISPATCH_ADAPTIVE);
+		dispatchAdaptiveMin = toInt(properties, KarateProperty.DISPATCH_ADAPTIVE_MIN, DEFAULT_DISPATCH_ADAPTIVE_MIN);
+		dispatchAdaptiveMax = toInt(properties, KarateProperty.DISPATCH_ADAPTIVE_MAX, DEFAULT_DISPATCH_ADAPTIVE_MAX);
+		dispatchAdaptiveLatency = toLong(properties, KarateProperty.DISPATCH_ADAPTIVE_LATENCY, DEFAULT_DISPATCH_ADAPTIVE_LATENCY);
+		launchStartAsync = toBoolean(properties, KarateProperty.LAUNCH_START_ASYNC, DEFAULT_LAUNCH_START_ASYNC);
+		dispatchAdaptiveJmx = toBoolean(properties, KarateProperty.DISPATCH_ADAPTIVE_JMX, DEFAULT_DISPATCH_ADAPTIVE_JMX);
+	}
+
+	/**
+	 * Create parameters and load their values from default property sources.
+	 *
+	 * @return parameters instance
+	 */
+	@Nonnull
+	public static KarateParameters load() {
+		return new KarateParameters(PropertiesLoader.load());
+	}
+
+	@Nullable
+	static String getProperty(@Nonnull PropertiesLoader properties, @Nonnull KarateProperty property) {
+		String value = properties.getProperty(property.getPropertyName());
+		return isBlank(value) ? null : value.trim();
+	}
+
+	@Nonnull
+	static String getProperty(@Nonnull PropertiesLoader properties, @Nonnull KarateProperty property, @Nonnull String defaultValue) {
+		return ofNullable(getProperty(properties, property)).orElse(defaultValue);
+	}
+
+	static boolean toBoolean(@Nonnull PropertiesLoader properties, @Nonnull KarateProperty property, boolean defaultValue) {
+		return ofNullable(getProperty(properties, property)).map(Boolean::parseBoolean).orElse(defaultValue);
+	}
+
+	static int toInt(@Nonnull PropertiesLoader properties, @Nonnull KarateProperty property, int defaultValue) {
+		return ofNullable(getProperty(properties, property)).map(value -> {
+			try {
+				return Integer.parseInt(value);
+			} catch (NumberFormatException e) {
+				LOGGER.warn("Invalid integer value '{}' in '{}' property, using default: {}", value, property.getPropertyName(), defaultValue);
+				return defaultValue;
+			}
+		}).orElse(defaultValue);
+	}
+
+	static long toLong(@Nonnull PropertiesLoader properties, @Nonnull KarateProperty property, long defaultValue) {
+		return ofNullable(getProperty(properties, property)).map(value -> {
+			try {
+				return Long.parseLong(value);
+			} catch (NumberFormatException e) {
+				LOGGER.warn("Invalid integer value '{}' in '{}' property, using default: {}", value, property.getPropertyName(), defaultValue);
+				return defaultValue;
+			}
+		}).orElse(defaultValue);
+	}
+
+	@Nonnull
+	static <T extends Enum<T>> T toEnum(@Nonnull PropertiesLoader properties, @Nonnull KarateProperty property, @Nonnull Class<T> type,
+			@Nonnull T defaultValue) {
+		return ofNullable(getProperty(properties, property)).map(value -> {
+			try {
+				return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				LOGGER.warn("Unknown value '{}' in '{}' property, using default: {}", value, property.getPropertyName(), defaultValue);
+				return defaultValue;
+			}
+		}).orElse(defaultValue);
+	}
+
+	@Nonnull
+	static LogLevel toLogLevel(@Nonnull PropertiesLoader properties, @Nonnull KarateProperty property, @Nonnull LogLevel defaultValue) {
+		return ofNullable(getProperty(properties, property)).map(value -> {
+			LogLevel level = parseLogLevel(value);
+			if (level == null) {
+				LOGGER.warn("Unknown log level '{}' in '{}' property, using default: {}", value, property.getPropertyName(), defaultValue);
+			}
+			return level;
+		}).orElse(defaultValue);
+	}
+
+	/**
+	 * Parse log level name in case-insensitive manner.
+	 *
+	 * @param value log level name
+	 * @return log level or null if the name is not recognized
+	 */
+	@Nullable
+	public static LogLevel parseLogLevel(@Nullable String value) {
+		if (isBlank(value)) {
+			return null;
+		}
+		try {
+			return LogLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return minimal log level of messages generated by the agent
+	 */
+	@Nonnull
+	public LogLevel getLogLevel() {
+		return logLevel;
+	}
+
+	public void setLogLevel(@Nonnull LogLevel logLevel) {
+		this.logLevel = logLevel;
+	}
+
+	/**
+	 * @return maximum log message size in characters, zero or negative value means no limit
+	 */
+	public int getLogMaxSize() {
+		return logMaxSize;
+	}
+
+	public void setLogMaxSize(int logMaxSize) {
+		this.logMaxSize = logMaxSize;
+	}
+
+	/**
+	 * @return handling strategy for log messages larger than {@link #getLogMaxSize()}
+	 */
+	@Nonnull
+	public OversizedLogMode getLogOversizeMode() {
+		return logOversizeMode;
+	}
+
+	public void setLogOversizeMode(@Nonnull OversizedLogMode logOversizeMode) {
+		this.logOversizeMode = logOversizeMode;
+	}
+
+	/**
+	 * @return true if attachments should be streamed from embed files, false if their content should be loaded into memory
+	 */
+	public boolean isAttachmentStream() {
+		return attachmentStream;
+	}
+
+	public void setAttachmentStream(boolean attachmentStream) {
+		this.attachmentStream = attachmentStream;
+	}
+
+	/**
+	 * @return number of threads which upload streamed attachments
+	 */
+	public int getAttachmentUploadThreads() {
+		return attachmentUploadThreads;
+	}
+
+	public void setAttachmentUploadThreads(int attachmentUploadThreads) {
+		this.attachmentUploadThreads = attachmentUploadThreads;
+	}
+
+	/**
+	 * @return true if attachments with identical content should be uploaded only once per launch
+	 */
+	public boolean isAttachmentDeduplicate() {
+		return attachmentDeduplicate;
+	}
+
+	public void setAttachmentDeduplicate(boolean attachmentDeduplicate) {
+		this.attachmentDeduplicate = attachmentDeduplicate;
+	}
+
+	/**
+	 * @return true if text-like attachments should be compressed with gzip before upload
+	 */
+	public boolean isAttachmentCompress() {
+		return attachmentCompress;
+	}
+
+	public void setAttachmentCompress(boolean attachmentCompress) {
+		this.attachmentCompress = attachmentCompress;
+	}
+
+	/**
+	 * @return minimal size in bytes of a text-like attachment to compress
+	 */
+	public int getAttachmentCompressThreshold() {
+		return attachmentCompressThreshold;
+	}
+
+	public void setAttachmentCompressThreshold(int attachmentCompressThreshold) {
+		this.attachmentCompressThreshold = attachmentCompressThreshold;
+	}
+
+	/**
+	 * @return number of threads which process attachments before upload
+	 */
+	public int getAttachmentProcessingThreads() {
+		return attachmentProcessingThreads;
+	}
+
+	public void setAttachmentProcessingThreads(int attachmentProcessingThreads) {
+		this.attachmentProcessingThreads = attachmentProcessingThreads;
+	}
+
+	/**
+	 * @return true if attachments of a Scenario should be collected into a single zip archive
+	 */
+	public boolean isAttachmentBundle() {
+		return attachmentBundle;
+	}
+
+	public void setAttachmentBundle(boolean attachmentBundle) {
+		this.attachmentBundle = attachmentBundle;
+	}
+
+	/**
+	 * @return maximum size of a single uploaded attachment in bytes, zero or negative value means no limit
+	 */
+	public long getAttachmentMaxSize() {
+		return attachmentMaxSize;
+	}
+
+	public void setAttachmentMaxSize(long attachmentMaxSize) {
+		this.attachmentMaxSize = attachmentMaxSize;
+	}
+
+	/**
+	 * @return maximum size of all attachments uploaded within a launch in bytes, zero or negative value means no limit
+	 */
+	public long getAttachmentLaunchMaxSize() {
+		return attachmentLaunchMaxSize;
+	}
+
+	public void setAttachmentLaunchMaxSize(long attachmentLaunchMaxSize) {
+		this.attachmentLaunchMaxSize = attachmentLaunchMaxSize;
+	}
+
+	/**
+	 * @return directory of the default blob store, which keeps attachments exceeding size limits or the offload size
+	 */
+	@Nonnull
+	public String getAttachmentSpillDirectory() {
+		return attachmentSpillDirectory;
+	}
+
+	public void setAttachmentSpillDirectory(@Nonnull String attachmentSpillDirectory) {
+		this.attachmentSpillDirectory = attachmentSpillDirectory;
+	}
+
+	/**
+	 * @return minimal size in bytes of an attachment to store in the blob store instead of uploading, zero or negative value means never
+	 */
+	public long getAttachmentOffloadSize() {
+		return attachmentOffloadSize;
+	}
+
+	public void setAttachmentOffloadSize(long attachmentOffloadSize) {
+		this.attachmentOffloadSize = attachmentOffloadSize;
+	}
+
+	/**
+	 * @return fully qualified class name of a custom blob store, or null to store attachments in the local directory
+	 */
+	@Nullable
+	public String getAttachmentStore() {
+		return attachmentStore;
+	}
+
+	public void setAttachmentStore(@Nullable String attachmentStore) {
+		this.attachmentStore = attachmentStore;
+	}
+
+	/**
+	 * @return number of threads which store attachments in the blob store
+	 */
+	public int getAttachmentStoreThreads() {
+		return attachmentStoreThreads;
+	}
+
+	public void setAttachmentStoreThreads(int attachmentStoreThreads) {
+		this.attachmentStoreThreads = attachmentStoreThreads;
+	}
+
+	/**
+	 * @return maximum width and height in pixels of uploaded images, larger images are downscaled; zero or negative value disables scaling
+	 */
+	public int getAttachmentImageMaxSize() {
+		return attachmentImageMaxSize;
+	}
+
+	public void setAttachmentImageMaxSize(int attachmentImageMaxSize) {
+		this.attachmentImageMaxSize = attachmentImageMaxSize;
+	}
+
+	/**
+	 * @return format of downscaled images
+	 */
+	@Nonnull
+	public ImageFormat getAttachmentImageFormat() {
+		return attachmentImageFormat;
+	}
+
+	public void setAttachmentImageFormat(@Nonnull ImageFormat attachmentImageFormat) {
+		this.attachmentImageFormat = attachmentImageFormat;
+	}
+
+	/**
+	 * @return quality of downscaled images in percent, used by lossy formats
+	 */
+	public int getAttachmentImageQuality() {
+		return attachmentImageQuality;
+	}
+
+	public void setAttachmentImageQuality(int attachmentImageQuality) {
+		this.attachmentImageQuality = attachmentImageQuality;
+	}
+
+	/**
+	 * @return true if requests should be dispatched by priority lanes: structure requests, error logs, other logs
+	 */
+	public boolean isDispatchPriority() {
+		return dispatchPriority;
+	}
+
+	public void setDispatchPriority(boolean dispatchPriority) {
+		this.dispatchPriority = dispatchPriority;
+	}
+
+	/**
+	 * @return concurrency limit of launch and item requests, zero or negative value means no limit
+	 */
+	public int getDispatchStructureConcurrency() {
+		return dispatchStructureConcurrency;
+	}
+
+	public void setDispatchStructureConcurrency(int dispatchStructureConcurrency) {
+		this.dispatchStructureConcurrency = dispatchStructureConcurrency;
+	}
+
+	/**
+	 * @return concurrency limit of log batches with error logs, zero or negative value means no limit
+	 */
+	public int getDispatchErrorLogConcurrency() {
+		return dispatchErrorLogConcurrency;
+	}
+
+	public void setDispatchErrorLogConcurrency(int dispatchErrorLogConcurrency) {
+		this.dispatchErrorLogConcurrency = dispatchErrorLogConcurrency;
+	}
+
+	/**
+	 * @return concurrency limit of other log batches and attachments, zero or negative value means no limit
+	 */
+	public int getDispatchLogConcurrency() {
+		return dispatchLogConcurrency;
+	}
+
+	public void setDispatchLogConcurrency(int dispatchLogConcurrency) {
+		this.dispatchLogConcurrency = dispatchLogConcurrency;
+	}
+
+	/**
+	 * @return concurrency limit of all requests, zero or negative value means no limit
+	 */
+	public int getDispatchMaxConcurrency() {
+		return dispatchMaxConcurrency;
+	}
+
+	public void setDispatchMaxConcurrency(int dispatchMaxConcurrency) {
+		this.dispatchMaxConcurrency = dispatchMaxConcurrency;
+	}
+
+	/**
+	 * @return true if attachments of passed tests are deferred behind attachments of failed ones
+	 */
+	public boolean isAttachmentDeferPassed() {
+		return attachmentDeferPassed;
+	}
+
+	public void setAttachmentDeferPassed(boolean attachmentDeferPassed) {
+		this.attachmentDeferPassed = attachmentDeferPassed;
+	}
+
+	/**
+	 * @return time budget in milliseconds for deferred attachments at launch finish
+	 */
+	public long getAttachmentDeferTimeout() {
+		return attachmentDeferTimeout;
+	}
+
+	public void setAttachmentDeferTimeout(long attachmentDeferTimeout) {
+		this.attachmentDeferTimeout = attachmentDeferTimeout;
+	}
+
+	/**
+	 * @return true if HTTP calls are captured and reported as structured logs
+	 */
+	public boolean isHttpLog() {
+		return httpLog;
+	}
+
+	public void setHttpLog(boolean httpLog) {
+		this.httpLog = httpLog;
+	}
+
+	/**
+	 * @return maximum size in bytes of reported HTTP body excerpts
+	 */
+	public int getHttpBodyMaxSize() {
+		return httpBodyMaxSize;
+	}
+
+	public void setHttpBodyMaxSize(int httpBodyMaxSize) {
+		this.httpBodyMaxSize = httpBodyMaxSize;
+	}
+
+	/**
+	 * @return comma-separated list of HTTP headers which values are redacted
+	 */
+	@Nonnull
+	public String getHttpRedactHeaders() {
+		return httpRedactHeaders;
+	}
+
+	public void setHttpRedactHeaders(@Nonnull String httpRedactHeaders) {
+		this.httpRedactHeaders = httpRedactHeaders;
+	}
+
+	/**
+	 * @return regular expression of HTTP body parts to redact
+	 */
+	@Nullable
+	public String getHttpRedactBody() {
+		return httpRedactBody;
+	}
+
+	public void setHttpRedactBody(@Nullable String httpRedactBody) {
+		this.httpRedactBody = httpRedactBody;
+	}
+
+	/**
+	 * @return true if per-endpoint HTTP latency statistics are collected and reported
+	 */
+	public boolean isHttpMetrics() {
+		return httpMetrics;
+	}
+
+	public void setHttpMetrics(boolean httpMetrics) {
+		this.httpMetrics = httpMetrics;
+	}
+
+	/**
+	 * @return true if HTTP calls of each Scenario are attached as a HAR file
+	 */
+	public boolean isHttpHar() {
+		return httpHar;
+	}
+
+	public void setHttpHar(boolean httpHar) {
+		this.httpHar = httpHar;
+	}
+
+	/**
+	 * @return Report consecutive HTTP calls with the same method and URL within one step as a single log
+	 */
+	public boolean isHttpLogAggregate() {
+		return httpLogAggregate;
+	}
+
+	public void setHttpLogAggregate(boolean httpLogAggregate) {
+		this.httpLogAggregate = httpLogAggregate;
+	}
+
+	/**
+	 * @return Time budget of Launch finish in milliseconds, zero or negative value means no limit
+	 */
+	public long getFinishTimeout() {
+		return finishTimeout;
+	}
+
+	public void setFinishTimeout(long finishTimeout) {
+		this.finishTimeout = finishTimeout;
+	}
+
+	/**
+	 * @return Directory to save ReportPortal requests not confirmed within Launch finish time budget
+	 */
+	@Nullable
+	public String getSpoolDirectory() {
+		return spoolDirectory;
+	}
+
+	public void setSpoolDirectory(@Nullable String spoolDirectory) {
+		this.spoolDirectory = spoolDirectory;
+	}
+
+	/**
+	 * @return Time budget of Launch finish in the shutdown hook in milliseconds, zero or negative value means the Launch finish budget is used
+	 */
+	public long getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * @return Directory of write-ahead journals of ReportPortal requests
+	 */
+	@Nullable
+	public String getJournalDirectory() {
+		return journalDirectory;
+	}
+
+	public void setJournalDirectory(@Nullable String journalDirectory) {
+		this.journalDirectory = journalDirectory;
+	}
+
+	/**
+	 * @return Size of a write-ahead journal segment file in bytes
+	 */
+	public long getJournalSegmentSize() {
+		return journalSegmentSize;
+	}
+
+	public void setJournalSegmentSize(long journalSegmentSize) {
+		this.journalSegmentSize = journalSegmentSize;
+	}
+
+	/**
+	 * @return Write reporting calls to a local spool instead of sending them to ReportPortal
+	 */
+	public boolean isOffline() {
+		return offline;
+	}
+
+	public void setOffline(boolean offline) {
+		this.offline = offline;
+	}
+
+	/**
+	 * @return Directory of offline spool files
+	 */
+	@Nonnull
+	public String getOfflineDirectory() {
+		return offlineDirectory;
+	}
+
+	public void setOfflineDirectory(@Nonnull String offlineDirectory) {
+		this.offlineDirectory = offlineDirectory;
+	}
+
+	/**
+	 * @return how the runner publishes results after the run
+	 */
+	@Nonnull
+	public PublishMode getPublishMode() {
+		return publishMode;
+	}
+
+	public void setPublishMode(@Nonnull PublishMode publishMode) {
+		this.publishMode = publishMode;
+	}
+
+	/**
+	 * @return if ReportPortal calls are guarded by a circuit breaker
+	 */
+	public boolean isBreaker() {
+		return breaker;
+	}
+
+	public void setBreaker(boolean breaker) {
+		this.breaker = breaker;
+	}
+
+	/**
+	 * @return number of recent calls the circuit breaker evaluates
+	 */
+	public int getBreakerWindow() {
+		return breakerWindow;
+	}
+
+	public void setBreakerWindow(int breakerWindow) {
+		this.breakerWindow = breakerWindow;
+	}
+
+	/**
+	 * @return percentage of failed or slow calls which opens the circuit breaker
+	 */
+	public int getBreakerFailureRate() {
+		return breakerFailureRate;
+	}
+
+	public void setBreakerFailureRate(int breakerFailureRate) {
+		this.breakerFailureRate = breakerFailureRate;
+	}
+
+	/**
+	 * @return call duration in milliseconds counted as a failure by the circuit breaker
+	 */
+	public long getBreakerSlowCall() {
+		return breakerSlowCall;
+	}
+
+	public void setBreakerSlowCall(long breakerSlowCall) {
+		this.breakerSlowCall = breakerSlowCall;
+	}
+
+	/**
+	 * @return time in milliseconds the circuit breaker stays open before it tries to upload the spool
+	 */
+	public long getBreakerOpenDuration() {
+		return breakerOpenDuration;
+	}
+
+	public void setBreakerOpenDuration(long breakerOpenDuration) {
+		this.breakerOpenDuration = breakerOpenDuration;
+	}
+
+	/**
+	 * @return if the concurrency limit of all requests is adjusted by observed latency
+	 */
+	public boolean isDispatchAdaptive() {
+		return dispatchAdaptive;
+	}
+
+	public void setDispatchAdaptive(boolean dispatchAdaptive) {
+		this.dispatchAdaptive = dispatchAdaptive;
+	}
+
+	/**
+	 * @return minimal adaptive concurrency limit
+	 */
+	public int getDispatchAdaptiveMin() {
+		return dispatchAdaptiveMin;
+	}
+
+	public void setDispatchAdaptiveMin(int dispatchAdaptiveMin) {
+		this.dispatchAdaptiveMin = dispatchAdaptiveMin;
+	}
+
+	/**
+	 * @return maximal adaptive concurrency limit
+	 */
+	public int getDispatchAdaptiveMax() {
+		return dispatchAdaptiveMax;
+	}
+
+	public void setDispatchAdaptiveMax(int dispatchAdaptiveMax) {
+		this.dispatchAdaptiveMax = dispatchAdaptiveMax;
+	}
+
+	/**
+	 * @return response time in milliseconds above which the adaptive concurrency limit is decreased
+	 */
+	public long getDispatchAdaptiveLatency() {
+		return dispatchAdaptiveLatency;
+	}
+
+	public void setDispatchAdaptiveLatency(long dispatchAdaptiveLatency) {
+		this.dispatchAdaptiveLatency = dispatchAdaptiveLatency;
+	}
+
+	/**
+	 * @return if the Launch is started in background before the first Feature
+	 */
+	public boolean isLaunchStartAsync() {
+		return launchStartAsync;
+	}
+
+	public void setLaunchStartAsync(boolean launchStartAsync) {
+		this.launchStartAsync = launchStartAsync;
+	}
+
+	/**
+	 * @return register the adaptive concurrency limit as a JMX MBean
+	 */
+	public boolean isDispatchAdaptiveJmx() {
+		return dispatchAdaptiveJmx;
+	}
+
+	public void setDispatchAdaptiveJmx(boolean dispatchAdaptiveJmx) {
+		this.dispatchAdaptiveJmx = dispatchAdaptiveJmx;
+	}
+}
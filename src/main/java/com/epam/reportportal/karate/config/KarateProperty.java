@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.config;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Karate agent specific properties, which are read from the same sources as common client properties: `reportportal.properties` file,
+ * environment variables and JVM system properties.
+ */
+public enum KarateProperty {
+	/**
+	 * Minimal log level of messages generated by the agent, messages with lower level are not built and not sent.
+	 */
+	LOG_LEVEL("rp.karate.log.level"),
+	/**
+	 * Maximum log message size in characters, larger messages are handled according to {@link #LOG_OVERSIZE_MODE}. Zero or negative
+	 * value means no limit.
+	 */
+	LOG_MAX_SIZE("rp.karate.log.max.size"),
+	/**
+	 * How to handle log messages larger than {@link #LOG_MAX_SIZE}, see {@link OversizedLogMode}.
+	 */
+	LOG_OVERSIZE_MODE("rp.karate.log.oversize.mode"),
+	/**
+	 * Upload attachments by streaming them from embed files instead of loading their content into memory.
+	 */
+	ATTACHMENT_STREAM("rp.karate.attachment.stream"),
+	/**
+	 * Number of threads which upload streamed attachments.
+	 */
+	ATTACHMENT_UPLOAD_THREADS("rp.karate.attachment.upload.threads"),
+	/**
+	 * Upload attachments with identical content only once per launch, repeats are replaced with a reference to the first upload.
+	 */
+	ATTACHMENT_DEDUPLICATE("rp.karate.attachment.deduplicate"),
+	/**
+	 * Compress text-like attachments (plain text, JSON, XML, HTML, etc.) with gzip before upload.
+	 */
+	ATTACHMENT_COMPRESS("rp.karate.attachment.compress"),
+	/**
+	 * Minimal size in bytes of a text-like attachment to compress, smaller attachments are uploaded as is.
+	 */
+	ATTACHMENT_COMPRESS_THRESHOLD("rp.karate.attachment.compress.threshold"),
+	/**
+	 * Number of threads which process attachments (e.g. compress them) before upload.
+	 */
+	ATTACHMENT_PROCESSING_THREADS("rp.karate.attachment.processing.threads"),
+	/**
+	 * Collect all attachments of a Scenario into a single zip archive, which is attached to the Scenario when it finishes.
+	 */
+	ATTACHMENT_BUNDLE("rp.karate.attachment.bundle"),
+	/**
+	 * Maximum size of a single uploaded attachment in bytes, larger attachments are stored in {@link #ATTACHMENT_SPILL_DIRECTORY}. Zero
+	 * or negative value means no limit.
+	 */
+	ATTACHMENT_MAX_SIZE("rp.karate.attachment.max.size"),
+	/**
+	 * Maximum size of all attachments uploaded within a launch in bytes, attachments over the budget are stored in
+	 * {@link #ATTACHMENT_SPILL_DIRECTORY}. Zero or negative value means no limit.
+	 */
+	ATTACHMENT_LAUNCH_MAX_SIZE("rp.karate.attachment.launch.max.size"),
+	/**
+	 * Directory of the default blob store, which keeps attachments exceeding size limits or {@link #ATTACHMENT_OFFLOAD_SIZE}.
+	 */
+	ATTACHMENT_SPILL_DIRECTORY("rp.karate.attachment.spill.dir"),
+	/**
+	 * Minimal size in bytes of an attachment to store in the blob store instead of uploading it to ReportPortal. Zero or negative value
+	 * means never.
+	 */
+	ATTACHMENT_OFFLOAD_SIZE("rp.karate.attachment.offload.size"),
+	/**
+	 * Fully qualified class name of a custom {@link com.epam.reportportal.karate.attachment.BlobStore} implementation. By default
+	 * attachments are stored in {@link #ATTACHMENT_SPILL_DIRECTORY}.
+	 */
+	ATTACHMENT_STORE("rp.karate.attachment.store"),
+	/**
+	 * Number of threads which store attachments in the blob store.
+	 */
+	ATTACHMENT_STORE_THREADS("rp.karate.attachment.store.threads"),
+	/**
+	 * Maximum width and height in pixels of uploaded images, larger images are downscaled and re-encoded in
+	 * {@link #ATTACHMENT_IMAGE_FORMAT}. Images of failed Scenarios are kept intact. Zero or negative value disables scaling.
+	 */
+	ATTACHMENT_IMAGE_MAX_SIZE("rp.karate.attachment.image.max.size"),
+	/**
+	 * Format of downscaled images, see {@link ImageFormat}.
+	 */
+	ATTACHMENT_IMAGE_FORMAT("rp.karate.attachment.image.format"),
+	/**
+	 * Quality of downscaled images in percent, used by lossy formats.
+	 */
+	ATTACHMENT_IMAGE_QUALITY("rp.karate.attachment.image.quality"),
+	/**
+	 * Dispatch requests by priority lanes: launch and item requests first, then error logs, then other logs and attachments.
+	 */
+	DISPATCH_PRIORITY("rp.karate.dispatch.priority"),
+	/**
+	 * Concurrency limit of launch and item requests. Zero or negative value means no limit.
+	 */
+	DISPATCH_STRUCTURE_CONCURRENCY("rp.karate.dispatch.structure.concurrency"),
+	/**
+	 * Concurrency limit of log batches which contain error logs. Zero or negative value means no limit.
+	 */
+	DISPATCH_ERROR_LOG_CONCURRENCY("rp.karate.dispatch.error.concurrency"),
+	/**
+	 * Concurrency limit of other log batches and attachments. Zero or negative value means no limit.
+	 */
+	DISPATCH_LOG_CONCURRENCY("rp.karate.dispatch.log.concurrency"),
+	/**
+	 * Concurrency limit of all requests, when it is reached lanes are served in priority order. Zero or negative value means no limit.
+	 */
+	DISPATCH_MAX_CONCURRENCY("rp.karate.dispatch.max.concurrency"),
+	/**
+	 * Defer attachments of passed tests: they are uploaded only when there are no pending attachments of failed tests.
+	 */
+	ATTACHMENT_DEFER_PASSED("rp.karate.attachment.defer.passed"),
+	/**
+	 * Time budget in milliseconds for deferred attachments at launch finish, attachments which are not uploaded in time are dropped.
+	 */
+	ATTACHMENT_DEFER_TIMEOUT("rp.karate.attachment.defer.timeout"),
+	/**
+	 * Capture HTTP calls and report them as structured logs.
+	 */
+	HTTP_LOG("rp.karate.http.log"),
+	/**
+	 * Maximum size in bytes of reported HTTP request and response body excerpts.
+	 */
+	HTTP_BODY_MAX_SIZE("rp.karate.http.body.max.size"),
+	/**
+	 * Comma-separated list of HTTP headers which values are replaced with a placeholder.
+	 */
+	HTTP_REDACT_HEADERS("rp.karate.http.redact.headers"),
+	/**
+	 * Regular expression of HTTP body parts which are replaced with a placeholder.
+	 */
+	HTTP_REDACT_BODY("rp.karate.http.redact.body"),
+	/**
+	 * Collect per-endpoint HTTP latency statistics and report them as a Launch attachment and Feature attributes.
+	 */
+	HTTP_METRICS("rp.karate.http.metrics"),
+	/**
+	 * Write HTTP calls of each Scenario into a HAR file and attach it to the Scenario.
+	 */
+	HTTP_HAR("rp.karate.http.har"),
+	/**
+	 * Report consecutive HTTP calls with the same method and URL within one step, e.g. {@code retry until} polling, as a single log with
+	 * the attempt count, timings and the last call only.
+	 */
+	HTTP_LOG_AGGREGATE("rp.karate.http.log.aggregate"),
+	/**
+	 * Time budget of Launch finish in milliseconds. If the Launch is not finished in time it continues finishing in background, and the
+	 * agent returns control to the caller. Zero or negative value means no limit.
+	 */
+	FINISH_TIMEOUT("rp.karate.finish.timeout"),
+	/**
+	 * Directory to save ReportPortal requests which were not confirmed by the server within {@link #FINISH_TIMEOUT}. If not set, such
+	 * requests are not saved.
+	 */
+	SPOOL_DIRECTORY("rp.karate.spool.dir"),
+	/**
+	 * Time budget of Launch finish in milliseconds when it is finished by the JVM shutdown hook, e.g. when CI kills the build. Requests
+	 * which were not confirmed in time are saved to {@link #SPOOL_DIRECTORY}. Zero or negative value means {@link #FINISH_TIMEOUT} is
+	 * used.
+	 */
+	SHUTDOWN_TIMEOUT("rp.karate.shutdown.timeout"),
+	/**
+	 * Directory of write-ahead journals. If set, every ReportPortal request is appended to a journal before it is sent, and server
+	 * acknowledgements are recorded there, so unacknowledged requests can be resent with
+	 * {@link com.epam.reportportal.karate.client.JournalReplayer} after a crash or a network outage.
+	 */
+	JOURNAL_DIRECTORY("rp.karate.journal.dir"),
+	/**
+	 * Size of a memory-mapped journal segment file in bytes.
+	 */
+	JOURNAL_SEGMENT_SIZE("rp.karate.journal.segment.size"),
+	/**
+	 * Offline mode: reporting calls are written to a compressed spool file in {@link #OFFLINE_DIRECTORY} instead of being sent to
+	 * ReportPortal. The spool is uploaded later with {@link com.epam.reportportal.karate.client.SpoolUploader}.
+	 */
+	OFFLINE("rp.karate.offline"),
+	/**
+	 * Directory of offline spool files.
+	 */
+	OFFLINE_DIRECTORY("rp.karate.offline.dir"),
+	/**
+	 * How {@link com.epam.reportportal.karate.KarateReportPortalRunner} publishes results, see {@link PublishMode}.
+	 */
+	PUBLISH_MODE("rp.karate.publish.mode"),
+	/**
+	 * Circuit breaker: when ReportPortal calls fail or are slow, reporting calls are diverted to a spool directory in
+	 * {@link #OFFLINE_DIRECTORY} and uploaded once ReportPortal recovers.
+	 */
+	BREAKER("rp.karate.breaker"),
+	/**
+	 * Number of recent ReportPortal calls the circuit breaker evaluates.
+	 */
+	BREAKER_WINDOW("rp.karate.breaker.window"),
+	/**
+	 * Percentage of failed or slow calls in the window which opens the circuit breaker.
+	 */
+	BREAKER_FAILURE_RATE("rp.karate.breaker.failure.rate"),
+	/**
+	 * Duration in milliseconds after which a ReportPortal call is counted as failed by the circuit breaker.
+	 */
+	BREAKER_SLOW_CALL("rp.karate.breaker.slow.call"),
+	/**
+	 * Time in milliseconds the circuit breaker stays open before it tries to upload the spool.
+	 */
+	BREAKER_OPEN_DURATION("rp.karate.breaker.open.duration"),
+	/**
+	 * Adjust the concurrency limit of all requests to ReportPortal by observed latency: increase it additively while responses are fast,
+	 * decrease it multiplicatively on slow responses and overload errors.
+	 */
+	DISPATCH_ADAPTIVE("rp.karate.dispatch.adaptive"),
+	/**
+	 * Minimal adaptive concurrency limit.
+	 */
+	DISPATCH_ADAPTIVE_MIN("rp.karate.dispatch.adaptive.min"),
+	/**
+	 * Maximal adaptive concurrency limit.
+	 */
+	DISPATCH_ADAPTIVE_MAX("rp.karate.dispatch.adaptive.max"),
+	/**
+	 * Response time in milliseconds above which the adaptive concurrency limit is decreased.
+	 */
+	DISPATCH_ADAPTIVE_LATENCY("rp.karate.dispatch.adaptive.latency"),
+	/**
+	 * Start the Launch and warm up the connection to ReportPortal in background before the first Feature, while Karate prepares the
+	 * Suite.
+	 */
+	LAUNCH_START_ASYNC("rp.karate.launch.start.async"),
+	/**
+	 * Register the adaptive concurrency limit as a JMX MBean.
+	 */
+	DISPATCH_ADAPTIVE_JMX("rp.karate.dispatch.adaptive.jmx");
+
+	private final String propertyName;
+
+	KarateProperty(@Nonnull String propertyName) {
+		this.propertyName = propertyName;
+	}
+
+	/**
+	 * @return property name as it should be specified in configuration
+	 */
+	@Nonnull
+	public String getPropertyName() {
+		return propertyName;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.config;
+
+/**
+ * Handling strategy for log messages which exceed configured maximum size.
+ */
+public enum OversizedLogMode {
+	/**
+	 * Split the message into ordered parts, each part is sent as a separate log entry.
+	 */
+	SPLIT,
+	/**
+	 * Compress the message and send it as a single gzip attachment.
+	 */
+	ATTACHMENT
+}
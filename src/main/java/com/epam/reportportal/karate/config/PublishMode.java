@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.config;
+
+/**
+ * How {@link com.epam.reportportal.karate.KarateReportPortalRunner} publishes results after the run.
+ */
+public enum PublishMode {
+	/**
+	 * Report every Feature, Scenario and Step with separate requests, see {@link com.epam.reportportal.karate.ReportPortalPublisher}.
+	 */
+	ITEMS,
+	/**
+	 * Write results to a JUnit XML zip and upload it with a single Launch import request, see
+	 * {@link com.epam.reportportal.karate.importer.JunitXmlImportPublisher}.
+	 */
+	JUNIT_IMPORT
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregated statistics of calls, e.g. HTTP requests: latency histogram in microseconds, error count and time window of the calls.
+ */
+public class EndpointStats {
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * Record a captured HTTP call. Responses with status 400 and above are counted as errors.
+	 *
+	 * @param exchange captured HTTP call
+	 */
+	public void record(@Nonnull HttpExchange exchange) {
+		long start = exchange.getStartTime().toEpochMilli();
+		record(start, start + exchange.getLatency().toMillis(), exchange.getLatency().toNanos() / 1000, exchange.getStatus() >= 400);
+	}
+
+	/**
+	 * Record a single call.
+	 *
+	 * @param startTime start time in epoch milliseconds
+	 * @param endTime   end time in epoch milliseconds
+	 * @param duration  duration in microseconds
+	 * @param error     true if the call failed
+	 */
+	public void record(long startTime, long endTime, long duration, boolean error) {
+		latency.record(duration);
+		if (error) {
+			errors.incrementAndGet();
+		}
+		firstStart.accumulateAndGet(startTime, Math::min);
+		lastEnd.accumulateAndGet(endTime, Math::max);
+	}
+
+	/**
+	 * Add all calls of another statistics object to this one.
+	 *
+	 * @param other statistics to merge
+	 */
+	public void merge(@Nonnull EndpointStats other) {
+		latency.merge(other.latency);
+		errors.addAndGet(other.errors.get());
+		firstStart.accumulateAndGet(other.firstStart.get(), Math::min);
+		lastEnd.accumulateAndGet(other.lastEnd.get(), Math::max);
+	}
+
+	/**
+	 * @return latency histogram in microseconds
+	 */
+	@Nonnull
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	public long getCount() {
+		return latency.getCount();
+	}
+
+	public long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * @return share of failed calls, from 0 to 1
+	 */
+	public double getErrorRate() {
+		long count = getCount();
+		return count > 0 ? (double) errors.get() / count : 0;
+	}
+
+	/**
+	 * @return calls per second within the time window from the first call start to the last call end
+	 */
+	public double getThroughput() {
+		long count = getCount();
+		if (count <= 0) {
+			return 0;
+		}
+		long window = Math.max(1, lastEnd.get() - firstStart.get());
+		return count * 1000.0 / window;
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Writes captured HTTP calls of a Scenario into a HAR (HTTP Archive) file. Entries are streamed to disk one by one, so memory usage does
+ * not depend on the number of calls. Headers and bodies are redacted and bodies are cut the same way as in HTTP call logs.
+ */
+public class HarWriter implements Closeable {
+	public static final String HAR_VERSION = "1.2";
+	public static final String CREATOR_NAME = "agent-java-karate";
+	public static final String HTTP_VERSION = "HTTP/1.1";
+	private static final Logger LOGGER = LoggerFactory.getLogger(HarWriter.class);
+	private static final String DEFAULT_MIME_TYPE = "application/octet-stream";
+
+	private final HttpCaptor captor;
+	private final File file;
+	private final JsonGenerator generator;
+	private int entries;
+
+	/**
+	 * Create a HAR file and write its header.
+	 *
+	 * @param captor HTTP captor to redact and decode bodies
+	 * @throws IOException if the file cannot be created
+	 */
+	public HarWriter(@Nonnull HttpCaptor captor) throws IOException {
+		this.captor = captor;
+		file = Files.createTempFile("rp-karate-", ".har").toFile();
+		try {
+			generator = HttpRequestUtils.MAPPER.getFactory().createGenerator(file, JsonEncoding.UTF8);
+			generator.writeStartObject();
+			generator.writeObjectFieldStart("log");
+			generator.writeStringField("version", HAR_VERSION);
+			generator.writeObjectFieldStart("creator");
+			generator.writeStringField("name", CREATOR_NAME);
+			generator.writeStringField("version", ofNullable(HarWriter.class.getPackage().getImplementationVersion()).orElse(""));
+			generator.writeEndObject();
+			generator.writeArrayFieldStart("entries");
+		} catch (IOException e) {
+			Files.deleteIfExists(file.toPath());
+			throw e;
+		}
+	}
+
+	private void writeHeaders(@Nonnull Map<String, List<String>> headers) throws IOException {
+		HttpRedactor redactor = captor.getRedactor();
+		generator.writeArrayFieldStart("headers");
+		for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+			if (header.getValue() == null) {
+				continue;
+			}
+			for (String value : header.getValue()) {
+				generator.writeStartObject();
+				generator.writeStringField("name", header.getKey());
+				generator.writeStringField("value", redactor.redactHeader(header.getKey(), value));
+				generator.writeEndObject();
+			}
+		}
+		generator.writeEndArray();
+		generator.writeArrayFieldStart("cookies");
+		generator.writeEndArray();
+		generator.writeNumberField("headersSize", -1);
+	}
+
+	private void writeContent(@Nonnull String fieldName, @Nonnull byte[] body, int size, @Nonnull Map<String, List<String>> headers)
+			throws IOException {
+		generator.writeObjectFieldStart(fieldName);
+		if (!"postData".equals(fieldName)) {
+			generator.writeNumberField("size", size);
+		}
+		generator.writeStringField("mimeType", ofNullable(HttpCaptor.getContentType(headers)).orElse(DEFAULT_MIME_TYPE));
+		String text = captor.getBodyText(body, headers);
+		if (text != null) {
+			generator.writeStringField("text", text);
+		}
+		if (body.length < size) {
+			generator.writeStringField("comment", String.format("Truncated to %d of %d bytes", body.length, size));
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Append a captured HTTP call to the archive.
+	 *
+	 * @param exchange captured HTTP call
+	 * @throws IOException if the entry cannot be written
+	 */
+	public synchronized void write(@Nonnull HttpExchange exchange) throws IOException {
+		long time = exchange.getLatency().toMillis();
+		generator.writeStartObject();
+		generator.writeStringField("startedDateTime", exchange.getStartTime().toString());
+		generator.writeNumberField("time", time);
+
+		generator.writeObjectFieldStart("request");
+		generator.writeStringField("method", exchange.getMethod());
+		generator.writeStringField("url", exchange.getUrl());
+		generator.writeStringField("httpVersion", HTTP_VERSION);
+		writeHeaders(exchange.getRequestHeaders());
+		generator.writeArrayFieldStart("queryString");
+		generator.writeEndArray();
+		generator.writeNumberField("bodySize", exchange.getRequestBodySize());
+		if (exchange.getRequestBodySize() > 0) {
+			writeContent("postData", exchange.getRequestBody(), exchange.getRequestBodySize(), exchange.getRequestHeaders());
+		}
+		generator.writeEndObject();
+
+		generator.writeObjectFieldStart("response");
+		generator.writeNumberField("status", exchange.getStatus());
+		generator.writeStringField("statusText", "");
+		generator.writeStringField("httpVersion", HTTP_VERSION);
+		writeHeaders(exchange.getResponseHeaders());
+		writeContent("content", exchange.getResponseBody(), exchange.getResponseBodySize(), exchange.getResponseHeaders());
+		generator.writeStringField("redirectURL", "");
+		generator.writeNumberField("bodySize", exchange.getResponseBodySize());
+		generator.writeEndObject();
+
+		generator.writeObjectFieldStart("cache");
+		generator.writeEndObject();
+		generator.writeObjectFieldStart("timings");
+		generator.writeNumberField("send", 0);
+		generator.writeNumberField("wait", time);
+		generator.writeNumberField("receive", 0);
+		generator.writeEndObject();
+		generator.writeEndObject();
+		entries++;
+	}
+
+	/**
+	 * @return number of written entries
+	 */
+	public synchronized int getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Complete the archive.
+	 *
+	 * @return the archive file, or null if the archive cannot be completed
+	 */
+	@Nullable
+	public synchronized File finish() {
+		try {
+			generator.writeEndArray();
+			generator.writeEndObject();
+			generator.writeEndObject();
+			generator.close();
+			return file;
+		} catch (IOException e) {
+			LOGGER.warn("Unable to complete HAR file: {}", file.getAbsolutePath(), e);
+			close();
+			return null;
+		}
+	}
+
+	/**
+	 * Discard the archive and delete its file.
+	 */
+	@Override
+	public synchronized void close() {
+		try {
+			generator.close();
+		} catch (IOException e) {
+			LOGGER.debug("Unable to close HAR file", e);
+		}
+		try {
+			Files.deleteIfExists(file.toPath());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete HAR file: {}", file.getAbsolutePath(), e);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Consecutive HTTP calls with the same method and URL made within one step, e.g. polling with Karate's {@code retry until}. The group
+ * keeps timing statistics of all attempts and only the last captured call.
+ */
+public class HttpCallGroup {
+	private final Maybe<String> itemId;
+	private final Instant startTime;
+	private HttpExchange last;
+	private int attempts;
+	private long totalLatency;
+	private long minLatency = Long.MAX_VALUE;
+	private long maxLatency;
+
+	/**
+	 * Start a group with its first call.
+	 *
+	 * @param itemId   ID future of the step which made the call
+	 * @param exchange captured HTTP call
+	 */
+	public HttpCallGroup(@Nonnull Maybe<String> itemId, @Nonnull HttpExchange exchange) {
+		this.itemId = itemId;
+		startTime = exchange.getStartTime();
+		record(exchange);
+	}
+
+	private void record(@Nonnull HttpExchange exchange) {
+		long latency = exchange.getLatency().toMillis();
+		last = exchange;
+		attempts++;
+		totalLatency += latency;
+		minLatency = Math.min(minLatency, latency);
+		maxLatency = Math.max(maxLatency, latency);
+	}
+
+	/**
+	 * Add a call to the group if it repeats the group calls.
+	 *
+	 * @param itemId   ID future of the step which made the call
+	 * @param exchange captured HTTP call
+	 * @return true if the call was added, false if it belongs to another group
+	 */
+	public boolean add(@Nonnull Maybe<String> itemId, @Nonnull HttpExchange exchange) {
+		if (this.itemId != itemId || !last.getMethod().equals(exchange.getMethod()) || !last.getUrl().equals(exchange.getUrl())) {
+			return false;
+		}
+		record(exchange);
+		return true;
+	}
+
+	@Nonnull
+	public Maybe<String> getItemId() {
+		return itemId;
+	}
+
+	@Nonnull
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * @return the last call of the group
+	 */
+	@Nonnull
+	public HttpExchange getLast() {
+		return last;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * @return time from the first call start to the last call end
+	 */
+	@Nonnull
+	public Duration getElapsed() {
+		return Duration.between(startTime, last.getStartTime().plus(last.getLatency()));
+	}
+
+	public long getMinLatency() {
+		return minLatency;
+	}
+
+	public long getMaxLatency() {
+		return maxLatency;
+	}
+
+	public long getAverageLatency() {
+		return totalLatency / attempts;
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.intuit.karate.http.HttpRequest;
+import com.intuit.karate.http.Response;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.epam.reportportal.karate.attachment.AttachmentCompressor.isTextContentType;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Captures HTTP calls made by Karate. Capturing is cheap: it records timings, keeps references to headers and bodies, and copies only
+ * excerpts of bodies larger than the configured size. Redaction and formatting are performed by {@link #format(HttpExchange)}, which is
+ * supposed to be called on the reporting thread.
+ */
+public class HttpCaptor {
+	public static final String EXCHANGE_PATTERN = "HTTP %s %s -> %d (%d ms)";
+	public static final String REQUEST_HEADERS = "Request headers:";
+	public static final String RESPONSE_HEADERS = "Response headers:";
+	public static final String REQUEST_BODY_PATTERN = "Request body (%s):";
+	public static final String RESPONSE_BODY_PATTERN = "Response body (%s):";
+	public static final String BINARY_BODY = "[binary content]";
+	public static final String REPEATED_CALL_PATTERN = "Repeated HTTP call: %d attempts in %d ms, latency min %d ms, avg %d ms, max %d ms. Last attempt:\n\n%s";
+	private static final String CONTENT_TYPE_HEADER = "Content-Type";
+
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final int bodyMaxSize;
+	private final long offloadSize;
+	private final HttpRedactor redactor;
+
+	/**
+	 * Create a captor configured by Karate agent parameters.
+	 *
+	 * @param parameters Karate agent parameters
+	 */
+	public HttpCaptor(@Nonnull KarateParameters parameters) {
+		bodyMaxSize = Math.max(0, parameters.getHttpBodyMaxSize());
+		offloadSize = parameters.getAttachmentOffloadSize();
+		redactor = new HttpRedactor(parameters.getHttpRedactHeaders(), parameters.getHttpRedactBody());
+	}
+
+	@Nonnull
+	public HttpRedactor getRedactor() {
+		return redactor;
+	}
+
+	/**
+	 * Remember the start time of an HTTP call.
+	 *
+	 * @param key key of the call, usually Scenario unique ID, since Karate makes HTTP calls of a Scenario one by one
+	 */
+	public void start(@Nonnull String key) {
+		startTimes.put(key, System.nanoTime());
+	}
+
+	@Nonnull
+	private byte[] excerpt(@Nullable byte[] body) {
+		if (body == null) {
+			return new byte[0];
+		}
+		return body.length <= bodyMaxSize ? body : Arrays.copyOf(body, bodyMaxSize);
+	}
+
+	/**
+	 * Capture a finished HTTP call.
+	 *
+	 * @param key      key of the call passed to {@link #start(String)}
+	 * @param request  Karate's HTTP request
+	 * @param response Karate's HTTP response
+	 * @return captured call
+	 */
+	@Nonnull
+	public HttpExchange finish(@Nonnull String key, @Nonnull HttpRequest request, @Nonnull Response response) {
+		long now = System.nanoTime();
+		Long start = startTimes.remove(key);
+		Duration latency = Duration.ofNanos(start == null ? 0 : now - start);
+		byte[] requestBody = request.getBody();
+		byte[] responseBody = response.getBody();
+		int requestBodySize = requestBody == null ? 0 : requestBody.length;
+		int responseBodySize = responseBody == null ? 0 : responseBody.length;
+		boolean offloaded = isOffloaded((long) requestBodySize + responseBodySize);
+		return new HttpExchange(
+				String.valueOf(request.getMethod()),
+				String.valueOf(request.getUrl()),
+				request.getHeaders(),
+				excerpt(requestBody),
+				requestBodySize,
+				response.getStatus(),
+				response.getHeaders(),
+				excerpt(responseBody),
+				responseBodySize,
+				Instant.now().minus(latency),
+				latency,
+				offloaded ? requestBody : null,
+				offloaded ? responseBody : null
+		);
+	}
+
+	private boolean isOffloaded(long bodySize) {
+		return offloadSize > 0 && bodySize >= offloadSize;
+	}
+
+	/**
+	 * Check if a captured HTTP call is heavy enough to be offloaded to the blob store: its full request and response bodies together are
+	 * not smaller than {@link KarateParameters#getAttachmentOffloadSize()}.
+	 *
+	 * @param exchange captured call
+	 * @return true if the call should be offloaded
+	 */
+	public boolean isOffloaded(@Nonnull HttpExchange exchange) {
+		return isOffloaded((long) exchange.getRequestBodySize() + exchange.getResponseBodySize());
+	}
+
+	/**
+	 * @param headers request or response headers
+	 * @return value of the Content-Type header, or null if there is no such header
+	 */
+	@Nullable
+	public static String getContentType(@Nonnull Map<String, List<String>> headers) {
+		return headers.entrySet()
+				.stream()
+				.filter(e -> CONTENT_TYPE_HEADER.equalsIgnoreCase(e.getKey()))
+				.findAny()
+				.flatMap(e -> ofNullable(e.getValue()).flatMap(v -> v.stream().findFirst()))
+				.orElse(null);
+	}
+
+	private void appendHeaders(@Nonnull StringBuilder builder, @Nonnull String title, @Nonnull Map<String, List<String>> headers) {
+		if (headers.isEmpty()) {
+			return;
+		}
+		builder.append("\n\n").append(title);
+		headers.forEach((name, values) -> ofNullable(values).ifPresent(v -> v.forEach(value -> builder.append('\n')
+				.append(name)
+				.append(": ")
+				.append(redactor.redactHeader(name, value)))));
+	}
+
+	private void appendBody(@Nonnull StringBuilder builder, @Nonnull String pattern, @Nonnull byte[] body, int size,
+			@Nonnull Map<String, List<String>> headers) {
+		if (size <= 0) {
+			return;
+		}
+		String sizeText = body.length < size ? body.length + " of " + size + " bytes" : size + " bytes";
+		builder.append("\n\n").append(String.format(pattern, sizeText)).append('\n');
+		if (body.length == 0) {
+			return;
+		}
+		builder.append(ofNullable(getBodyText(body, headers)).orElse(BINARY_BODY));
+	}
+
+	/**
+	 * Decode and redact a body excerpt.
+	 *
+	 * @param body    body excerpt
+	 * @param headers request or response headers
+	 * @return redacted body text, or null if the body is binary
+	 */
+	@Nullable
+	public String getBodyText(@Nonnull byte[] body, @Nonnull Map<String, List<String>> headers) {
+		String contentType = getContentType(headers);
+		if (contentType != null && !isTextContentType(contentType)) {
+			return null;
+		}
+		return redactor.redactBody(new String(body, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Format a captured HTTP call as a log message, redacting sensitive data.
+	 *
+	 * @param exchange captured call
+	 * @return log message
+	 */
+	@Nonnull
+	public String format(@Nonnull HttpExchange exchange) {
+		return format(exchange, false);
+	}
+
+	/**
+	 * Format a captured HTTP call as a log message, redacting sensitive data.
+	 *
+	 * @param exchange   captured call
+	 * @param fullBodies use full bodies instead of excerpts, if they are kept
+	 * @return log message
+	 */
+	@Nonnull
+	public String format(@Nonnull HttpExchange exchange, boolean fullBodies) {
+		byte[] requestBody = fullBodies ?
+				ofNullable(exchange.getFullRequestBody()).orElse(exchange.getRequestBody()) :
+				exchange.getRequestBody();
+		byte[] responseBody = fullBodies ?
+				ofNullable(exchange.getFullResponseBody()).orElse(exchange.getResponseBody()) :
+				exchange.getResponseBody();
+		StringBuilder builder = new StringBuilder(String.format(
+				EXCHANGE_PATTERN,
+				exchange.getMethod(),
+				exchange.getUrl(),
+				exchange.getStatus(),
+				exchange.getLatency().toMillis()
+		));
+		appendHeaders(builder, REQUEST_HEADERS, exchange.getRequestHeaders());
+		appendBody(builder, REQUEST_BODY_PATTERN, requestBody, exchange.getRequestBodySize(), exchange.getRequestHeaders());
+		appendHeaders(builder, RESPONSE_HEADERS, exchange.getResponseHeaders());
+		appendBody(builder, RESPONSE_BODY_PATTERN, responseBody, exchange.getResponseBodySize(), exchange.getResponseHeaders());
+		return builder.toString();
+	}
+
+	/**
+	 * Format a group of repeated HTTP calls as a log message: a summary of all attempts and the last call.
+	 *
+	 * @param group group of calls
+	 * @return log message, the same as for a single call if the group has only one call
+	 */
+	@Nonnull
+	public String format(@Nonnull HttpCallGroup group) {
+		return format(group, false);
+	}
+
+	/**
+	 * Format a group of repeated HTTP calls as a log message: a summary of all attempts and the last call.
+	 *
+	 * @param group      group of calls
+	 * @param fullBodies use full bodies of the last call instead of excerpts, if they are kept
+	 * @return log message, the same as for a single call if the group has only one call
+	 */
+	@Nonnull
+	public String format(@Nonnull HttpCallGroup group, boolean fullBodies) {
+		String last = format(group.getLast(), fullBodies);
+		if (group.getAttempts() <= 1) {
+			return last;
+		}
+		return String.format(
+				REPEATED_CALL_PATTERN,
+				group.getAttempts(),
+				group.getElapsed().toMillis(),
+				group.getMinLatency(),
+				group.getAverageLatency(),
+				group.getMaxLatency(),
+				last
+		);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Raw data of a single HTTP call captured on Karate's thread. Bodies are kept as excerpts, full bodies only if the call is to be
+ * offloaded to the blob store. The formatting is done later by {@link HttpCaptor#format(HttpExchange)}.
+ */
+public class HttpExchange {
+	private final String method;
+	private final String url;
+	private final Map<String, List<String>> requestHeaders;
+	private final byte[] requestBody;
+	private final int requestBodySize;
+	private final int status;
+	private final Map<String, List<String>> responseHeaders;
+	private final byte[] responseBody;
+	private final int responseBodySize;
+	private final Instant startTime;
+	private final Duration latency;
+	private final byte[] fullRequestBody;
+	private final byte[] fullResponseBody;
+
+	public HttpExchange(@Nonnull String method, @Nonnull String url, @Nullable Map<String, List<String>> requestHeaders,
+			@Nonnull byte[] requestBody, int requestBodySize, int status, @Nullable Map<String, List<String>> responseHeaders,
+			@Nonnull byte[] responseBody, int responseBodySize, @Nonnull Instant startTime, @Nonnull Duration latency,
+			@Nullable byte[] fullRequestBody, @Nullable byte[] fullResponseBody) {
+		this.method = method;
+		this.url = url;
+		this.requestHeaders = requestHeaders == null ? Collections.emptyMap() : requestHeaders;
+		this.requestBody = requestBody;
+		this.requestBodySize = requestBodySize;
+		this.status = status;
+		this.responseHeaders = responseHeaders == null ? Collections.emptyMap() : responseHeaders;
+		this.responseBody = responseBody;
+		this.responseBodySize = responseBodySize;
+		this.startTime = startTime;
+		this.latency = latency;
+		this.fullRequestBody = fullRequestBody;
+		this.fullResponseBody = fullResponseBody;
+	}
+
+	@Nonnull
+	public String getMethod() {
+		return method;
+	}
+
+	@Nonnull
+	public String getUrl() {
+		return url;
+	}
+
+	@Nonnull
+	public Map<String, List<String>> getRequestHeaders() {
+		return requestHeaders;
+	}
+
+	/**
+	 * @return request body excerpt
+	 */
+	@Nonnull
+	public byte[] getRequestBody() {
+		return requestBody;
+	}
+
+	/**
+	 * @return full request body size in bytes
+	 */
+	public int getRequestBodySize() {
+		return requestBodySize;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	@Nonnull
+	public Map<String, List<String>> getResponseHeaders() {
+		return responseHeaders;
+	}
+
+	/**
+	 * @return response body excerpt
+	 */
+	@Nonnull
+	public byte[] getResponseBody() {
+		return responseBody;
+	}
+
+	/**
+	 * @return full response body size in bytes
+	 */
+	public int getResponseBodySize() {
+		return responseBodySize;
+	}
+
+	@Nonnull
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	@Nonnull
+	public Duration getLatency() {
+		return latency;
+	}
+
+	/**
+	 * @return full request body, if it is kept to offload the call
+	 */
+	@Nullable
+	public byte[] getFullRequestBody() {
+		return fullRequestBody;
+	}
+
+	/**
+	 * @return full response body, if it is kept to offload the call
+	 */
+	@Nullable
+	public byte[] getFullResponseBody() {
+		return fullResponseBody;
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Launch-wide per-endpoint HTTP statistics. Endpoints are identified by method, host and path with ID-like segments replaced by a
+ * placeholder. Every thread records calls into its own {@link StripedStats} stripe, stripes are merged only when the report is built.
+ */
+public class HttpMetrics {
+	public static final String ID_PLACEHOLDER = "{id}";
+	public static final String CSV_HEADER = "endpoint,calls,errors,error_rate,p50_ms,p95_ms,p99_ms,max_ms,throughput_rps";
+	public static final String ATTRIBUTE_PREFIX = "http.";
+	public static final String CALLS_ATTRIBUTE = ATTRIBUTE_PREFIX + "calls";
+	public static final String P50_ATTRIBUTE = ATTRIBUTE_PREFIX + "p50";
+	public static final String P95_ATTRIBUTE = ATTRIBUTE_PREFIX + "p95";
+	public static final String P99_ATTRIBUTE = ATTRIBUTE_PREFIX + "p99";
+	public static final String ERROR_RATE_ATTRIBUTE = ATTRIBUTE_PREFIX + "error.rate";
+	private static final Pattern ID_SEGMENT = Pattern.compile(
+			"\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,}");
+
+	private final StripedStats endpoints = new StripedStats();
+	private final Map<String, EndpointStats> features = new ConcurrentHashMap<>();
+
+	/**
+	 * Build an endpoint name of an HTTP call.
+	 *
+	 * @param method HTTP method
+	 * @param url    request URL
+	 * @return method, host and templated path
+	 */
+	@Nonnull
+	public static String getEndpoint(@Nonnull String method, @Nonnull String url) {
+		String hostAndPath;
+		try {
+			URI uri = new URI(url);
+			hostAndPath = Objects.toString(uri.getRawAuthority(), "") + Objects.toString(uri.getRawPath(), "");
+		} catch (URISyntaxException e) {
+			int queryStart = url.indexOf('?');
+			hostAndPath = queryStart < 0 ? url : url.substring(0, queryStart);
+		}
+		String[] segments = hostAndPath.split("/", -1);
+		for (int i = 1; i < segments.length; i++) {
+			if (ID_SEGMENT.matcher(segments[i]).matches()) {
+				segments[i] = ID_PLACEHOLDER;
+			}
+		}
+		return method.toUpperCase(Locale.ROOT) + " " + String.join("/", segments);
+	}
+
+	/**
+	 * Record a captured HTTP call.
+	 *
+	 * @param featureKey key of the Feature which made the call
+	 * @param exchange   captured HTTP call
+	 */
+	public void record(@Nonnull String featureKey, @Nonnull HttpExchange exchange) {
+		endpoints.get(getEndpoint(exchange.getMethod(), exchange.getUrl())).record(exchange);
+		features.computeIfAbsent(featureKey, f -> new EndpointStats()).record(exchange);
+	}
+
+	/**
+	 * Merge statistics of all threads.
+	 *
+	 * @return statistics by endpoint, sorted by endpoint name
+	 */
+	@Nonnull
+	public SortedMap<String, EndpointStats> merge() {
+		return endpoints.merge();
+	}
+
+	/**
+	 * @param micros duration in microseconds
+	 * @return duration in milliseconds with one decimal place
+	 */
+	@Nonnull
+	public static String toMillis(long micros) {
+		return String.format(Locale.ROOT, "%.1f", micros / 1000.0);
+	}
+
+	/**
+	 * Remove statistics of a Feature and convert them into item attributes.
+	 *
+	 * @param featureKey key of the Feature
+	 * @return Feature attributes, empty if the Feature made no HTTP calls
+	 */
+	@Nonnull
+	public Set<ItemAttributesRQ> finishFeature(@Nonnull String featureKey) {
+		EndpointStats stats = features.remove(featureKey);
+		if (stats == null || stats.getCount() <= 0) {
+			return Collections.emptySet();
+		}
+		return toAttributes(ATTRIBUTE_PREFIX, stats);
+	}
+
+	/**
+	 * Convert statistics into item attributes: call count, latency percentiles and error rate.
+	 *
+	 * @param prefix attribute key prefix
+	 * @param stats  statistics to convert
+	 * @return item attributes
+	 */
+	@Nonnull
+	public static Set<ItemAttributesRQ> toAttributes(@Nonnull String prefix, @Nonnull EndpointStats stats) {
+		LatencyHistogram latency = stats.getLatency();
+		Set<ItemAttributesRQ> result = new LinkedHashSet<>();
+		result.add(new ItemAttributesRQ(prefix + "calls", String.valueOf(stats.getCount())));
+		result.add(new ItemAttributesRQ(prefix + "p50", toMillis(latency.getPercentile(50)) + "ms"));
+		result.add(new ItemAttributesRQ(prefix + "p95", toMillis(latency.getPercentile(95)) + "ms"));
+		result.add(new ItemAttributesRQ(prefix + "p99", toMillis(latency.getPercentile(99)) + "ms"));
+		result.add(new ItemAttributesRQ(prefix + "error.rate", String.format(Locale.ROOT, "%.1f%%", stats.getErrorRate() * 100)));
+		return result;
+	}
+
+	/**
+	 * Format statistics as CSV, one line per endpoint.
+	 *
+	 * @param metrics statistics by endpoint, or by any other name
+	 * @return CSV text with a header line
+	 */
+	@Nonnull
+	public static String toCsv(@Nonnull Map<String, EndpointStats> metrics) {
+		StringBuilder builder = new StringBuilder(CSV_HEADER);
+		metrics.forEach((endpoint, stats) -> {
+			LatencyHistogram latency = stats.getLatency();
+			builder.append('\n')
+					.append('"')
+					.append(endpoint.replace("\"", "\"\""))
+					.append('"')
+					.append(',')
+					.append(stats.getCount())
+					.append(',')
+					.append(stats.getErrors())
+					.append(',')
+					.append(String.format(Locale.ROOT, "%.4f", stats.getErrorRate()))
+					.append(',')
+					.append(toMillis(latency.getPercentile(50)))
+					.append(',')
+					.append(toMillis(latency.getPercentile(95)))
+					.append(',')
+					.append(toMillis(latency.getPercentile(99)))
+					.append(',')
+					.append(toMillis(latency.getMax()))
+					.append(',')
+					.append(String.format(Locale.ROOT, "%.2f", stats.getThroughput()));
+		});
+		return builder.toString();
+	}
+}
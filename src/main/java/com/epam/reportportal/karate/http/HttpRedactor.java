@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Hides sensitive data in captured HTTP calls: values of listed headers and parts of bodies matching a regular expression.
+ */
+public class HttpRedactor {
+	public static final String REDACTED = "[REDACTED]";
+
+	private final Set<String> headers;
+	private final Pattern bodyPattern;
+
+	/**
+	 * Create a redactor.
+	 *
+	 * @param headers     comma-separated list of header names to redact, case-insensitive
+	 * @param bodyPattern regular expression of body parts to redact, or null to keep bodies as is
+	 */
+	public HttpRedactor(@Nullable String headers, @Nullable String bodyPattern) {
+		this.headers = headers == null ?
+				Set.of() :
+				Arrays.stream(headers.split(","))
+						.map(String::trim)
+						.filter(h -> !h.isEmpty())
+						.map(h -> h.toLowerCase(Locale.ROOT))
+						.collect(Collectors.toSet());
+		this.bodyPattern = bodyPattern == null || bodyPattern.isBlank() ? null : Pattern.compile(bodyPattern);
+	}
+
+	/**
+	 * @param name header name
+	 * @return true if the header value should be hidden
+	 */
+	public boolean isRedacted(@Nonnull String name) {
+		return headers.contains(name.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Redact a header value.
+	 *
+	 * @param name  header name
+	 * @param value header value
+	 * @return the value or a placeholder
+	 */
+	@Nonnull
+	public String redactHeader(@Nonnull String name, @Nullable String value) {
+		return isRedacted(name) ? REDACTED : Objects.toString(value, "");
+	}
+
+	/**
+	 * Replace all body parts matching the redaction pattern with a placeholder.
+	 *
+	 * @param body body text
+	 * @return redacted body text
+	 */
+	@Nonnull
+	public String redactBody(@Nonnull String body) {
+		return bodyPattern == null ? body : bodyPattern.matcher(body).replaceAll(Matcher.quoteReplacement(REDACTED));
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Named {@link EndpointStats} striped per thread: every thread records into its own map, so recording threads never contend with each
+ * other. Stripes are merged only on demand.
+ */
+public class StripedStats {
+	private final List<Map<String, EndpointStats>> stripes = new CopyOnWriteArrayList<>();
+	private final ThreadLocal<Map<String, EndpointStats>> stripe = ThreadLocal.withInitial(() -> {
+		Map<String, EndpointStats> result = new ConcurrentHashMap<>();
+		stripes.add(result);
+		return result;
+	});
+
+	/**
+	 * Get statistics of the current thread stripe.
+	 *
+	 * @param name statistics name
+	 * @return statistics to record into
+	 */
+	@Nonnull
+	public EndpointStats get(@Nonnull String name) {
+		return stripe.get().computeIfAbsent(name, n -> new EndpointStats());
+	}
+
+	/**
+	 * Merge statistics of all threads.
+	 *
+	 * @return statistics by name, sorted by name
+	 */
+	@Nonnull
+	public SortedMap<String, EndpointStats> merge() {
+		SortedMap<String, EndpointStats> result = new TreeMap<>();
+		stripes.forEach(s -> s.forEach((name, stats) -> result.computeIfAbsent(name, n -> new EndpointStats()).merge(stats)));
+		return result;
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.importer;
+
+import com.epam.reportportal.karate.ReportPortalPublisher;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.intuit.karate.core.FeatureResult;
+import com.intuit.karate.core.ScenarioResult;
+import com.intuit.karate.core.StepResult;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Publisher of already finished Karate results, which reports items with their original timestamps instead of the current time.
+ * Step times are restored from the Scenario start time and step durations, since Karate reports do not keep step start times.
+ */
+public class ImportPublisher extends ReportPortalPublisher {
+	private final Map<String, Instant> stepTimeMap = new ConcurrentHashMap<>();
+	private volatile Instant launchStartTime;
+	private volatile Instant launchEndTime;
+
+	public ImportPublisher(@Nonnull ReportPortal reportPortal, @Nonnull KarateParameters karateParameters) {
+		super(reportPortal, karateParameters);
+	}
+
+	/**
+	 * Set the Launch start time, should be called before {@link #startLaunch()}.
+	 *
+	 * @param startTime original start time of the earliest imported Scenario
+	 */
+	public void setLaunchStartTime(@Nullable Instant startTime) {
+		launchStartTime = startTime;
+	}
+
+	@Nonnull
+	private static Instant getStartTime(@Nonnull ScenarioResult scenarioResult) {
+		return Instant.ofEpochMilli(scenarioResult.getStartTime());
+	}
+
+	@Nonnull
+	private static Instant getEndTime(@Nonnull ScenarioResult scenarioResult) {
+		return Instant.ofEpochMilli(Math.max(scenarioResult.getStartTime(), scenarioResult.getEndTime()));
+	}
+
+	@Nonnull
+	private Instant getStepTime(@Nonnull ScenarioResult scenarioResult) {
+		return stepTimeMap.computeIfAbsent(scenarioResult.getScenario().getUniqueId(), k -> getStartTime(scenarioResult));
+	}
+
+	private void updateLaunchEndTime(@Nonnull Instant endTime) {
+		if (launchEndTime == null || launchEndTime.isBefore(endTime)) {
+			launchEndTime = endTime;
+		}
+	}
+
+	@Override
+	protected StartLaunchRQ buildStartLaunchRq(ListenerParameters parameters) {
+		StartLaunchRQ rq = super.buildStartLaunchRq(parameters);
+		ofNullable(launchStartTime).ifPresent(rq::setStartTime);
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected FinishExecutionRQ buildFinishLaunchRq(@Nonnull ListenerParameters parameters) {
+		FinishExecutionRQ rq = super.buildFinishLaunchRq(parameters);
+		ofNullable(launchEndTime).ifPresent(rq::setEndTime);
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected StartTestItemRQ buildStartFeatureRq(@Nonnull FeatureResult featureResult) {
+		StartTestItemRQ rq = super.buildStartFeatureRq(featureResult);
+		featureResult.getScenarioResults()
+				.stream()
+				.map(ImportPublisher::getStartTime)
+				.min(Instant::compareTo)
+				.ifPresent(rq::setStartTime);
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected FinishTestItemRQ buildFinishFeatureRq(@Nonnull FeatureResult featureResult) {
+		FinishTestItemRQ rq = super.buildFinishFeatureRq(featureResult);
+		featureResult.getScenarioResults().stream().map(ImportPublisher::getEndTime).max(Instant::compareTo).ifPresent(endTime -> {
+			rq.setEndTime(endTime);
+			updateLaunchEndTime(endTime);
+		});
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected StartTestItemRQ buildStartScenarioRq(@Nonnull ScenarioResult scenarioResult) {
+		StartTestItemRQ rq = super.buildStartScenarioRq(scenarioResult);
+		rq.setStartTime(getStepTime(scenarioResult));
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected FinishTestItemRQ buildFinishScenarioRq(@Nonnull ScenarioResult scenarioResult) {
+		FinishTestItemRQ rq = super.buildFinishScenarioRq(scenarioResult);
+		Instant stepTime = ofNullable(stepTimeMap.remove(scenarioResult.getScenario().getUniqueId())).orElse(Instant.MIN);
+		Instant endTime = getEndTime(scenarioResult);
+		rq.setEndTime(endTime.isBefore(stepTime) ? stepTime : endTime);
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected StartTestItemRQ buildStartBackgroundRq(@Nonnull StepResult stepResult, @Nonnull ScenarioResult scenarioResult) {
+		StartTestItemRQ rq = super.buildStartBackgroundRq(stepResult, scenarioResult);
+		rq.setStartTime(getStepTime(scenarioResult));
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected FinishTestItemRQ buildFinishBackgroundRq(@Nullable StepResult stepResult, @Nonnull ScenarioResult scenarioResult) {
+		FinishTestItemRQ rq = super.buildFinishBackgroundRq(stepResult, scenarioResult);
+		rq.setEndTime(ofNullable(stepTimeMap.get(scenarioResult.getScenario().getUniqueId())).orElseGet(() -> getEndTime(scenarioResult)));
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected StartTestItemRQ buildStartStepRq(@Nonnull StepResult stepResult, @Nonnull ScenarioResult scenarioResult) {
+		StartTestItemRQ rq = super.buildStartStepRq(stepResult, scenarioResult);
+		rq.setStartTime(getStepTime(scenarioResult));
+		return rq;
+	}
+
+	@Nonnull
+	@Override
+	protected FinishTestItemRQ buildFinishStepRq(@Nonnull StepResult stepResult, @Nonnull ScenarioResult scenarioResult) {
+		FinishTestItemRQ rq = super.buildFinishStepRq(stepResult, scenarioResult);
+		long durationNanos = Math.max(0L, stepResult.getResult().getDurationNanos());
+		Instant endTime = getStepTime(scenarioResult).plusNanos(durationNanos);
+		stepTimeMap.put(scenarioResult.getScenario().getUniqueId(), endTime);
+		rq.setEndTime(endTime);
+		return rq;
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.importer;
+
+import com.epam.reportportal.exception.InternalReportPortalClientException;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.intuit.karate.Results;
+import com.intuit.karate.core.FeatureResult;
+import com.intuit.karate.core.ScenarioResult;
+import com.intuit.karate.core.StepResult;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.*;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.*;
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Publishes Karate results with ReportPortal's Launch import: results are written Feature by Feature to a JUnit XML zip on disk and
+ * uploaded with a single request, instead of separate start and finish requests for every item. The Launch is faster to publish, but
+ * it keeps less information than {@link com.epam.reportportal.karate.ReportPortalPublisher} reports: Launch and item attributes,
+ * descriptions, code references, test case IDs, parameters and attachments are not imported, Steps are not separate items but text of
+ * their Scenario's output, and the Launch is named after the zip file.
+ */
+public class JunitXmlImportPublisher {
+	public static final String IMPORT_PATH = "launch/import";
+	private static final String API_PATH = "api/v1";
+	private static final String FILE_PART = "file";
+	private static final MediaType ZIP_TYPE = MediaType.get("application/zip");
+	private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+	private static final Pattern ANSI_ESCAPE = Pattern.compile("\\u001B\\[[0-?]*[ -/]*[@-~]");
+	private static final Pattern INVALID_XML_CHARACTERS = Pattern.compile(
+			"[^\\t\\n\\r\\x{20}-\\x{D7FF}\\x{E000}-\\x{FFFD}\\x{10000}-\\x{10FFFF}]");
+
+	private final ListenerParameters parameters;
+	private final OkHttpClient httpClient;
+
+	/**
+	 * @param parameters ReportPortal connection parameters: endpoint, project, API key and Launch name
+	 * @param httpClient HTTP client to upload the zip with
+	 */
+	public JunitXmlImportPublisher(@Nonnull ListenerParameters parameters, @Nonnull OkHttpClient httpClient) {
+		this.parameters = parameters;
+		this.httpClient = httpClient;
+	}
+
+	/**
+	 * Create a publisher which uploads the zip with an HTTP client configured by the same connection parameters as the ReportPortal
+	 * client: proxy, SSL, timeouts and HTTP logging.
+	 *
+	 * @param parameters ReportPortal connection parameters: endpoint, project, API key and Launch name
+	 */
+	public JunitXmlImportPublisher(@Nonnull ListenerParameters parameters) {
+		this(parameters, createHttpClient(parameters));
+	}
+
+	/**
+	 * Exposes ReportPortal client's HTTP client configuration.
+	 */
+	private static class HttpClientBuilder extends ReportPortal.Builder {
+		@Nullable
+		OkHttpClient.Builder build(@Nonnull ListenerParameters parameters) throws MalformedURLException {
+			return defaultClient(parameters);
+		}
+	}
+
+	/**
+	 * Build an HTTP client with ReportPortal client's proxy, SSL, timeout and HTTP logging settings.
+	 *
+	 * @param parameters ReportPortal connection parameters
+	 * @return HTTP client
+	 */
+	@Nonnull
+	public static OkHttpClient createHttpClient(@Nonnull ListenerParameters parameters) {
+		try {
+			OkHttpClient.Builder builder = new HttpClientBuilder().build(parameters);
+			if (builder != null) {
+				return builder.build();
+			}
+		} catch (MalformedURLException e) {
+			throw new InternalReportPortalClientException("Unable to parse ReportPortal URL", e);
+		}
+		return new OkHttpClient();
+	}
+
+	@Nonnull
+	private static String formatSeconds(double millis) {
+		return String.format(Locale.US, "%.3f", millis / 1000);
+	}
+
+	@Nonnull
+	private static String getName(@Nonnull ScenarioResult scenarioResult) {
+		String name = scenarioResult.getScenario().getName();
+		return StringUtils.isBlank(name) ? scenarioResult.getScenario().getRefId() : name;
+	}
+
+	@Nonnull
+	private static String getOutput(@Nonnull ScenarioResult scenarioResult) {
+		StringBuilder output = new StringBuilder();
+		for (StepResult stepResult : scenarioResult.getStepResults()) {
+			output.append(stepResult.getStep().getPrefix())
+					.append(' ')
+					.append(stepResult.getStep().getText())
+					.append(" ... ")
+					.append(stepResult.getResult().getStatus())
+					.append('\n');
+			ofNullable(stepResult.getStepLog()).filter(StringUtils::isNotBlank).ifPresent(log -> output.append(log).append('\n'));
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Remove ANSI escape sequences and characters which are not allowed in XML 1.0 from a text.
+	 *
+	 * @param text text to write to XML
+	 * @return valid XML text
+	 */
+	@Nonnull
+	public static String toXmlText(@Nonnull String text) {
+		return INVALID_XML_CHARACTERS.matcher(ANSI_ESCAPE.matcher(text).replaceAll("")).replaceAll("");
+	}
+
+	private static void writeScenario(@Nonnull XMLStreamWriter xml, @Nonnull String className, @Nonnull ScenarioResult scenarioResult)
+			throws XMLStreamException {
+		xml.writeStartElement("testcase");
+		xml.writeAttribute("classname", className);
+		xml.writeAttribute("name", toXmlText(getName(scenarioResult)));
+		xml.writeAttribute("time", formatSeconds(Math.max(0L, scenarioResult.getEndTime() - scenarioResult.getStartTime())));
+		if (scenarioResult.isFailed()) {
+			String message = toXmlText(ofNullable(scenarioResult.getErrorMessage()).orElse(""));
+			xml.writeStartElement("failure");
+			xml.writeAttribute("message", StringUtils.abbreviate(message, 1024));
+			xml.writeCharacters(message);
+			xml.writeEndElement();
+		}
+		xml.writeStartElement("system-out");
+		xml.writeCData(toXmlText(getOutput(scenarioResult)).replace("]]>", "]]]]><![CDATA[>"));
+		xml.writeEndElement();
+		xml.writeEndElement();
+	}
+
+	/**
+	 * Write a Feature as a JUnit XML test suite, one test case per Scenario.
+	 *
+	 * @param output        stream to write to, is not closed
+	 * @param featureResult Karate's FeatureResult object instance
+	 * @throws IOException if the XML can't be written
+	 */
+	public static void writeFeature(@Nonnull OutputStream output, @Nonnull FeatureResult featureResult) throws IOException {
+		String className = featureResult.getFeature().getPackageQualifiedName();
+		long startTime = featureResult.getScenarioResults().stream().mapToLong(ScenarioResult::getStartTime).min().orElse(0L);
+		try {
+			XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+			xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+			xml.writeStartElement("testsuite");
+			xml.writeAttribute("name", className);
+			xml.writeAttribute("tests", String.valueOf(featureResult.getScenarioCount()));
+			xml.writeAttribute("failures", String.valueOf(featureResult.getFailedCount()));
+			xml.writeAttribute("skipped", "0");
+			xml.writeAttribute("time", formatSeconds(featureResult.getDurationMillis()));
+			xml.writeAttribute("timestamp", Instant.ofEpochMilli(startTime).toString());
+			for (ScenarioResult scenarioResult : featureResult.getScenarioResults()) {
+				writeScenario(xml, className, scenarioResult);
+			}
+			xml.writeEndElement();
+			xml.writeEndDocument();
+			xml.flush();
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to write JUnit XML for Feature: " + className, e);
+		}
+	}
+
+	/**
+	 * Write results to a JUnit XML zip, Feature by Feature, so only the current Feature's XML is buffered.
+	 *
+	 * @param results Karate run results
+	 * @param zip     zip file to write
+	 * @throws IOException if the file can't be written
+	 */
+	public static void writeZip(@Nonnull Results results, @Nonnull File zip) throws IOException {
+		try (ZipOutputStream output = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)))) {
+			int index = 0;
+			for (FeatureResult featureResult : (Iterable<FeatureResult>) results.getFeatureResults()::iterator) {
+				output.putNextEntry(new ZipEntry(String.format("%04d-%s.xml", ++index, featureResult.getFeature().getPackageQualifiedName())));
+				writeFeature(output, featureResult);
+				output.closeEntry();
+			}
+		}
+	}
+
+	@Nonnull
+	private HttpUrl getImportUrl() {
+		HttpUrl baseUrl = HttpUrl.get(parameters.getBaseUrl());
+		return baseUrl.newBuilder()
+				.addPathSegments(API_PATH)
+				.addPathSegment(parameters.getProjectName())
+				.addPathSegments(IMPORT_PATH)
+				.build();
+	}
+
+	/**
+	 * Upload a JUnit XML zip with ReportPortal's Launch import.
+	 *
+	 * @param zip zip file to upload, is streamed from disk
+	 * @return server response message
+	 * @throws IOException if the upload failed or the server rejected it
+	 */
+	@Nullable
+	public String upload(@Nonnull File zip) throws IOException {
+		RequestBody body = new MultipartBody.Builder().setType(MultipartBody.FORM)
+				.addFormDataPart(FILE_PART, zip.getName(), RequestBody.create(zip, ZIP_TYPE))
+				.build();
+		Request request = new Request.Builder().url(getImportUrl())
+				.header("Authorization", "Bearer " + parameters.getApiKey())
+				.post(body)
+				.build();
+		try (Response response = httpClient.newCall(request).execute()) {
+			String message = response.body() == null ? null : response.body().string();
+			if (!response.isSuccessful()) {
+				throw new IOException("ReportPortal Launch import failed with status " + response.code() + ": " + message);
+			}
+			return message;
+		}
+	}
+
+	/**
+	 * Publish results as a single Launch import. The zip is written to a temporary directory and removed after the upload.
+	 *
+	 * @param results Karate run results
+	 * @return server response message
+	 * @throws IOException if the zip can't be written or uploaded
+	 */
+	@Nullable
+	public String publish(@Nonnull Results results) throws IOException {
+		File directory = Files.createTempDirectory("rp-junit-").toFile();
+		// ReportPortal names the imported Launch after the file
+		File zip = new File(directory, parameters.getLaunchName().replaceAll("[^\\w.-]", "_") + ".zip");
+		try {
+			writeZip(results, zip);
+			return upload(zip);
+		} finally {
+			Files.deleteIfExists(zip.toPath());
+			Files.deleteIfExists(directory.toPath());
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.importer;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.DaemonThreadFactory;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.intuit.karate.FileUtils;
+import com.intuit.karate.JsonUtils;
+import com.intuit.karate.core.FeatureResult;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Publishes Karate JSON reports ({@code *.karate-json.txt}) of an already finished run to ReportPortal without rerunning tests.
+ * Report files are parsed in parallel, each on its own thread, and published with their original timestamps by
+ * {@link ImportPublisher}. Feature files referenced by the reports should be available on the same paths or on the classpath.
+ */
+public class KarateJsonImporter {
+	public static final String KARATE_JSON_SUFFIX = ".karate-json.txt";
+	public static final String DEFAULT_REPORT_DIRECTORY = "target/karate-reports";
+	public static final int DEFAULT_THREADS = 4;
+	private static final Logger LOGGER = LoggerFactory.getLogger(KarateJsonImporter.class);
+	private static final String START_TIME_FIELD = "startTime";
+	private static final String THREADS_OPTION = "--threads";
+	private static final String WORKING_DIRECTORY_OPTION = "--working-dir";
+
+	private final ImportPublisher publisher;
+	private final File workingDirectory;
+	private final int threads;
+
+	/**
+	 * @param publisher        publisher to report imported results with
+	 * @param workingDirectory directory feature paths in the reports are relative to
+	 * @param threads          number of report files parsed in parallel
+	 */
+	public KarateJsonImporter(@Nonnull ImportPublisher publisher, @Nonnull File workingDirectory, int threads) {
+		this.publisher = publisher;
+		this.workingDirectory = workingDirectory;
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * Find Karate JSON reports in the given file or directory, directories are searched recursively.
+	 *
+	 * @param path report file or directory
+	 * @return sorted list of report files
+	 * @throws IOException if the directory can't be read
+	 */
+	@Nonnull
+	public static List<File> findReports(@Nonnull File path) throws IOException {
+		if (!path.isDirectory()) {
+			return path.getName().endsWith(KARATE_JSON_SUFFIX) ? List.of(path) : List.of();
+		}
+		try (Stream<Path> files = Files.walk(path.toPath())) {
+			return files.filter(p -> p.getFileName().toString().endsWith(KARATE_JSON_SUFFIX))
+					.sorted()
+					.map(Path::toFile)
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Get the earliest Scenario start time of a report with a streaming parser, without loading the report into memory.
+	 *
+	 * @param report Karate JSON report file
+	 * @return the earliest start time or null if the report has no Scenarios
+	 * @throws IOException if the report can't be read
+	 */
+	@Nullable
+	public static Instant getEarliestStartTime(@Nonnull File report) throws IOException {
+		Long earliest = null;
+		try (JsonParser parser = HttpRequestUtils.MAPPER.getFactory().createParser(report)) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (token == JsonToken.FIELD_NAME && START_TIME_FIELD.equals(parser.getCurrentName())
+						&& parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+					long startTime = parser.getLongValue();
+					earliest = earliest == null ? startTime : Math.min(earliest, startTime);
+				}
+			}
+		}
+		return earliest == null ? null : Instant.ofEpochMilli(earliest);
+	}
+
+	@Nonnull
+	private FeatureResult parse(@Nonnull File report) {
+		@SuppressWarnings("unchecked")
+		Map<String, Object> json = (Map<String, Object>) JsonUtils.fromJson(FileUtils.toString(report));
+		return FeatureResult.fromKarateJson(workingDirectory, json);
+	}
+
+	/**
+	 * Publish the given reports as a single Launch. A report which can't be parsed is skipped and the rest are still published.
+	 *
+	 * @param reports Karate JSON report files
+	 * @return number of published Features
+	 */
+	public int importReports(@Nonnull List<File> reports) {
+		Instant launchStartTime = null;
+		for (File report : reports) {
+			try {
+				Instant startTime = getEarliestStartTime(report);
+				if (startTime != null && (launchStartTime == null || startTime.isBefore(launchStartTime))) {
+					launchStartTime = startTime;
+				}
+			} catch (IOException e) {
+				LOGGER.warn("Unable to read Karate report: {}", report, e);
+			}
+		}
+		publisher.setLaunchStartTime(launchStartTime);
+		publisher.startLaunch();
+
+		int published = 0;
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("import"));
+		try {
+			CompletionService<FeatureResult> completionService = new ExecutorCompletionService<>(executor);
+			Iterator<File> pending = reports.iterator();
+			int inFlight = 0;
+			// Keep at most one parsed report per thread in memory, the Publisher itself is not thread-safe
+			for (; inFlight < threads && pending.hasNext(); inFlight++) {
+				File report = pending.next();
+				completionService.submit(() -> parse(report));
+			}
+			while (inFlight > 0) {
+				Future<FeatureResult> result = completionService.take();
+				inFlight--;
+				if (pending.hasNext()) {
+					File report = pending.next();
+					completionService.submit(() -> parse(report));
+					inFlight++;
+				}
+				try {
+					FeatureResult featureResult = result.get();
+					publisher.startFeature(featureResult);
+					publisher.finishFeature(featureResult);
+					published++;
+				} catch (ExecutionException e) {
+					LOGGER.warn("Unable to parse Karate report", e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+		publisher.finishLaunch();
+		return published;
+	}
+
+	/**
+	 * Import Karate JSON reports from the command line.
+	 *
+	 * @param args {@code [--threads <number>] [--working-dir <directory>] [<report file or directory>...]}, reports are taken
+	 *             from {@value #DEFAULT_REPORT_DIRECTORY} by default
+	 * @return process exit code: 0 if all reports were published, 1 if some of them failed, 2 if there are no reports to import
+	 */
+	public static int run(@Nonnull String... args) {
+		int threads = DEFAULT_THREADS;
+		File workingDirectory = new File("");
+		List<String> paths = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			if (THREADS_OPTION.equals(args[i]) && i + 1 < args.length) {
+				try {
+					threads = Integer.parseInt(args[++i]);
+				} catch (NumberFormatException e) {
+					LOGGER.error("Invalid number of threads: {}", args[i]);
+					return 2;
+				}
+			} else if (WORKING_DIRECTORY_OPTION.equals(args[i]) && i + 1 < args.length) {
+				workingDirectory = new File(args[++i]);
+			} else {
+				paths.add(args[i]);
+			}
+		}
+		if (paths.isEmpty()) {
+			paths.add(DEFAULT_REPORT_DIRECTORY);
+		}
+		List<File> reports = new ArrayList<>();
+		for (String path : paths) {
+			try {
+				reports.addAll(findReports(new File(path)));
+			} catch (IOException e) {
+				LOGGER.error("Unable to read Karate reports: {}", path, e);
+			}
+		}
+		if (reports.isEmpty()) {
+			LOGGER.error(
+					"Usage: {} [{} <number>] [{} <directory>] [<report file or directory>...]",
+					KarateJsonImporter.class.getName(),
+					THREADS_OPTION,
+					WORKING_DIRECTORY_OPTION
+			);
+			return 2;
+		}
+		ImportPublisher publisher = new ImportPublisher(ReportPortal.builder().build(), KarateParameters.load());
+		int published = new KarateJsonImporter(publisher, workingDirectory.getAbsoluteFile(), threads).importReports(reports);
+		return published == reports.size() ? 0 : 1;
+	}
+
+	public static void main(String[] args) {
+		System.exit(run(args));
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.perf;
+
+import com.epam.reportportal.karate.http.StripedStats;
+import com.intuit.karate.PerfHook;
+import com.intuit.karate.core.FeatureResult;
+import com.intuit.karate.core.PerfEvent;
+import com.intuit.karate.core.ScenarioRuntime;
+import com.intuit.karate.http.HttpRequest;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Karate {@link PerfHook} decorator which records every performance event into request statistics and passes it to the original hook,
+ * e.g. to karate-gatling one.
+ */
+public class PerfEventRecorder implements PerfHook {
+	private final PerfHook delegate;
+	private final StripedStats requests;
+
+	/**
+	 * Create a recorder.
+	 *
+	 * @param delegate original performance hook
+	 * @param requests request statistics to record events into
+	 */
+	public PerfEventRecorder(@Nonnull PerfHook delegate, @Nonnull StripedStats requests) {
+		this.delegate = delegate;
+		this.requests = requests;
+	}
+
+	@Override
+	public String getPerfEventName(HttpRequest request, ScenarioRuntime sr) {
+		return delegate.getPerfEventName(request, sr);
+	}
+
+	@Override
+	public void reportPerfEvent(PerfEvent event) {
+		long duration = (event.getEndTime() - event.getStartTime()) * 1000;
+		requests.get(event.getName()).record(event.getStartTime(), event.getEndTime(), duration, event.getStatusCode() >= 400);
+		delegate.reportPerfEvent(event);
+	}
+
+	@Override
+	public void submit(Runnable runnable) {
+		delegate.submit(runnable);
+	}
+
+	@Override
+	public void afterFeature(FeatureResult fr) {
+		delegate.afterFeature(fr);
+	}
+
+	@Override
+	public void pause(Number millis) {
+		delegate.pause(millis);
+	}
+}
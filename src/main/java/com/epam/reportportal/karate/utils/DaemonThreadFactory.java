@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.utils;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread factory for agent background pools. Threads are daemons, so they never prevent JVM exit.
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+	private static final AtomicLong THREAD_COUNTER = new AtomicLong();
+
+	private final String name;
+
+	/**
+	 * @param name pool name, which is included into thread names
+	 */
+	public DaemonThreadFactory(@Nonnull String name) {
+		this.name = name;
+	}
+
+	@Override
+	public Thread newThread(@Nonnull Runnable r) {
+		Thread t = new Thread(r, "rp-karate-" + name + "-" + THREAD_COUNTER.incrementAndGet());
+		t.setDaemon(true);
+		return t;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class AttachmentSizeLimitTest {
+	private static final String SINGLE_FEATURE = "classpath:feature/embed.feature";
+	private static final String TWICE_FEATURE = "classpath:feature/embed_twice.feature";
+	private static final String STORED_AT = "Stored at: ";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@TempDir
+	Path spillDirectory;
+
+	private byte[] image;
+
+	@BeforeEach
+	public void setupMock() throws IOException {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+		try (InputStream is = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("pug/lucky.png"))) {
+			image = is.readAllBytes();
+		}
+	}
+
+	private Results run(boolean report, KarateParameters parameters, String feature) {
+		parameters.setAttachmentSpillDirectory(spillDirectory.toString());
+		if (report) {
+			return TestUtils.runAsReport(rp, parameters, feature);
+		} else {
+			return TestUtils.runAsHook(rp, parameters, feature);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<SaveLogRQ> getAttachmentLogs() {
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		return logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(log -> log.getMessage() != null && log.getMessage().startsWith("Attachment: "))
+				.collect(Collectors.toList());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<Pair<String, byte[]>> getBinaryParts() {
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		return logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractBinaryParts((List<MultipartBody.Part>) rq).stream())
+				.collect(Collectors.toList());
+	}
+
+	private void verifySpilled(SaveLogRQ log, String reason) throws IOException {
+		assertThat(log.getFile(), nullValue());
+		assertThat(log.getMessage(), startsWith("Attachment: image/png\nNot uploaded: " + reason + ". " + STORED_AT));
+		String message = log.getMessage();
+		String path = message.substring(message.indexOf(STORED_AT) + STORED_AT.length(), message.indexOf(", size: "));
+		Path stored = Paths.get(path);
+		assertThat(stored.getParent(), equalTo(spillDirectory.toAbsolutePath()));
+		assertThat(Files.readAllBytes(stored), equalTo(image));
+		assertThat(message, containsString(", size: " + image.length + " bytes, SHA-256: " + AttachmentIndex.hash(image)));
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	public void test_attachment_over_size_limit_stored_locally(boolean report, boolean stream) throws IOException {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentStream(stream);
+		parameters.setAttachmentMaxSize(image.length - 1);
+		Results results = run(report, parameters, SINGLE_FEATURE);
+		assertThat(results.getFailCount(), equalTo(0));
+
+		List<SaveLogRQ> attachmentLogs = getAttachmentLogs();
+		assertThat(attachmentLogs, hasSize(1));
+		verifySpilled(attachmentLogs.get(0), AttachmentBudget.ATTACHMENT_LIMIT_REASON);
+		assertThat(getBinaryParts(), empty());
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	public void test_attachment_over_launch_budget_stored_locally(boolean report, boolean stream) throws IOException {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentStream(stream);
+		parameters.setAttachmentLaunchMaxSize(image.length + image.length / 2);
+		Results results = run(report, parameters, TWICE_FEATURE);
+		assertThat(results.getFailCount(), equalTo(0));
+
+		List<SaveLogRQ> attachmentLogs = getAttachmentLogs();
+		assertThat(attachmentLogs, hasSize(2));
+		List<SaveLogRQ> spilled = attachmentLogs.stream().filter(log -> log.getFile() == null).collect(Collectors.toList());
+		assertThat(spilled, hasSize(1));
+		verifySpilled(spilled.get(0), AttachmentBudget.LAUNCH_LIMIT_REASON);
+
+		List<Pair<String, byte[]>> attachments = getBinaryParts();
+		assertThat(attachments, hasSize(1));
+		assertThat(attachments.get(0).getValue(), equalTo(image));
+	}
+
+	@Test
+	public void test_released_reservation_returns_launch_budget() {
+		AttachmentBudget budget = new AttachmentBudget(0, 100);
+		assertThat(budget.acquire(80), nullValue());
+		assertThat(budget.acquire(30), equalTo(AttachmentBudget.LAUNCH_LIMIT_REASON));
+
+		AttachmentBudget.Reservation reservation = new AttachmentBudget.Reservation(budget, 80);
+		reservation.release();
+		reservation.release();
+		assertThat(budget.getLaunchSize(), equalTo(0L));
+		assertThat(budget.acquire(30), nullValue());
+	}
+
+	@Test
+	public void test_attachment_over_budget_not_uploaded_if_store_failed() throws IOException {
+		File file = Files.write(spillDirectory.resolve("attachment.txt"), new byte[20]).toFile();
+		BlobStore failingStore = (f, name, contentType, hash) -> {
+			throw new IOException("Store is unavailable");
+		};
+		AttachmentOffloader offloader = new AttachmentOffloader(failingStore, 0, new AttachmentBudget(10, 0), 1);
+		Attachment attachment = new Attachment(file, file.getName(), "text/plain", "Attachment: text/plain", LogLevel.INFO, Instant.now(), false);
+
+		Attachment result = offloader.offload(attachment).blockingGet();
+		offloader.close();
+
+		assertThat(result.getFile(), nullValue());
+		assertThat(result.getMessage(), containsString("Not uploaded: " + AttachmentBudget.ATTACHMENT_LIMIT_REASON));
+	}
+}
+
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import jakarta.annotation.Nonnull;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class BlobStoreTest {
+	private static final String TEST_FEATURE = "classpath:feature/embed.feature";
+	private static final Map<String, byte[]> STORAGE = new ConcurrentHashMap<>();
+
+	public static class InMemoryBlobStore implements BlobStore {
+		@Override
+		@Nonnull
+		public String store(@Nonnull File file, @Nonnull String name, @Nonnull String contentType, @Nonnull String hash)
+				throws IOException {
+			STORAGE.put(hash, Files.readAllBytes(file.toPath()));
+			return "memory://" + hash;
+		}
+	}
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+		STORAGE.clear();
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void test_attachment_offloaded_to_custom_store(boolean report, boolean stream) throws IOException {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentStream(stream);
+		parameters.setAttachmentOffloadSize(1);
+		parameters.setAttachmentStore(InMemoryBlobStore.class.getName());
+		Results results;
+		if (report) {
+			results = TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+		} else {
+			results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		}
+		assertThat(results.getFailCount(), equalTo(0));
+
+		byte[] image;
+		try (InputStream is = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("pug/lucky.png"))) {
+			image = is.readAllBytes();
+		}
+		String hash = AttachmentIndex.hash(image);
+		assertThat(STORAGE.keySet(), contains(hash));
+		assertThat(STORAGE.get(hash), equalTo(image));
+
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> attachmentLogs = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(log -> log.getMessage() != null && log.getMessage().startsWith("Attachment: "))
+				.collect(Collectors.toList());
+		assertThat(attachmentLogs, hasSize(1));
+		assertThat(attachmentLogs.get(0).getFile(), nullValue());
+		assertThat(
+				attachmentLogs.get(0).getMessage(),
+				equalTo("Attachment: image/png\nNot uploaded: " + AttachmentOffloader.OFFLOAD_THRESHOLD_REASON + ". Stored at: memory://"
+						+ hash + ", size: " + image.length + " bytes, SHA-256: " + hash)
+		);
+		assertThat(
+				logCaptor.getAllValues().stream().flatMap(rq -> extractBinaryParts((List<MultipartBody.Part>) rq).stream()).count(),
+				equalTo(0L)
+		);
+	}
+}
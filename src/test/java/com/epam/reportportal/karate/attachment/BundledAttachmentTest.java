@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class BundledAttachmentTest {
+	private static final String TEST_FEATURE = "classpath:feature/embed_twice.feature";
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void test_scenario_attachments_bundled(boolean report, boolean stream) throws IOException {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentBundle(true);
+		parameters.setAttachmentStream(stream);
+		Results results;
+		if (report) {
+			results = TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+		} else {
+			results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		}
+		assertThat(results.getFailCount(), equalTo(0));
+
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+
+		List<SaveLogRQ> attachmentLogs = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(log -> log.getFile() != null)
+				.collect(Collectors.toList());
+		assertThat(attachmentLogs, hasSize(1));
+		SaveLogRQ bundleLog = attachmentLogs.get(0);
+		assertThat(bundleLog.getItemUuid(), equalTo(scenarioId));
+		assertThat(bundleLog.getMessage(), startsWith("Attachments bundle, 2 file(s):\n001-"));
+
+		List<Pair<String, byte[]>> attachments = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractBinaryParts((List<MultipartBody.Part>) rq).stream())
+				.collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+		assertThat(attachments.get(0).getKey(), equalTo("application/zip"));
+
+		byte[] image;
+		try (InputStream is = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("pug/lucky.png"))) {
+			image = is.readAllBytes();
+		}
+		List<String> entryNames = new ArrayList<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(attachments.get(0).getValue()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entryNames.add(entry.getName());
+				assertThat(zip.readAllBytes(), equalTo(image));
+			}
+		}
+		assertThat(entryNames, contains(startsWith("001-"), startsWith("002-")));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class DeduplicatedAttachmentTest {
+	private static final String TEST_FEATURE = "classpath:feature/embed_twice.feature";
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void test_repeated_attachment_uploaded_once(boolean report, boolean stream) {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentDeduplicate(true);
+		parameters.setAttachmentStream(stream);
+		Results results;
+		if (report) {
+			results = TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+		} else {
+			results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		}
+		assertThat(results.getFailCount(), equalTo(0));
+
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+
+		List<SaveLogRQ> attachmentLogs = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(log -> log.getMessage() != null && log.getMessage().startsWith("Attachment: "))
+				.collect(Collectors.toList());
+		assertThat(attachmentLogs, hasSize(2));
+		List<SaveLogRQ> references = attachmentLogs.stream().filter(log -> log.getFile() == null).collect(Collectors.toList());
+		assertThat(references, hasSize(1));
+		assertThat(references.get(0).getMessage(), containsString(AttachmentIndex.HASH_ALGORITHM));
+
+		List<Pair<String, byte[]>> attachments = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractBinaryParts((List<MultipartBody.Part>) rq).stream())
+				.collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void test_attachment_registered_only_after_successful_upload(@TempDir Path directory) throws IOException {
+		Launch launch = mock(Launch.class);
+		when(launch.getLaunch()).thenReturn(Maybe.just(launchUuid));
+		when(client.log(any(List.class))).thenReturn(
+				Maybe.error(new IllegalStateException("Upload failed")),
+				Maybe.just(new BatchSaveOperatingRS())
+		);
+		byte[] content = "repeated content".getBytes(StandardCharsets.UTF_8);
+		AttachmentUploader uploader = new AttachmentUploader(() -> launch, client, new AttachmentIndex(), 1);
+		Maybe<String> itemId = Maybe.just(stepIds.get(0));
+		for (int i = 0; i < 3; i++) {
+			File file = Files.write(directory.resolve("attachment" + i + ".txt"), content).toFile();
+			uploader.upload(itemId, file, file.getName(), "text/plain", "Attachment: text/plain", LogLevel.INFO, Instant.now())
+					.blockingAwait(10, TimeUnit.SECONDS);
+		}
+		uploader.close();
+
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, times(3)).log(logCaptor.capture());
+		List<Integer> binaryParts = logCaptor.getAllValues()
+				.stream()
+				.map(rq -> extractBinaryParts((List<MultipartBody.Part>) rq).size())
+				.collect(Collectors.toList());
+		assertThat("Failed upload should not be referenced", binaryParts, contains(1, 1, 0));
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DeferredAttachmentTest {
+	private static final String TEST_FEATURE = "classpath:feature/embed_failed_first.feature";
+	private static final long FAILED_UPLOAD_DELAY = 1000;
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String failedScenarioId = CommonUtils.namedId("scenario_");
+	private final String passedScenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> failedStepIds = Arrays.asList(CommonUtils.namedId("step_"), CommonUtils.namedId("step_"));
+	private final List<String> passedStepIds = Arrays.asList(CommonUtils.namedId("step_"), CommonUtils.namedId("step_"));
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	private final AtomicBoolean failedUploaded = new AtomicBoolean();
+	private final Queue<Pair<String, Boolean>> uploads = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setupMock() {
+		mockLaunch(
+				client,
+				launchUuid,
+				featureId,
+				Arrays.asList(Pair.of(failedScenarioId, failedStepIds), Pair.of(passedScenarioId, passedStepIds))
+		);
+		when(client.log(any(List.class))).thenAnswer(invocation -> {
+			List<SaveLogRQ> attachments = extractJsonParts((List<MultipartBody.Part>) invocation.getArgument(0));
+			attachments.stream()
+					.filter(rq -> rq.getFile() != null)
+					.forEach(rq -> uploads.add(Pair.of(rq.getItemUuid(), failedUploaded.get())));
+			boolean failed = attachments.stream().anyMatch(rq -> rq.getFile() != null && failedStepIds.contains(rq.getItemUuid()));
+			if (failed) {
+				return Maybe.timer(FAILED_UPLOAD_DELAY, TimeUnit.MILLISECONDS).map(t -> {
+					failedUploaded.set(true);
+					return new BatchSaveOperatingRS();
+				});
+			}
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+	}
+
+	private Results run(boolean report, boolean stream, long deferTimeout) {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentStream(stream);
+		parameters.setAttachmentDeferPassed(true);
+		parameters.setAttachmentDeferTimeout(deferTimeout);
+		if (report) {
+			return TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+		} else {
+			return TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	public void test_passed_scenario_attachment_uploaded_after_failed(boolean report, boolean stream) {
+		Results results = run(report, stream, KarateParameters.DEFAULT_ATTACHMENT_DEFER_TIMEOUT);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		assertThat(uploads, hasSize(2));
+		Pair<String, Boolean> failed = uploads.poll();
+		assertThat(failedStepIds, hasItem(failed.getKey()));
+		Pair<String, Boolean> passed = uploads.poll();
+		assertThat(passedStepIds, hasItem(passed.getKey()));
+		assertThat("Passed scenario attachment should wait for the failed one", passed.getValue(), equalTo(Boolean.TRUE));
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	public void test_passed_scenario_attachment_dropped_after_timeout(boolean report, boolean stream) {
+		Results results = run(report, stream, 0);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		assertThat(uploads, hasSize(1));
+		assertThat(failedStepIds, hasItem(uploads.poll().getKey()));
+	}
+}
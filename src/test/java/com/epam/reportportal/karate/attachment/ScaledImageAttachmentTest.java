@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.attachment;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class ScaledImageAttachmentTest {
+	private static final String PASSED_FEATURE = "classpath:feature/embed.feature";
+	private static final String FAILED_FEATURE = "classpath:feature/embed_failure.feature";
+	private static final String FAILED_LATER_FEATURE = "classpath:feature/embed_failed_later.feature";
+	private static final int MAX_SIZE = 256;
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	private Results run(boolean report, boolean stream, String feature) {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentStream(stream);
+		parameters.setAttachmentImageMaxSize(MAX_SIZE);
+		if (report) {
+			return TestUtils.runAsReport(rp, parameters, feature);
+		} else {
+			return TestUtils.runAsHook(rp, parameters, feature);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Pair<SaveLogRQ, Pair<String, byte[]>> getAttachment() {
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> attachmentLogs = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(log -> log.getFile() != null)
+				.collect(Collectors.toList());
+		assertThat(attachmentLogs, hasSize(1));
+		List<Pair<String, byte[]>> attachments = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractBinaryParts((List<MultipartBody.Part>) rq).stream())
+				.collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+		return Pair.of(attachmentLogs.get(0), attachments.get(0));
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	public void test_image_attachment_scaled(boolean report, boolean stream) throws IOException {
+		Results results = run(report, stream, PASSED_FEATURE);
+		assertThat(results.getFailCount(), equalTo(0));
+
+		Pair<SaveLogRQ, Pair<String, byte[]>> attachment = getAttachment();
+		assertThat(attachment.getKey().getMessage(), equalTo("Attachment: image/png\nImage scaled from 1024x1536 to 171x256"));
+		assertThat(attachment.getKey().getFile().getName(), endsWith(".jpg"));
+		assertThat(attachment.getValue().getKey(), equalTo("image/jpeg"));
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(attachment.getValue().getValue()));
+		assertThat(image.getWidth(), equalTo(171));
+		assertThat(image.getHeight(), equalTo(MAX_SIZE));
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	public void test_failed_scenario_image_kept_intact(boolean report, boolean stream) throws IOException {
+		verifyImageKeptIntact(report, stream, FAILED_FEATURE);
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "true, true", "true, false", "false, true", "false, false" })
+	public void test_image_of_step_before_failure_kept_intact(boolean report, boolean stream) throws IOException {
+		verifyImageKeptIntact(report, stream, FAILED_LATER_FEATURE);
+	}
+
+	private void verifyImageKeptIntact(boolean report, boolean stream, String feature) throws IOException {
+		Results results = run(report, stream, feature);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		Pair<SaveLogRQ, Pair<String, byte[]>> attachment = getAttachment();
+		assertThat(attachment.getKey().getMessage(), equalTo("Attachment: image/png"));
+		assertThat(attachment.getValue().getKey(), equalTo("image/png"));
+		try (InputStream is = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("pug/lucky.png"))) {
+			assertThat(attachment.getValue().getValue(), equalTo(is.readAllBytes()));
+		}
+	}
+}
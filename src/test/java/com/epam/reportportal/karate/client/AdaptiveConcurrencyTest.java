@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.intuit.karate.Results;
+import io.reactivex.Maybe;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class AdaptiveConcurrencyTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple.feature";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private static HttpException httpError(int code) {
+		return new HttpException(Response.error(code, ResponseBody.create("", MediaType.get("application/json"))));
+	}
+
+	@Test
+	public void test_limit_grows_additively_while_responses_are_fast() {
+		AdaptiveLimit limit = new AdaptiveLimit(2, 1, 4, Duration.ofHours(1));
+		for (int i = 0; i < 3; i++) {
+			limit.record(System.nanoTime(), null, limit.getLimit());
+		}
+		assertThat(limit.getLimit(), equalTo(3));
+		for (int i = 0; i < 100; i++) {
+			limit.record(System.nanoTime(), null, limit.getLimit());
+		}
+		assertThat(limit.getLimit(), equalTo(4));
+	}
+
+	@Test
+	public void test_limit_does_not_grow_while_unused() {
+		AdaptiveLimit limit = new AdaptiveLimit(8, 1, 64, Duration.ofHours(1));
+		for (int i = 0; i < 100; i++) {
+			limit.record(System.nanoTime(), null, 1);
+		}
+		assertThat(limit.getLimit(), equalTo(8));
+	}
+
+	@Test
+	public void test_limit_does_not_grow_while_half_used() {
+		AdaptiveLimit limit = new AdaptiveLimit(8, 1, 64, Duration.ofHours(1));
+		for (int i = 0; i < 100; i++) {
+			limit.record(System.nanoTime(), null, 4);
+		}
+		assertThat(limit.getLimit(), equalTo(8));
+	}
+
+	@Test
+	public void test_limit_mbean_unregistered() throws Exception {
+		AdaptiveLimit limit = new AdaptiveLimit(8, 1, 64, Duration.ofHours(1));
+		ObjectName name = limit.register();
+		assertThat(name, notNullValue());
+		assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name), equalTo(true));
+
+		limit.unregister();
+		assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name), equalTo(false));
+	}
+
+	@Test
+	public void test_limit_backs_off_once_per_window_on_overload() {
+		AdaptiveLimit limit = new AdaptiveLimit(8, 1, 64, Duration.ofHours(1));
+		long windowStart = System.nanoTime();
+		limit.record(windowStart, httpError(503), 8);
+		limit.record(windowStart, httpError(429), 8);
+		assertThat(limit.getLimit(), equalTo(4));
+		assertThat(limit.getDecreaseCount(), equalTo(1L));
+
+		limit.record(System.nanoTime(), httpError(429), 4);
+		assertThat(limit.getLimit(), equalTo(2));
+
+		limit.record(System.nanoTime(), httpError(400), 2);
+		assertThat(limit.getLimit(), equalTo(2));
+	}
+
+	@Test
+	public void test_dispatcher_limit_decreased_by_slow_responses() {
+		AdaptiveLimit limit = new AdaptiveLimit(8, 1, 64, Duration.ZERO);
+		PriorityDispatcher dispatcher = new PriorityDispatcher(new int[] { 0, 0, 0 }, 0, limit);
+		for (int i = 0; i < 5; i++) {
+			dispatcher.dispatch(RequestLane.STRUCTURE, Maybe.just(i).delay(10, TimeUnit.MILLISECONDS)).blockingGet();
+		}
+		assertThat(limit.getLimit(), equalTo(1));
+		assertThat(limit.getDecreaseCount(), greaterThanOrEqualTo(3L));
+	}
+
+	@Test
+	public void test_launch_reported_with_adaptive_dispatch() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+		ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+		KarateParameters parameters = new KarateParameters();
+		parameters.setDispatchAdaptive(true);
+
+		Results results = TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+
+		assertThat(results.getFailCount(), equalTo(0));
+		verify(client).finishLaunch(eq(launchUuid), any());
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import io.reactivex.Maybe;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CircuitBreakerTest {
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String itemId = CommonUtils.namedId("item_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@TempDir
+	Path spoolDirectory;
+
+	private ReportPortalClient createClient(CircuitBreaker breaker) {
+		File directory = spoolDirectory.toFile();
+		return ClientDecorators.proxy(new CircuitBreakerClientHandler(client, breaker, directory, 1024, Duration.ofSeconds(10)));
+	}
+
+	private File[] getSpools() {
+		return spoolDirectory.toFile().listFiles((dir, name) -> name.startsWith(RequestJournal.SPOOL_DIRECTORY_PREFIX));
+	}
+
+	private StartTestItemRQ startRq() {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setLaunchUuid(launchUuid);
+		rq.setName("Scenario");
+		return rq;
+	}
+
+	private static void failTwice(ReportPortalClient proxy, StartTestItemRQ rq) {
+		proxy.startTestItem(rq).onErrorComplete().blockingGet();
+		proxy.startTestItem(rq).onErrorComplete().blockingGet();
+	}
+
+	@Test
+	public void test_breaker_opens_on_failures_and_saves_spool_on_launch_finish() throws IOException {
+		when(client.startTestItem(any(StartTestItemRQ.class))).thenReturn(Maybe.error(new IOException("Service unavailable")));
+		CircuitBreaker breaker = new CircuitBreaker(2, 50, Duration.ofMinutes(1), Duration.ofHours(1));
+		ReportPortalClient proxy = createClient(breaker);
+
+		failTwice(proxy, startRq());
+		assertThat(breaker.getState(), equalTo(CircuitBreaker.State.OPEN));
+
+		ItemCreatedRS diverted = proxy.startTestItem(startRq()).blockingGet();
+		assertThat(diverted.getId(), notNullValue());
+		String content = "attachment content which is not kept in memory";
+		File attachment = Files.write(spoolDirectory.resolve("attachment.txt"), content.getBytes(StandardCharsets.UTF_8)).toFile();
+		List<MultipartBody.Part> parts = Collections.singletonList(MultipartBody.Part.createFormData(
+				"file",
+				attachment.getName(),
+				new FileRequestBody(attachment, MediaType.get("text/plain"))
+		));
+		proxy.log(parts).blockingGet();
+		OperationCompletionRS finish = proxy.finishLaunch(launchUuid, new FinishExecutionRQ()).blockingGet();
+		assertThat(finish, notNullValue());
+
+		verify(client, times(2)).startTestItem(any(StartTestItemRQ.class));
+		verifyNoMoreInteractions(client);
+		File[] spools = getSpools();
+		assertThat(spools, arrayWithSize(1));
+		List<JournalEntry> entries = JournalSegmentReader.readUnacknowledged(spools[0]);
+		List<String> methods = entries.stream().map(JournalEntry::getMethod).collect(Collectors.toList());
+		assertThat(methods, contains("startTestItem", "log", "finishLaunch"));
+		assertThat(entries.get(1).getFiles(), hasSize(1));
+		assertThat(entries.get(1).getFiles().get(0).toPath().startsWith(spools[0].toPath()), equalTo(true));
+	}
+
+	@Test
+	public void test_spool_uploaded_and_ids_replaced_after_recovery() throws InterruptedException {
+		when(client.startTestItem(any(StartTestItemRQ.class))).thenReturn(Maybe.error(new IOException("Service unavailable")));
+		CircuitBreaker breaker = new CircuitBreaker(2, 50, Duration.ofMinutes(1), Duration.ZERO);
+		ReportPortalClient proxy = createClient(breaker);
+		failTwice(proxy, startRq());
+		assertThat(breaker.getState(), not(equalTo(CircuitBreaker.State.CLOSED)));
+
+		ItemCreatedRS created = new ItemCreatedRS();
+		created.setId(itemId);
+		when(client.startTestItem(any(StartTestItemRQ.class))).thenReturn(Maybe.just(created));
+		when(client.finishTestItem(any(), any(FinishTestItemRQ.class))).thenReturn(Maybe.just(new OperationCompletionRS()));
+		String generatedId = proxy.startTestItem(startRq()).blockingGet().getId();
+
+		for (int i = 0; i < 100 && breaker.getState() != CircuitBreaker.State.CLOSED; i++) {
+			Thread.sleep(100);
+		}
+		assertThat(breaker.getState(), equalTo(CircuitBreaker.State.CLOSED));
+
+		assertThat(getSpools(), emptyArray());
+
+		proxy.finishTestItem(generatedId, new FinishTestItemRQ()).blockingGet();
+		verify(client, times(3)).startTestItem(any(StartTestItemRQ.class));
+		verify(client).finishTestItem(eq(itemId), any(FinishTestItemRQ.class));
+	}
+}
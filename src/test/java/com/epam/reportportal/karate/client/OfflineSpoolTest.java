@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.intuit.karate.Results;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.karate.utils.TestUtils.standardParameters;
+import static com.epam.reportportal.karate.utils.TestUtils.testExecutor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class OfflineSpoolTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple.feature";
+	private static final Pattern ID_PATTERN = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@TempDir
+	Path offlineDirectory;
+
+	private HttpServer server;
+
+	@AfterEach
+	public void stopServer() {
+		if (server != null) {
+			server.stop(0);
+		}
+	}
+
+	private File runOffline() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setOffline(true);
+		parameters.setOfflineDirectory(offlineDirectory.toString());
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(0));
+		File[] files = offlineDirectory.toFile().listFiles((dir, name) -> name.startsWith(OfflineClientHandler.SPOOL_FILE_PREFIX));
+		assertThat(files, arrayWithSize(1));
+		return files[0];
+	}
+
+	private static void respond(HttpExchange exchange, Set<String> issuedIds) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		String contentType = String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type"));
+		exchange.getRequestBody().readAllBytes();
+		String body;
+		if (!"POST".equals(exchange.getRequestMethod())) {
+			body = "{\"message\":\"OK\"}";
+		} else if (contentType.startsWith("multipart")) {
+			body = "{\"responses\":[]}";
+		} else {
+			String id = UUID.randomUUID().toString();
+			issuedIds.add(id);
+			body = path.contains("/launch") ? "{\"id\":\"" + id + "\",\"number\":1}" : "{\"id\":\"" + id + "\"}";
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		exchange.getResponseBody().write(bytes);
+		exchange.close();
+	}
+
+	@Test
+	public void test_offline_mode_writes_spool_instead_of_sending() throws IOException {
+		File spool = runOffline();
+
+		verifyNoInteractions(client);
+		List<String> methods = OfflineClientHandler.read(spool).stream().map(JournalEntry::getMethod).collect(Collectors.toList());
+		assertThat(methods.get(0), equalTo("startLaunch"));
+		assertThat(methods.get(methods.size() - 1), equalTo("finishLaunch"));
+		assertThat(methods.stream().filter("startTestItem"::equals).count(), equalTo(5L));
+		assertThat(methods.stream().filter("finishTestItem"::equals).count(), equalTo(5L));
+	}
+
+	@Test
+	public void test_offline_spool_uploaded_to_http_server() throws IOException {
+		File spool = runOffline();
+		List<JournalEntry> entries = OfflineClientHandler.read(spool);
+		Set<String> offlineIds = entries.stream().map(JournalEntry::getCreatedId).filter(id -> id != null).collect(Collectors.toSet());
+
+		Set<String> issuedIds = ConcurrentHashMap.newKeySet();
+		List<String> requests = new CopyOnWriteArrayList<>();
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext(
+				"/", exchange -> {
+					requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+					respond(exchange, issuedIds);
+				}
+		);
+		server.start();
+
+		ListenerParameters parameters = standardParameters();
+		parameters.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+		parameters.setApiKey("test_key");
+		ReportPortalClient httpClient = ReportPortal.builder().withParameters(parameters).build().getClient();
+		int sent = new SpoolUploader(httpClient, 2, Duration.ofSeconds(30)).upload(spool);
+
+		assertThat(sent, equalTo(entries.size()));
+		assertThat(requests, hasSize(entries.size()));
+		assertThat(issuedIds, hasSize(offlineIds.size()));
+		for (String request : requests) {
+			Matcher matcher = ID_PATTERN.matcher(request);
+			while (matcher.find()) {
+				assertThat(request, matcher.group(), is(in(issuedIds)));
+			}
+		}
+	}
+
+	@Test
+	public void test_failed_offline_spool_upload_resumed() throws IOException {
+		File spool = runOffline();
+		List<JournalEntry> entries = OfflineClientHandler.read(spool);
+		int failAt = entries.size() / 2;
+
+		Set<String> issuedIds = ConcurrentHashMap.newKeySet();
+		List<String> requests = new CopyOnWriteArrayList<>();
+		AtomicBoolean failed = new AtomicBoolean();
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext(
+				"/", exchange -> {
+					if (requests.size() == failAt && failed.compareAndSet(false, true)) {
+						exchange.getRequestBody().readAllBytes();
+						exchange.sendResponseHeaders(500, -1);
+						exchange.close();
+						return;
+					}
+					requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+					respond(exchange, issuedIds);
+				}
+		);
+		server.start();
+
+		ListenerParameters parameters = standardParameters();
+		parameters.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+		parameters.setApiKey("test_key");
+		ReportPortalClient httpClient = ReportPortal.builder().withParameters(parameters).build().getClient();
+		SpoolUploader uploader = new SpoolUploader(httpClient, 1, Duration.ofSeconds(30));
+		assertThrows(IOException.class, () -> uploader.upload(spool));
+		assertThat(SpoolUploader.getProgressFile(spool).exists(), equalTo(Boolean.TRUE));
+		assertThat(requests, hasSize(failAt));
+
+		int sent = uploader.upload(spool);
+
+		assertThat(sent, equalTo(entries.size() - failAt));
+		assertThat(requests, hasSize(entries.size()));
+		for (String request : requests) {
+			Matcher matcher = ID_PATTERN.matcher(request);
+			while (matcher.find()) {
+				assertThat(request, matcher.group(), is(in(issuedIds)));
+			}
+		}
+		assertThat(spool.exists(), equalTo(Boolean.FALSE));
+		assertThat(SpoolUploader.getProgressFile(spool).exists(), equalTo(Boolean.FALSE));
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class PriorityDispatchTest {
+	private static final String TEST_FEATURE = "classpath:feature/embed.feature";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(2).collect(Collectors.toList());
+
+	@Test
+	public void test_lanes_served_in_priority_order() throws InterruptedException {
+		PriorityDispatcher dispatcher = new PriorityDispatcher(new int[] { 0, 0, 0 }, 1);
+		List<String> started = new CopyOnWriteArrayList<>();
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		MaybeSubject<String> blocker = MaybeSubject.create();
+
+		Maybe<String> first = dispatcher.dispatch(RequestLane.LOG, blocker.doOnSubscribe(d -> {
+			started.add("first");
+			firstStarted.countDown();
+		}));
+		first.subscribe();
+		assertThat(firstStarted.await(10, TimeUnit.SECONDS), equalTo(true));
+
+		List<Maybe<String>> requests = Stream.of(RequestLane.LOG, RequestLane.ERROR_LOG, RequestLane.STRUCTURE)
+				.map(lane -> dispatcher.dispatch(lane, Maybe.fromCallable(() -> {
+					started.add(lane.name());
+					return lane.name();
+				})).cache())
+				.collect(Collectors.toList());
+		requests.forEach(Maybe::subscribe);
+		assertThat(dispatcher.getQueued(RequestLane.LOG), equalTo(1));
+		assertThat(dispatcher.getQueued(RequestLane.ERROR_LOG), equalTo(1));
+		assertThat(dispatcher.getQueued(RequestLane.STRUCTURE), equalTo(1));
+
+		blocker.onSuccess("first");
+		requests.forEach(r -> r.timeout(10, TimeUnit.SECONDS).blockingGet());
+		assertThat(started, equalTo(Arrays.asList("first", "STRUCTURE", "ERROR_LOG", "LOG")));
+	}
+
+	private static SaveLogRQ log(LogLevel level) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setLevel(level.name());
+		rq.setMessage(level.name());
+		return rq;
+	}
+
+	@Test
+	public void test_log_batch_with_error_log_classified_as_error() throws NoSuchMethodException {
+		Method logMethod = ReportPortalClient.class.getMethod("log", List.class);
+		List<MultipartBody.Part> infoBatch = HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(log(LogLevel.INFO)));
+		assertThat(PriorityClientHandler.getLane(logMethod, new Object[] { infoBatch }), equalTo(RequestLane.LOG));
+
+		List<MultipartBody.Part> errorBatch = HttpRequestUtils.buildLogMultiPartRequest(Arrays.asList(
+				log(LogLevel.INFO),
+				log(LogLevel.ERROR)
+		));
+		assertThat(PriorityClientHandler.getLane(logMethod, new Object[] { infoBatch }), equalTo(RequestLane.LOG));
+		assertThat(PriorityClientHandler.getLane(logMethod, new Object[] { errorBatch }), equalTo(RequestLane.ERROR_LOG));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void test_launch_reported_through_priority_lanes(boolean report) {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+
+		KarateParameters parameters = new KarateParameters();
+		parameters.setDispatchPriority(true);
+		parameters.setDispatchLogConcurrency(1);
+		Results results;
+		if (report) {
+			results = TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+		} else {
+			results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		}
+		assertThat(results.getFailCount(), equalTo(0));
+
+		verify(client).startLaunch(any());
+		verify(client).startTestItem(any());
+		verify(client).startTestItem(same(featureId), any());
+		verify(client, times(2)).startTestItem(same(scenarioId), any());
+		verify(client).finishLaunch(eq(launchUuid), any());
+
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> attachmentLogs = logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(log -> log.getFile() != null)
+				.collect(Collectors.toList());
+		assertThat(attachmentLogs, hasSize(1));
+	}
+}
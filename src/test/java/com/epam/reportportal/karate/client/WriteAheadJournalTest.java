@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.client;
+
+import com.epam.reportportal.karate.LaunchFinishStatus;
+import com.epam.reportportal.karate.ReportPortalHook;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.intuit.karate.Runner;
+import io.reactivex.Maybe;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class WriteAheadJournalTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple.feature";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@TempDir
+	Path journalDirectory;
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	private LaunchFinishStatus run(KarateParameters parameters) {
+		ReportPortalHook hook = new ReportPortalHook(rp, parameters);
+		Runner.path(TEST_FEATURE).hook(hook).outputCucumberJson(false).parallel(1);
+		hook.finishLaunch();
+		return hook.getLaunchFinishStatus();
+	}
+
+	private File[] getJournals() {
+		return journalDirectory.toFile().listFiles((dir, name) -> name.startsWith(ClientDecorators.JOURNAL_DIRECTORY_PREFIX));
+	}
+
+	@Test
+	public void test_segment_records_read_across_segments() throws IOException {
+		File directory = journalDirectory.toFile();
+		try (JournalSegmentWriter writer = new JournalSegmentWriter(directory, 64)) {
+			for (long i = 1; i <= 10; i++) {
+				String json = "{\"sequence\":" + i + ",\"method\":\"log\",\"types\":[],\"args\":[]}";
+				writer.append(JournalSegmentWriter.REQUEST, json.getBytes(StandardCharsets.UTF_8));
+				if (i % 2 == 0) {
+					writer.append(JournalSegmentWriter.ACKNOWLEDGEMENT, ByteBuffer.allocate(Long.BYTES).putLong(i).array());
+				}
+			}
+		}
+
+		assertThat(JournalSegmentReader.getSegments(directory), hasSize(greaterThan(1)));
+		List<Long> unacknowledged = JournalSegmentReader.readUnacknowledged(directory)
+				.stream()
+				.map(JournalEntry::getSequence)
+				.collect(Collectors.toList());
+		assertThat(unacknowledged, contains(1L, 3L, 5L, 7L, 9L));
+	}
+
+	@Test
+	public void test_torn_last_record_skipped() throws IOException {
+		File directory = journalDirectory.toFile();
+		long end = 0;
+		try (JournalSegmentWriter writer = new JournalSegmentWriter(directory, 1024)) {
+			for (long i = 1; i <= 2; i++) {
+				byte[] json = ("{\"sequence\":" + i + ",\"method\":\"log\",\"types\":[],\"args\":[]}").getBytes(StandardCharsets.UTF_8);
+				writer.append(JournalSegmentWriter.REQUEST, json);
+				end += JournalSegmentWriter.HEADER_SIZE + json.length;
+			}
+		}
+		byte[] torn = "{\"sequence\":3,\"met".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer record = ByteBuffer.allocate(JournalSegmentWriter.HEADER_SIZE + torn.length)
+				.putInt(torn.length + 20)
+				.put(JournalSegmentWriter.REQUEST)
+				.putInt(42)
+				.put(torn);
+		record.flip();
+		try (FileChannel channel = FileChannel.open(JournalSegmentReader.getSegments(directory).get(0).toPath(), StandardOpenOption.WRITE)) {
+			channel.write(record, end);
+		}
+
+		List<Long> unacknowledged = JournalSegmentReader.readUnacknowledged(directory)
+				.stream()
+				.map(JournalEntry::getSequence)
+				.collect(Collectors.toList());
+		assertThat(unacknowledged, contains(1L, 2L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void test_streamed_attachment_journaled_as_file_reference() throws Exception {
+		String content = "attachment content which is not copied into the journal";
+		File attachment = Files.write(journalDirectory.resolve("attachment.txt"), content.getBytes(StandardCharsets.UTF_8)).toFile();
+		File directory = journalDirectory.resolve(ClientDecorators.JOURNAL_DIRECTORY_PREFIX + "files").toFile();
+		RequestJournal journal = new RequestJournal(directory, 1024);
+		List<MultipartBody.Part> parts = Collections.singletonList(MultipartBody.Part.createFormData(
+				"file",
+				attachment.getName(),
+				new FileRequestBody(attachment, MediaType.get("text/plain"))
+		));
+		assertThat(journal.record(ReportPortalClient.class.getMethod("log", List.class), new Object[] { parts }, null), greaterThan(0L));
+		journal.close();
+		assertThat(attachment.delete(), equalTo(true));
+
+		List<JournalEntry> tail = JournalSegmentReader.readUnacknowledged(directory);
+		assertThat(tail, hasSize(1));
+		assertThat(tail.get(0).getFiles(), hasSize(1));
+		assertThat(tail.get(0).getFiles().get(0).toPath().startsWith(directory.toPath()), equalTo(true));
+		String json = HttpRequestUtils.MAPPER.writeValueAsString(tail.get(0).toJson());
+		assertThat(json, not(containsString(Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8)))));
+
+		ReportPortalClient replayClient = mock(ReportPortalClient.class);
+		List<String> bodies = new ArrayList<>();
+		when(replayClient.log(any(List.class))).thenAnswer(invocation -> {
+			for (MultipartBody.Part part : (List<MultipartBody.Part>) invocation.getArgument(0)) {
+				Buffer buffer = new Buffer();
+				part.body().writeTo(buffer);
+				bodies.add(buffer.readUtf8());
+			}
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		assertThat(new JournalReplayer(replayClient, Duration.ofSeconds(10)).replay(directory), equalTo(1));
+		assertThat(bodies, contains(content));
+		assertThat(directory.exists(), equalTo(false));
+	}
+
+	@Test
+	public void test_journal_removed_after_launch_finish() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setJournalDirectory(journalDirectory.toString());
+
+		assertThat(run(parameters), equalTo(LaunchFinishStatus.FINISHED));
+		assertThat(getJournals(), emptyArray());
+	}
+
+	@Test
+	public void test_unacknowledged_tail_replayed() throws IOException {
+		when(client.finishLaunch(eq(launchUuid), any())).thenReturn(Maybe.never());
+		KarateParameters parameters = new KarateParameters();
+		parameters.setJournalDirectory(journalDirectory.toString());
+		parameters.setFinishTimeout(1000);
+
+		assertThat(run(parameters), equalTo(LaunchFinishStatus.TIMED_OUT));
+		File[] journals = getJournals();
+		assertThat(journals, arrayWithSize(1));
+		List<JournalEntry> tail = JournalSegmentReader.readUnacknowledged(journals[0]);
+		assertThat(tail, hasSize(1));
+		assertThat(tail.get(0).getMethod(), equalTo("finishLaunch"));
+
+		ReportPortalClient replayClient = mock(ReportPortalClient.class);
+		when(replayClient.finishLaunch(eq(launchUuid), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		int sent = new JournalReplayer(replayClient, Duration.ofSeconds(10)).replay(journals[0]);
+
+		assertThat(sent, equalTo(1));
+		verify(replayClient).finishLaunch(eq(launchUuid), any());
+		verifyNoMoreInteractions(replayClient);
+		assertThat(journals[0].exists(), equalTo(false));
+	}
+}
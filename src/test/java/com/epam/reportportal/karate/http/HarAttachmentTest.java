@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class HarAttachmentTest {
+	private static final String TEST_FEATURE = "classpath:feature/http_request.feature";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(6).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void test_http_calls_attached_as_har(boolean stream) throws IOException {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setAttachmentStream(stream);
+		parameters.setHttpHar(true);
+		parameters.setHttpRedactHeaders("Content-Type");
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		List<Pair<SaveLogRQ, byte[]>> harLogs = logCaptor.getAllValues().stream().flatMap(rq -> {
+			List<MultipartBody.Part> parts = (List<MultipartBody.Part>) rq;
+			List<byte[]> files = extractBinaryParts(parts).stream().map(Pair::getValue).collect(Collectors.toList());
+			return extractJsonParts(parts).stream()
+					.filter(log -> log.getFile() != null && "http.har".equals(log.getFile().getName()))
+					.map(log -> Pair.of(log, files.get(0)));
+		}).collect(Collectors.toList());
+		assertThat(harLogs, hasSize(1));
+		SaveLogRQ log = harLogs.get(0).getKey();
+		assertThat(log.getItemUuid(), equalTo(scenarioId));
+		assertThat(log.getMessage(), equalTo("HTTP archive, 1 call(s)"));
+
+		JsonNode har = HttpRequestUtils.MAPPER.readTree(harLogs.get(0).getValue());
+		assertThat(har.at("/log/version").asText(), equalTo(HarWriter.HAR_VERSION));
+		JsonNode entries = har.at("/log/entries");
+		assertThat(entries.size(), equalTo(1));
+		JsonNode entry = entries.get(0);
+		assertThat(entry.at("/request/method").asText(), equalTo("POST"));
+		assertThat(entry.at("/request/url").asText(), equalTo("https://example.com/api/test"));
+		assertThat(entry.at("/request/postData/text").asText(), containsString("\"grant_type\":\"password\""));
+		List<String> contentTypes = new ArrayList<>();
+		entry.at("/request/headers").forEach(header -> {
+			if ("Content-Type".equalsIgnoreCase(header.get("name").asText())) {
+				contentTypes.add(header.get("value").asText());
+			}
+		});
+		assertThat(contentTypes, contains(HttpRedactor.REDACTED));
+		assertThat(entry.at("/response/status").asInt(), equalTo(404));
+		assertThat(entry.at("/timings/wait").asLong(), greaterThanOrEqualTo(0L));
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import com.epam.reportportal.karate.attachment.AttachmentOffloader;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class HttpCaptureTest {
+	private static final String TEST_FEATURE = "classpath:feature/http_request.feature";
+	private static final String REQUEST_BODY = "{\"username\":\"user\",\"password\":\"password\",\"grant_type\":\"password\"}";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(6).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<SaveLogRQ> getHttpLogs() {
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		return logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(rq -> rq.getMessage() != null && rq.getMessage().startsWith("HTTP "))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void test_http_call_captured_and_redacted() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setHttpLog(true);
+		parameters.setHttpRedactBody("(?<=\"password\":\")[^\"]*");
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		List<SaveLogRQ> logs = getHttpLogs();
+		assertThat(logs, hasSize(1));
+		SaveLogRQ log = logs.get(0);
+		assertThat(log.getItemUuid(), is(in(stepIds)));
+		assertThat(log.getLevel(), equalTo("INFO"));
+		String message = log.getMessage();
+		assertThat(message, matchesPattern("(?s)^HTTP POST https://example\\.com/api/test -> 404 \\(\\d+ ms\\).*"));
+		assertThat(message, containsString(HttpCaptor.REQUEST_HEADERS + "\n"));
+		assertThat(message, containsString("Content-Type: application/json"));
+		assertThat(message, containsString("Request body (" + REQUEST_BODY.length() + " bytes):\n"));
+		assertThat(message, containsString("\"password\":\"[REDACTED]\""));
+		assertThat(message, not(containsString("\"password\":\"password\"")));
+		assertThat(message, containsString(HttpCaptor.RESPONSE_HEADERS + "\n"));
+	}
+
+	@Test
+	public void test_http_body_excerpt_size_limit() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setHttpLog(true);
+		parameters.setHttpBodyMaxSize(12);
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		List<SaveLogRQ> logs = getHttpLogs();
+		assertThat(logs, hasSize(1));
+		assertThat(
+				logs.get(0).getMessage(),
+				containsString("Request body (12 of " + REQUEST_BODY.length() + " bytes):\n" + REQUEST_BODY.substring(0, 12) + "\n\n")
+		);
+	}
+
+	@Test
+	public void test_http_call_not_captured_by_default() {
+		Results results = TestUtils.runAsHook(rp, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		assertThat(getHttpLogs(), empty());
+	}
+
+	@Test
+	public void test_http_call_with_heavy_body_offloaded_to_blob_store(@TempDir Path spillDirectory) throws IOException {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setHttpLog(true);
+		// The body excerpt is cut below the offload size, so only the full body size can trigger the offload
+		parameters.setHttpBodyMaxSize(REQUEST_BODY.length() / 2);
+		parameters.setAttachmentOffloadSize(REQUEST_BODY.length());
+		parameters.setAttachmentSpillDirectory(spillDirectory.toString());
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		List<SaveLogRQ> logs = getHttpLogs();
+		assertThat(logs, hasSize(1));
+		assertThat(logs.get(0).getFile(), nullValue());
+		assertThat(
+				logs.get(0).getMessage(),
+				startsWith("HTTP POST https://example.com/api/test\nNot uploaded: " + AttachmentOffloader.OFFLOAD_THRESHOLD_REASON)
+		);
+
+		List<Path> stored;
+		try (Stream<Path> files = Files.list(spillDirectory)) {
+			stored = files.collect(Collectors.toList());
+		}
+		assertThat(stored, hasSize(1));
+		assertThat(new String(Files.readAllBytes(stored.get(0)), StandardCharsets.UTF_8), containsString(REQUEST_BODY));
+	}
+}
+
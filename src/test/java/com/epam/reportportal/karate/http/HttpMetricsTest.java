@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class HttpMetricsTest {
+	private static final String TEST_FEATURE = "classpath:feature/http_request.feature";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(6).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void test_http_metrics_reported() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setHttpMetrics(true);
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		ArgumentCaptor<FinishTestItemRQ> featureFinish = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client).finishTestItem(same(featureId), featureFinish.capture());
+		Map<String, String> attributes = featureFinish.getValue()
+				.getAttributes()
+				.stream()
+				.filter(a -> a.getKey() != null && a.getKey().startsWith("http."))
+				.collect(Collectors.toMap(ItemAttributesRQ::getKey, ItemAttributesRQ::getValue));
+		assertThat(attributes, hasEntry(HttpMetrics.CALLS_ATTRIBUTE, "1"));
+		assertThat(attributes, hasEntry(HttpMetrics.ERROR_RATE_ATTRIBUTE, "100.0%"));
+		assertThat(attributes, hasKey(HttpMetrics.P95_ATTRIBUTE));
+
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		List<Pair<SaveLogRQ, byte[]>> launchLogs = logCaptor.getAllValues().stream().flatMap(rq -> {
+			List<MultipartBody.Part> parts = (List<MultipartBody.Part>) rq;
+			List<byte[]> files = extractBinaryParts(parts).stream().map(Pair::getValue).collect(Collectors.toList());
+			return extractJsonParts(parts).stream()
+					.filter(log -> log.getItemUuid() == null && log.getFile() != null)
+					.map(log -> Pair.of(log, files.get(0)));
+		}).collect(Collectors.toList());
+		assertThat(launchLogs, hasSize(1));
+		SaveLogRQ log = launchLogs.get(0).getKey();
+		assertThat(log.getLaunchUuid(), equalTo(launchUuid));
+		assertThat(log.getMessage(), equalTo("HTTP endpoint metrics: 1 endpoint(s), 1 call(s)"));
+		assertThat(log.getFile().getName(), equalTo("http-metrics.csv"));
+		String[] csv = new String(launchLogs.get(0).getValue(), StandardCharsets.UTF_8).split("\n");
+		assertThat(csv, arrayWithSize(2));
+		assertThat(csv[0], equalTo(HttpMetrics.CSV_HEADER));
+		assertThat(csv[1], startsWith("\"POST example.com/api/test\",1,1,1.0000,"));
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "get, https://example.com/api/users/42?full=true, GET example.com/api/users/{id}",
+			"DELETE, http://localhost:8080/items/123e4567-e89b-12d3-a456-426614174000/tags/x, DELETE localhost:8080/items/{id}/tags/x",
+			"POST, https://example.com/, POST example.com/" })
+	public void test_endpoint_template(String method, String url, String expected) {
+		assertThat(HttpMetrics.getEndpoint(method, url), equalTo(expected));
+	}
+
+	@Test
+	public void test_latency_histogram_percentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		assertThat(histogram.getCount(), equalTo(1000L));
+		assertThat(histogram.getMax(), equalTo(1_000_000L));
+		assertThat((double) histogram.getPercentile(50), closeTo(500_000, 500_000 * 0.125));
+		assertThat((double) histogram.getPercentile(99), closeTo(990_000, 990_000 * 0.125));
+		assertThat(histogram.getPercentile(100), equalTo(1_000_000L));
+	}
+}
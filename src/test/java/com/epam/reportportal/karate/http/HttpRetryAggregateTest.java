@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.http;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class HttpRetryAggregateTest {
+	private static final String TEST_FEATURE = "classpath:feature/http_retry.feature";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(5).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<SaveLogRQ> getHttpLogs() {
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		return logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.filter(rq -> rq.getMessage() != null && (rq.getMessage().startsWith("HTTP ") || rq.getMessage()
+						.startsWith("Repeated HTTP call")))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void test_http_retry_reported_as_single_log() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setHttpLog(true);
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		List<SaveLogRQ> logs = getHttpLogs();
+		assertThat(logs, hasSize(1));
+		SaveLogRQ log = logs.get(0);
+		assertThat(log.getItemUuid(), is(in(stepIds)));
+		assertThat(
+				log.getMessage(),
+				matchesPattern("(?s)^Repeated HTTP call: 3 attempts in \\d+ ms, latency min \\d+ ms, avg \\d+ ms, max \\d+ ms\\. Last attempt:\n\n"
+						+ "HTTP GET https://example\\.com/api/status -> \\d+ \\(\\d+ ms\\).*")
+		);
+	}
+
+	@Test
+	public void test_http_retry_reported_per_call_if_aggregation_disabled() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setHttpLog(true);
+		parameters.setHttpLogAggregate(false);
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		List<SaveLogRQ> logs = getHttpLogs();
+		assertThat(logs, hasSize(3));
+		logs.forEach(log -> assertThat(log.getMessage(), startsWith("HTTP GET https://example.com/api/status -> ")));
+	}
+}
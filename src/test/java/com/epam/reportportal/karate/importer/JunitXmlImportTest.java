@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.importer;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.config.PublishMode;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.intuit.karate.Results;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.standardParameters;
+import static com.epam.reportportal.karate.utils.TestUtils.testExecutor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class JunitXmlImportTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple_failed.feature";
+	private static final byte[] ZIP_SIGNATURE = { 'P', 'K', 3, 4 };
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final AtomicReference<String> requestPath = new AtomicReference<>();
+	private final AtomicReference<byte[]> requestBody = new AtomicReference<>();
+
+	private HttpServer server;
+
+	@BeforeEach
+	public void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			requestPath.set(exchange.getRequestURI().getPath());
+			requestBody.set(exchange.getRequestBody().readAllBytes());
+			byte[] response = "{\"message\":\"Launch is successfully imported.\"}".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		server.start();
+	}
+
+	@AfterEach
+	public void stopServer() {
+		server.stop(0);
+	}
+
+	private static int indexOf(byte[] data, byte[] pattern) {
+		outer:
+		for (int i = 0; i <= data.length - pattern.length; i++) {
+			for (int j = 0; j < pattern.length; j++) {
+				if (data[i + j] != pattern[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	@Test
+	public void test_results_imported_as_junit_xml_zip_in_one_request() throws IOException {
+		ListenerParameters parameters = standardParameters();
+		parameters.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+		ReportPortal rp = ReportPortal.create(client, parameters, testExecutor());
+		KarateParameters karateParameters = new KarateParameters();
+		karateParameters.setPublishMode(PublishMode.JUNIT_IMPORT);
+
+		Results results = TestUtils.runAsReport(rp, karateParameters, TEST_FEATURE);
+		assertThat(results.getFailCount(), equalTo(1));
+
+		verifyNoInteractions(client);
+		assertThat(requestPath.get(), equalTo("/api/v1/" + parameters.getProjectName() + "/" + JunitXmlImportPublisher.IMPORT_PATH));
+		byte[] body = requestBody.get();
+		int zipStart = indexOf(body, ZIP_SIGNATURE);
+		assertThat(zipStart, greaterThanOrEqualTo(0));
+
+		List<String> entries = new ArrayList<>();
+		String xml = null;
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(body, zipStart, body.length - zipStart))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entries.add(entry.getName());
+				xml = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+			}
+		}
+		assertThat(entries, hasSize(1));
+		assertThat(xml, containsString("<testsuite name=\"feature.simple_failed\" tests=\"1\" failures=\"1\""));
+		assertThat(xml, containsString("<failure message="));
+		assertThat(xml, containsString("Then assert actualFour != four ... failed"));
+	}
+
+	@Test
+	public void test_ansi_escapes_and_invalid_characters_removed_from_xml_text() {
+		String text = "\u001B[31mexpected: 4\u001B[0m\u0000\u0007 but was: \uD83D\uDE00\ttab\nline";
+		assertThat(JunitXmlImportPublisher.toXmlText(text), equalTo("expected: 4 but was: \uD83D\uDE00\ttab\nline"));
+	}
+}
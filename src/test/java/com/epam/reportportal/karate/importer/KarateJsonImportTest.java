@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.importer;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.intuit.karate.Results;
+import com.intuit.karate.Runner;
+import com.intuit.karate.core.ScenarioResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class KarateJsonImportTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple.feature";
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@TempDir
+	Path reportDirectory;
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@Test
+	public void test_karate_json_report_imported_with_original_timestamps() throws IOException {
+		Results results = Runner.path(TEST_FEATURE).reportDir(reportDirectory.toString()).outputCucumberJson(false).parallel(1);
+		assertThat(results.getFailCount(), equalTo(0));
+		ScenarioResult scenarioResult = results.getScenarioResults().findAny().orElseThrow();
+		List<File> reports = KarateJsonImporter.findReports(reportDirectory.toFile());
+		assertThat(reports, hasSize(1));
+
+		ImportPublisher publisher = new ImportPublisher(rp, new KarateParameters());
+		int published = new KarateJsonImporter(publisher, new File("").getAbsoluteFile(), 2).importReports(reports);
+		assertThat(published, equalTo(1));
+
+		ArgumentCaptor<StartLaunchRQ> launchCaptor = ArgumentCaptor.forClass(StartLaunchRQ.class);
+		verify(client).startLaunch(launchCaptor.capture());
+		ArgumentCaptor<StartTestItemRQ> featureCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(featureCaptor.capture());
+		ArgumentCaptor<StartTestItemRQ> scenarioCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(same(featureId), scenarioCaptor.capture());
+		ArgumentCaptor<StartTestItemRQ> stepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(3)).startTestItem(same(scenarioId), stepCaptor.capture());
+		ArgumentCaptor<FinishTestItemRQ> scenarioFinishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client).finishTestItem(same(scenarioId), scenarioFinishCaptor.capture());
+
+		Instant startTime = Instant.ofEpochMilli(scenarioResult.getStartTime());
+		assertThat(launchCaptor.getValue().getStartTime(), equalTo(startTime));
+		assertThat(featureCaptor.getValue().getStartTime(), equalTo(startTime));
+		assertThat(scenarioCaptor.getValue().getStartTime(), equalTo(startTime));
+		assertThat(scenarioFinishCaptor.getValue().getEndTime(), equalTo(Instant.ofEpochMilli(scenarioResult.getEndTime())));
+
+		List<StartTestItemRQ> steps = stepCaptor.getAllValues();
+		assertThat(steps.get(0).getStartTime(), equalTo(startTime));
+		assertThat((Instant) steps.get(2).getStartTime(), greaterThanOrEqualTo((Instant) steps.get(1).getStartTime()));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.karate.launch;
+
+import com.epam.reportportal.karate.ReportPortalHook;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.intuit.karate.Results;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class AsyncLaunchStartTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple.feature";
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@Test
+	public void test_launch_started_before_first_feature() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setLaunchStartAsync(true);
+		ReportPortalHook hook = new ReportPortalHook(rp, parameters);
+
+		hook.beforeSuite(null);
+
+		verify(client, timeout(5000)).startLaunch(any());
+		verify(client, never()).startTestItem(any());
+	}
+
+	@Test
+	public void test_launch_not_started_before_first_feature_by_default() {
+		ReportPortalHook hook = new ReportPortalHook(rp, new KarateParameters());
+
+		hook.beforeSuite(null);
+
+		verify(client, after(500).never()).startLaunch(any());
+	}
+
+	@Test
+	public void test_launch_started_once_with_async_start() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setLaunchStartAsync(true);
+		Results results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+
+		assertThat(results.getFailCount(), equalTo(0));
+		verify(client, times(1)).startLaunch(any());
+		verify(client).finishLaunch(eq(launchUuid), any());
+	}
+}
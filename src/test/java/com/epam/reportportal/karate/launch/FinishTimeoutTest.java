@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.launch;
+
+import com.epam.reportportal.karate.LaunchFinishStatus;
+import com.epam.reportportal.karate.ReportPortalHook;
+import com.epam.reportportal.karate.client.JournalEntry;
+import com.epam.reportportal.karate.client.JournalSegmentReader;
+import com.epam.reportportal.karate.client.RequestJournal;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.intuit.karate.Runner;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class FinishTimeoutTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple.feature";
+	private static final long FINISH_TIMEOUT = 1000;
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@TempDir
+	Path spoolDirectory;
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	private LaunchFinishStatus run(KarateParameters parameters) {
+		ReportPortalHook hook = new ReportPortalHook(rp, parameters);
+		Runner.path(TEST_FEATURE).hook(hook).outputCucumberJson(false).parallel(1);
+		hook.finishLaunch();
+		return hook.getLaunchFinishStatus();
+	}
+
+	@Test
+	public void test_launch_finish_returns_on_timeout_and_spools_requests() throws IOException {
+		when(client.finishLaunch(eq(launchUuid), any())).thenReturn(Maybe.never());
+		KarateParameters parameters = new KarateParameters();
+		parameters.setFinishTimeout(FINISH_TIMEOUT);
+		parameters.setSpoolDirectory(spoolDirectory.toString());
+
+		long start = System.currentTimeMillis();
+		LaunchFinishStatus status = run(parameters);
+		long duration = System.currentTimeMillis() - start;
+
+		assertThat(status, equalTo(LaunchFinishStatus.TIMED_OUT));
+		assertThat(duration, lessThan(FINISH_TIMEOUT * 10));
+
+		File[] journals = spoolDirectory.toFile().listFiles((dir, name) -> name.startsWith(RequestJournal.SPOOL_DIRECTORY_PREFIX));
+		assertThat(journals, arrayWithSize(1));
+		List<JournalEntry> tail = JournalSegmentReader.readUnacknowledged(journals[0]);
+		assertThat(tail, hasSize(1));
+		assertThat(tail.get(0).getMethod(), equalTo("finishLaunch"));
+		assertThat(HttpRequestUtils.MAPPER.writeValueAsString(tail.get(0).toJson()), containsString(launchUuid));
+	}
+
+	@Test
+	public void test_launch_finish_without_timeout_finishes_launch() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setSpoolDirectory(spoolDirectory.toString());
+
+		assertThat(run(parameters), equalTo(LaunchFinishStatus.FINISHED));
+		verify(client).finishLaunch(eq(launchUuid), any());
+		assertThat(spoolDirectory.toFile().listFiles(), emptyArray());
+	}
+
+	@Test
+	public void test_launch_finish_without_journal_awaited_again_on_shutdown() {
+		MaybeSubject<OperationCompletionRS> response = MaybeSubject.create();
+		when(client.finishLaunch(eq(launchUuid), any())).thenReturn(response);
+		KarateParameters parameters = new KarateParameters();
+		parameters.setFinishTimeout(FINISH_TIMEOUT);
+		parameters.setShutdownTimeout(FINISH_TIMEOUT * 10);
+
+		ReportPortalHook hook = new ReportPortalHook(rp, parameters);
+		Runner.path(TEST_FEATURE).hook(hook).outputCucumberJson(false).parallel(1);
+		hook.finishLaunch();
+		assertThat(hook.getLaunchFinishStatus(), equalTo(LaunchFinishStatus.TIMED_OUT));
+
+		response.onSuccess(new OperationCompletionRS());
+		hook.finishLaunchOnShutdown();
+		assertThat(hook.getLaunchFinishStatus(), equalTo(LaunchFinishStatus.FINISHED));
+		verify(client).finishLaunch(eq(launchUuid), any());
+	}
+}
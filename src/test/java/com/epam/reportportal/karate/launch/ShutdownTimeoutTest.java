@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.launch;
+
+import com.epam.reportportal.karate.LaunchFinishStatus;
+import com.epam.reportportal.karate.ReportPortalHook;
+import com.epam.reportportal.karate.client.JournalEntry;
+import com.epam.reportportal.karate.client.JournalReplayer;
+import com.epam.reportportal.karate.client.JournalSegmentReader;
+import com.epam.reportportal.karate.client.RequestJournal;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.intuit.karate.Runner;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ShutdownTimeoutTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple.feature";
+	private static final long SHUTDOWN_TIMEOUT = 1000;
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@TempDir
+	Path spoolDirectory;
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	private LaunchFinishStatus runAndShutdown(KarateParameters parameters) {
+		ReportPortalHook hook = new ReportPortalHook(rp, parameters);
+		Runner.path(TEST_FEATURE).hook(hook).outputCucumberJson(false).parallel(1);
+		hook.finishLaunchOnShutdown();
+		return hook.getLaunchFinishStatus();
+	}
+
+	@Test
+	public void test_shutdown_finish_drains_within_timeout_and_spools_requests() throws IOException {
+		when(client.finishLaunch(eq(launchUuid), any())).thenReturn(Maybe.never());
+		KarateParameters parameters = new KarateParameters();
+		parameters.setShutdownTimeout(SHUTDOWN_TIMEOUT);
+		parameters.setSpoolDirectory(spoolDirectory.toString());
+
+		long start = System.currentTimeMillis();
+		LaunchFinishStatus status = runAndShutdown(parameters);
+		long duration = System.currentTimeMillis() - start;
+
+		assertThat(status, equalTo(LaunchFinishStatus.TIMED_OUT));
+		assertThat(duration, lessThan(SHUTDOWN_TIMEOUT * 10));
+
+		File[] journals = spoolDirectory.toFile().listFiles((dir, name) -> name.startsWith(RequestJournal.SPOOL_DIRECTORY_PREFIX));
+		assertThat(journals, arrayWithSize(1));
+		List<JournalEntry> tail = JournalSegmentReader.readUnacknowledged(journals[0]);
+		assertThat(tail, hasSize(1));
+		assertThat(tail.get(0).getMethod(), equalTo("finishLaunch"));
+	}
+
+	@Test
+	public void test_shutdown_finish_completes_launch_if_server_responds() {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setShutdownTimeout(SHUTDOWN_TIMEOUT * 10);
+		parameters.setSpoolDirectory(spoolDirectory.toString());
+
+		assertThat(runAndShutdown(parameters), equalTo(LaunchFinishStatus.FINISHED));
+		verify(client).finishLaunch(eq(launchUuid), any());
+		assertThat(spoolDirectory.toFile().listFiles(), emptyArray());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void test_launch_stuck_at_shutdown_finished_from_spool() throws IOException {
+		// The server stops answering in the middle of the run, so the Scenario and everything after it is left to the spool
+		when(client.startTestItem(eq(featureId), any())).thenReturn(Maybe.never());
+		KarateParameters parameters = new KarateParameters();
+		parameters.setShutdownTimeout(SHUTDOWN_TIMEOUT);
+		parameters.setSpoolDirectory(spoolDirectory.toString());
+
+		assertThat(runAndShutdown(parameters), equalTo(LaunchFinishStatus.TIMED_OUT));
+		verify(client, never()).finishLaunch(any(), any());
+
+		File[] journals = spoolDirectory.toFile().listFiles((dir, name) -> name.startsWith(RequestJournal.SPOOL_DIRECTORY_PREFIX));
+		assertThat(journals, arrayWithSize(1));
+		List<String> methods = JournalSegmentReader.readUnacknowledged(journals[0])
+				.stream()
+				.map(JournalEntry::getMethod)
+				.collect(Collectors.toList());
+		assertThat(methods, hasSize(greaterThan(stepIds.size() * 2)));
+		assertThat(methods.get(0), equalTo("startTestItem"));
+		assertThat(methods.get(methods.size() - 1), equalTo("finishLaunch"));
+
+		ReportPortalClient replayClient = mock(ReportPortalClient.class);
+		String replayScenarioId = CommonUtils.namedId("scenario_");
+		Maybe<ItemCreatedRS> scenario = Maybe.just(new ItemCreatedRS(replayScenarioId, replayScenarioId));
+		when(replayClient.startTestItem(eq(featureId), any())).thenReturn(scenario);
+		Maybe<ItemCreatedRS>[] steps = stepIds.stream().map(id -> Maybe.just(new ItemCreatedRS(id, id))).toArray(Maybe[]::new);
+		when(replayClient.startTestItem(eq(replayScenarioId), any())).thenReturn(steps[0], Arrays.copyOfRange(steps, 1, steps.length));
+		when(replayClient.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(replayClient.log(any(List.class))).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		when(replayClient.finishLaunch(eq(launchUuid), any())).thenReturn(
+				Maybe.error(new IllegalStateException("Server is unavailable")),
+				Maybe.just(new OperationCompletionRS())
+		);
+		JournalReplayer replayer = new JournalReplayer(replayClient, Duration.ofSeconds(10));
+
+		assertThrows(IOException.class, () -> replayer.replay(journals[0]));
+		assertThat(journals[0].exists(), equalTo(true));
+		assertThat(replayer.replay(journals[0]), equalTo(1));
+
+		verify(replayClient).startTestItem(eq(featureId), any());
+		verify(replayClient, times(stepIds.size())).startTestItem(eq(replayScenarioId), any());
+		stepIds.forEach(id -> verify(replayClient).finishTestItem(eq(id), any()));
+		verify(replayClient).finishTestItem(eq(replayScenarioId), any());
+		verify(replayClient).finishTestItem(eq(featureId), any());
+		verify(replayClient, times(2)).finishLaunch(eq(launchUuid), any());
+		assertThat(journals[0].exists(), equalTo(false));
+	}
+}
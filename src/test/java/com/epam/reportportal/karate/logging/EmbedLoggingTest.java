@@ -68,7 +68,7 @@ public class EmbedLoggingTest {
 		assertThat(results.getFailCount(), equalTo(0));
 
 		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
-		verify(client).log(logCaptor.capture());
+		verify(client, atLeastOnce()).log(logCaptor.capture());
 
 		List<SaveLogRQ> logs = logCaptor.getAllValues()
 				.stream()
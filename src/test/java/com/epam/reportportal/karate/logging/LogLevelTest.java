@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.logging;
+
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class LogLevelTest {
+	private static final String TEST_FEATURE = "classpath:feature/simple_failed.feature";
+	private static final String TAG_FEATURE = "classpath:feature/log_level_tag.feature";
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<SaveLogRQ> getLogs() {
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeast(0)).log(logCaptor.capture());
+		return logCaptor.getAllValues()
+				.stream()
+				.flatMap(rq -> extractJsonParts((List<MultipartBody.Part>) rq).stream())
+				.collect(Collectors.toList());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	public void test_minimal_log_level_filters_agent_logs(boolean report) {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setLogLevel(LogLevel.WARN);
+		Results results;
+		if (report) {
+			results = TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+		} else {
+			results = TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		}
+		assertThat(results.getFailCount(), equalTo(1));
+
+		List<SaveLogRQ> logs = getLogs().stream().filter(rq -> stepIds.contains(rq.getItemUuid())).collect(Collectors.toList());
+		List<SaveLogRQ> errorLogs = logs.stream().filter(rq -> LogLevel.ERROR.name().equals(rq.getLevel())).collect(Collectors.toList());
+		assertThat(errorLogs, hasSize(greaterThan(0)));
+		if (report) {
+			assertThat(logs.stream().map(SaveLogRQ::getLevel).collect(Collectors.toList()), not(hasItem(LogLevel.DEBUG.name())));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	public void test_log_level_tag_overrides_configuration(boolean report) {
+		Results results;
+		if (report) {
+			results = TestUtils.runAsReport(rp, new KarateParameters(), TAG_FEATURE);
+		} else {
+			results = TestUtils.runAsHook(rp, new KarateParameters(), TAG_FEATURE);
+		}
+		assertThat(results.getFailCount(), equalTo(0));
+
+		List<String> messages = getLogs().stream().map(SaveLogRQ::getMessage).collect(Collectors.toList());
+		assertThat(messages, not(hasItem(startsWith("Docstring:"))));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.logging;
+
+import com.epam.reportportal.karate.ReportPortalUtils;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.karate.config.OversizedLogMode;
+import com.epam.reportportal.karate.utils.TestUtils;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.intuit.karate.Results;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class OversizedLogTest {
+	private static final String TEST_FEATURE = "classpath:feature/docstring.feature";
+	private static final String DOCSTRING_MESSAGE = "Docstring:\n\n```\n{\n" + "  username: 'user',\n" + "  password: 'password',\n"
+			+ "  grant_type: 'password'\n" + "}\n```";
+	private static final int MAX_SIZE = 20;
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String featureId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid, featureId, scenarioId, stepIds);
+		mockBatchLogging(client);
+	}
+
+	private Results run(boolean report, OversizedLogMode mode) {
+		KarateParameters parameters = new KarateParameters();
+		parameters.setLogLevel(LogLevel.INFO);
+		parameters.setLogMaxSize(MAX_SIZE);
+		parameters.setLogOversizeMode(mode);
+		if (report) {
+			return TestUtils.runAsReport(rp, parameters, TEST_FEATURE);
+		} else {
+			return TestUtils.runAsHook(rp, parameters, TEST_FEATURE);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private List<List<MultipartBody.Part>> getRequests() {
+		ArgumentCaptor<List> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		//noinspection unchecked
+		return logCaptor.getAllValues().stream().map(rq -> (List<MultipartBody.Part>) rq).collect(Collectors.toList());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	public void test_oversized_log_split_into_parts(boolean report) {
+		Results results = run(report, OversizedLogMode.SPLIT);
+		assertThat(results.getFailCount(), equalTo(0));
+
+		List<String> parts = getRequests().stream()
+				.flatMap(rq -> extractJsonParts(rq).stream())
+				.map(SaveLogRQ::getMessage)
+				.filter(m -> m != null && m.startsWith("[Part "))
+				.collect(Collectors.toList());
+
+		int partCount = (DOCSTRING_MESSAGE.length() + MAX_SIZE - 1) / MAX_SIZE;
+		assertThat(parts, hasSize(partCount));
+		String restored = parts.stream().map(m -> m.substring(m.indexOf('\n') + 1)).collect(Collectors.joining());
+		assertThat(restored, equalTo(DOCSTRING_MESSAGE));
+		assertThat(parts.get(0), startsWith(String.format("[Part 1 of %d]", partCount)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	public void test_oversized_log_sent_as_compressed_attachment(boolean report) throws IOException {
+		Results results = run(report, OversizedLogMode.ATTACHMENT);
+		assertThat(results.getFailCount(), equalTo(0));
+
+		List<List<MultipartBody.Part>> requests = getRequests();
+		List<SaveLogRQ> logs = requests.stream()
+				.flatMap(rq -> extractJsonParts(rq).stream())
+				.filter(rq -> rq.getFile() != null)
+				.collect(Collectors.toList());
+		assertThat(logs, hasSize(1));
+		assertThat(
+				logs.get(0).getMessage(),
+				equalTo(String.format(ReportPortalUtils.COMPRESSED_LOG_MESSAGE_PATTERN, DOCSTRING_MESSAGE.length()))
+		);
+
+		List<Pair<String, byte[]>> attachments = requests.stream()
+				.flatMap(rq -> extractBinaryParts(rq).stream())
+				.collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+		assertThat(attachments.get(0).getKey(), equalTo(ReportPortalUtils.GZIP_CONTENT_TYPE));
+		try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(attachments.get(0).getValue()))) {
+			assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8), equalTo(DOCSTRING_MESSAGE));
+		}
+	}
+}
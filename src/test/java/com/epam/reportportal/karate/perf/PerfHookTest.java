@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.karate.perf;
+
+import com.epam.reportportal.karate.ReportPortalPerfHook;
+import com.epam.reportportal.karate.config.KarateParameters;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.intuit.karate.Results;
+import com.intuit.karate.Runner;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.karate.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class PerfHookTest {
+	private static final String TEST_FEATURE = "classpath:feature/http_request.feature";
+	private static final int ITERATIONS = 3;
+
+	private final String launchUuid = CommonUtils.namedId("launch_");
+	private final String scenariosSuiteId = CommonUtils.namedId("suite_");
+	private final String requestsSuiteId = CommonUtils.namedId("suite_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final String requestId = CommonUtils.namedId("request_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ReportPortal rp = ReportPortal.create(client, standardParameters(), testExecutor());
+
+	@BeforeEach
+	public void setupMock() {
+		mockLaunch(client, launchUuid);
+		mockBatchLogging(client);
+		when(client.startTestItem(any())).thenReturn(
+				Maybe.just(new ItemCreatedRS(scenariosSuiteId, scenariosSuiteId)),
+				Maybe.just(new ItemCreatedRS(requestsSuiteId, requestsSuiteId))
+		);
+		when(client.startTestItem(same(scenariosSuiteId), any())).thenReturn(Maybe.just(new ItemCreatedRS(scenarioId, scenarioId)));
+		when(client.startTestItem(same(requestsSuiteId), any())).thenReturn(Maybe.just(new ItemCreatedRS(requestId, requestId)));
+		when(client.finishTestItem(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+	}
+
+	private static Map<String, String> getAttributes(StartTestItemRQ rq) {
+		return rq.getAttributes().stream().collect(Collectors.toMap(ItemAttributesRQ::getKey, ItemAttributesRQ::getValue));
+	}
+
+	@Test
+	public void test_perf_hook_reports_summary_only() {
+		ReportPortalPerfHook hook = new ReportPortalPerfHook(rp, new KarateParameters());
+		for (int i = 0; i < ITERATIONS; i++) {
+			Results results = Runner.path(TEST_FEATURE).hook(hook).outputCucumberJson(false).parallel(1);
+			assertThat(results.getFailCount(), equalTo(1));
+		}
+		verify(client, never()).startLaunch(any());
+
+		hook.finishLaunch();
+
+		ArgumentCaptor<StartTestItemRQ> suiteCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(suiteCaptor.capture());
+		assertThat(
+				suiteCaptor.getAllValues().stream().map(StartTestItemRQ::getName).collect(Collectors.toList()),
+				contains(ReportPortalPerfHook.SCENARIOS_SUITE, ReportPortalPerfHook.REQUESTS_SUITE)
+		);
+
+		ArgumentCaptor<StartTestItemRQ> scenarioCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(same(scenariosSuiteId), scenarioCaptor.capture());
+		StartTestItemRQ scenario = scenarioCaptor.getValue();
+		assertThat(scenario.getName(), endsWith(" / Verify HTTP request"));
+		assertThat(getAttributes(scenario), hasEntry("perf.calls", String.valueOf(ITERATIONS)));
+		assertThat(getAttributes(scenario), hasEntry("perf.error.rate", "100.0%"));
+		assertThat(scenario.getDescription(), containsString("p95, ms"));
+
+		ArgumentCaptor<StartTestItemRQ> requestCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(same(requestsSuiteId), requestCaptor.capture());
+		StartTestItemRQ request = requestCaptor.getValue();
+		assertThat(request.getName(), equalTo("POST example.com/api/test"));
+		assertThat(getAttributes(request), hasEntry("perf.calls", String.valueOf(ITERATIONS)));
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, times(4)).finishTestItem(any(), finishCaptor.capture());
+		List<String> statuses = finishCaptor.getAllValues().stream().map(FinishTestItemRQ::getStatus).collect(Collectors.toList());
+		assertThat(statuses, everyItem(equalTo(ItemStatus.FAILED.name())));
+	}
+}
@@ -18,6 +18,7 @@ package com.epam.reportportal.karate.utils;
 
 import com.epam.reportportal.karate.KarateReportPortalRunner;
 import com.epam.reportportal.karate.ReportPortalHook;
+import com.epam.reportportal.karate.config.KarateParameters;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.LaunchImpl;
 import com.epam.reportportal.service.ReportPortal;
@@ -68,22 +69,45 @@ public class TestUtils {
 		});
 	}
 
+	public static Results runAsReport(ReportPortal reportPortal, KarateParameters karateParameters, List<String> tags,
+			String... paths) {
+		return KarateReportPortalRunner.path(paths)
+				.withReportPortal(reportPortal)
+				.withKarateParameters(karateParameters)
+				.outputCucumberJson(false)
+				.tags(tags)
+				.parallel(1);
+	}
+
 	public static Results runAsReport(ReportPortal reportPortal, List<String> tags, String... paths) {
-		return KarateReportPortalRunner.path(paths).withReportPortal(reportPortal).outputCucumberJson(false).tags(tags).parallel(1);
+		return runAsReport(reportPortal, new KarateParameters(), tags, paths);
+	}
+
+	public static Results runAsReport(ReportPortal reportPortal, KarateParameters karateParameters, String... paths) {
+		return runAsReport(reportPortal, karateParameters, Collections.emptyList(), paths);
 	}
 
 	public static Results runAsReport(ReportPortal reportPortal, String... paths) {
 		return runAsReport(reportPortal, Collections.emptyList(), paths);
 	}
 
-	public static Results runAsHook(ReportPortal reportPortal, List<String> tags, String... paths) {
-		ReportPortalHook hook = new ReportPortalHook(reportPortal);
+	public static Results runAsHook(ReportPortal reportPortal, KarateParameters karateParameters, List<String> tags,
+			String... paths) {
+		ReportPortalHook hook = new ReportPortalHook(reportPortal, karateParameters);
 		Runner.Builder<?> path = Runner.path(paths).hook(hook).outputCucumberJson(false);
 		Results result = path.tags(tags).parallel(1);
 		hook.finishLaunch();
 		return result;
 	}
 
+	public static Results runAsHook(ReportPortal reportPortal, List<String> tags, String... paths) {
+		return runAsHook(reportPortal, new KarateParameters(), tags, paths);
+	}
+
+	public static Results runAsHook(ReportPortal reportPortal, KarateParameters karateParameters, String... paths) {
+		return runAsHook(reportPortal, karateParameters, Collections.emptyList(), paths);
+	}
+
 	public static Results runAsHook(ReportPortal reportPortal, String... paths) {
 		return runAsHook(reportPortal, Collections.emptyList(), paths);
 	}
@@ -0,0 +1,12 @@
+Feature: the very basic test with a docstring
+
+  Scenario: Verify docstring
+    Given def body =
+    """
+    {
+      username: 'user',
+      password: 'password',
+      grant_type: 'password'
+    }
+    """
+    Then match body.username == 'user'
@@ -0,0 +1,9 @@
+Feature: Demonstrate attachments of failed and passed scenarios
+
+  Scenario: I attach an image and fail
+    When def bytes = karate.read('classpath:pug/lucky.png')
+    Then eval karate.embed(bytes, 'image/png'); karate.fail('Screenshot taken on failure')
+
+  Scenario: I attach an image and pass
+    When def bytes = karate.read('classpath:pug/lucky.png')
+    Then eval karate.embed(bytes, 'image/png')
@@ -0,0 +1,5 @@
+Feature: Demonstrate attachment of a scenario which fails after it
+
+  Scenario: I attach an image and fail on the next step
+    When eval karate.embed(karate.read('classpath:pug/lucky.png'), 'image/png')
+    Then eval karate.fail('Failed after the screenshot was taken')
@@ -0,0 +1,5 @@
+Feature: Demonstrate attachment of a failed scenario
+
+  Scenario: I attach an image and fail
+    When def bytes = karate.read('classpath:pug/lucky.png')
+    Then eval karate.embed(bytes, 'image/png'); karate.fail('Screenshot taken on failure')
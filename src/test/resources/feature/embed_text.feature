@@ -0,0 +1,5 @@
+Feature: Demonstrate text attachment
+
+  Scenario: I attach a large text
+    When def text = (function(){ var lines = []; for (var i = 0; i < 500; i++) lines.push('Log line number ' + i); return lines.join('\n') })()
+    Then karate.embed(text, 'text/plain')
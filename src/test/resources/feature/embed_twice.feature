@@ -0,0 +1,6 @@
+Feature: Demonstrate repeated image attachment
+
+  Scenario: I attach the same image twice
+    When def bytes = karate.read('classpath:pug/lucky.png')
+    Then karate.embed(bytes, 'image/png')
+    And karate.embed(bytes, 'image/png')
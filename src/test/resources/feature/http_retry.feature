@@ -0,0 +1,8 @@
+Feature: verify HTTP request polling
+
+  Scenario: Verify HTTP request retry
+    * configure retry = { count: 3, interval: 10 }
+    Given url 'https://example.com'
+    And path 'api/status'
+    And retry until responseStatus == 200
+    When method get
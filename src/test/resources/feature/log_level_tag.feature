@@ -0,0 +1,11 @@
+@rp.log.level=ERROR
+Feature: the very basic test with log level override
+
+  Scenario: Verify docstring is not logged
+    Given def body =
+    """
+    {
+      username: 'user'
+    }
+    """
+    Then match body.username == 'user'